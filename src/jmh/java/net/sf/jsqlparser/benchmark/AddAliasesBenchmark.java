@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.util.AddAliasesVisitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Adding aliases to a select of many columns, every tenth of which already has an alias that the
+ * generated aliases have to skip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddAliasesBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int columns;
+
+    private PlainSelect select;
+
+    @Setup
+    public void setUp() throws Exception {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        for (int i = 0; i < columns; i++) {
+            sql.append(i == 0 ? "" : ", ").append("c").append(i);
+            if (i % 10 == 0) {
+                sql.append(" AS A").append(i + 1);
+            }
+        }
+        sql.append(" FROM t");
+        Select parsed = (Select) new CCJSqlParserManager().parse(new StringReader(sql.toString()));
+        select = (PlainSelect) parsed.getSelectBody();
+    }
+
+    /**
+     * Removes the generated aliases of the previous call, which is linear and small next to adding
+     * them again.
+     */
+    @Benchmark
+    public PlainSelect addAliases() {
+        List<SelectItem> items = select.getSelectItems();
+        for (int i = 0; i < items.size(); i++) {
+            if (i % 10 != 0) {
+                ((SelectExpressionItem) items.get(i)).setAlias(null);
+            }
+        }
+        select.accept(new AddAliasesVisitor());
+        return select;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.benchmark;
+
+/**
+ * Representative statements of each statement family used by the benchmarks.
+ */
+final class BenchmarkStatements {
+
+    static final String SELECT = "SELECT a.id, a.name, sum(b.amount) AS total "
+            + "FROM accounts a INNER JOIN bookings b ON a.id = b.account_id "
+            + "LEFT JOIN regions r ON r.id = a.region_id "
+            + "WHERE a.status = 'open' AND (b.booked BETWEEN 20180101 AND 20181231 OR b.amount > 1000) "
+            + "AND r.code IN ('EU', 'US', 'APAC') "
+            + "AND NOT EXISTS (SELECT 1 FROM blocked x WHERE x.account_id = a.id) "
+            + "GROUP BY a.id, a.name HAVING sum(b.amount) > 0 ORDER BY total DESC LIMIT 100";
+
+    static final String INSERT = "INSERT INTO bookings (id, account_id, amount, booked, note) "
+            + "VALUES (1, 42, 99.95, 20180817, 'first booking'), (2, 42, -10.5, 20180818, 'refund'), "
+            + "(3, 7, 1200, 20180819, NULL)";
+
+    static final String MERGE = "MERGE INTO accounts a "
+            + "USING (SELECT account_id, sum(amount) AS total FROM bookings GROUP BY account_id) b "
+            + "ON (a.id = b.account_id) "
+            + "WHEN MATCHED THEN UPDATE SET a.balance = b.total "
+            + "WHEN NOT MATCHED THEN INSERT (id, balance) VALUES (b.account_id, b.total)";
+
+    static final String CREATE_TABLE = "CREATE TABLE bookings (id INTEGER NOT NULL, "
+            + "account_id INTEGER NOT NULL, amount DECIMAL (10, 2) DEFAULT 0, booked DATE, "
+            + "note VARCHAR (255), PRIMARY KEY (id), "
+            + "FOREIGN KEY (account_id) REFERENCES accounts (id))";
+
+    static final String CONDITION = "NOT ((a = 1 OR b = 2) AND (c = 3 OR d = 4)) "
+            + "OR (e = 5 AND f = 6 AND (g = 7 OR h = 8 OR i = 9))";
+
+    private BenchmarkStatements() {
+    }
+
+    /**
+     * @param family one of select, insert, merge or createtable
+     */
+    static String get(String family) {
+        if ("select".equals(family)) {
+            return SELECT;
+        } else if ("insert".equals(family)) {
+            return INSERT;
+        } else if ("merge".equals(family)) {
+            return MERGE;
+        } else if ("createtable".equals(family)) {
+            return CREATE_TABLE;
+        }
+        throw new IllegalArgumentException("unknown statement family " + family);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeUnit;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.util.cnfexpression.CNFConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CNF conversion of an OR of ANDs with two terms each, whose CNF has 2^width clauses, without a
+ * limit and with a limit of 1024 clauses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CNFExplosionBenchmark {
+
+    @Param({"4", "8", "12"})
+    public int width;
+
+    private Expression condition;
+    private final CNFConverter unbounded = new CNFConverter();
+    private final CNFConverter bounded = new CNFConverter(1024);
+
+    @Setup
+    public void setUp() throws Exception {
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < width; i++) {
+            sql.append(i == 0 ? "" : " OR ").append("(a").append(i).append(" = ").append(i)
+                    .append(" AND b").append(i).append(" = ").append(i).append(")");
+        }
+        condition = CCJSqlParserUtil.parseCondExpression(sql.toString());
+    }
+
+    @Benchmark
+    public Expression convertUnbounded() {
+        return unbounded.convert(condition);
+    }
+
+    @Benchmark
+    public Expression convertBounded() {
+        return bounded.convert(condition);
+    }
+}
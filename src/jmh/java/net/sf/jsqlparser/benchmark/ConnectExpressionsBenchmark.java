@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.util.ConnectExpressionsVisitor;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Connecting the columns of a wide select with || and deparsing the result, as a left deep chain
+ * and as a balanced tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectExpressionsBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int columns;
+
+    private Select statement;
+    private PlainSelect select;
+    private List<SelectItem> items;
+
+    @Setup
+    public void setUp() throws Exception {
+        StringBuilder sql = new StringBuilder("SELECT c0");
+        for (int i = 1; i < columns; i++) {
+            sql.append(", c").append(i);
+        }
+        sql.append(" FROM t");
+        statement = (Select) new CCJSqlParserManager().parse(new StringReader(sql.toString()));
+        select = (PlainSelect) statement.getSelectBody();
+        items = new ArrayList<SelectItem>(select.getSelectItems());
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreItems() {
+        select.setSelectItems(new ArrayList<SelectItem>(items));
+    }
+
+    @Benchmark
+    public String chained() {
+        return connect(false);
+    }
+
+    @Benchmark
+    public String balanced() {
+        return connect(true);
+    }
+
+    private String connect(boolean balanced) {
+        ConnectExpressionsVisitor visitor = new ConnectExpressionsVisitor() {
+            @Override
+            protected BinaryExpression createBinaryExpression() {
+                return new Concat();
+            }
+        };
+        visitor.setBalanced(balanced);
+        select.accept(visitor);
+        StringBuilder buffer = new StringBuilder();
+        statement.accept(new StatementDeParser(buffer));
+        return buffer.toString();
+    }
+}
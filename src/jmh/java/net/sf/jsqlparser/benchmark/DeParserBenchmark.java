@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deparsing of an already parsed statement per statement family, once with a new
+ * {@link StatementDeParser} per statement and once with a reused one. Run with -prof gc to compare
+ * the bytes allocated per deparse (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeParserBenchmark {
+
+    @Param({"select", "insert", "merge", "createtable"})
+    public String family;
+
+    private Statement statement;
+
+    private StatementDeParser reused;
+
+    @Setup
+    public void setUp() throws Exception {
+        statement = CCJSqlParserUtil.parse(BenchmarkStatements.get(family));
+        reused = new StatementDeParser(new StringBuilder());
+    }
+
+    @Benchmark
+    public String deparse() {
+        StringBuilder buffer = new StringBuilder();
+        statement.accept(new StatementDeParser(buffer));
+        return buffer.toString();
+    }
+
+    @Benchmark
+    public String deparseReused() {
+        reused.reset();
+        statement.accept(reused);
+        return reused.getBuffer().toString();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of WHERE clauses with parenthesized conditions nested to the given depth, as generated
+ * by ORMs. The parse time should grow linearly with the depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xss16m")
+public class NestedConditionBenchmark {
+
+    @Param({"10", "20", "40", "80", "160"})
+    public int depth;
+
+    private String leftNested;
+    private String rightNested;
+
+    @Setup
+    public void setUp() {
+        // ((((a0 = 0) OR (a1 = 1)) AND (a2 = 2)) OR ...
+        String condition = "a0 = 0";
+        for (int i = 1; i <= depth; i++) {
+            condition = "(" + condition + ") " + (i % 2 == 0 ? "AND" : "OR") + " (a" + i + " = " + i + ")";
+        }
+        leftNested = "SELECT * FROM tab WHERE " + condition;
+
+        // (b1 = 1 AND (b2 = 2 OR (... a IN (1, 2))))
+        condition = "a IN (1, 2)";
+        for (int i = depth; i > 0; i--) {
+            condition = "(b" + i + " = " + i + (i % 2 == 0 ? " AND " : " OR ") + condition + ")";
+        }
+        rightNested = "SELECT * FROM tab WHERE " + condition;
+    }
+
+    @Benchmark
+    public Statement parseLeftNested() throws Exception {
+        return CCJSqlParserUtil.parse(leftNested);
+    }
+
+    @Benchmark
+    public Statement parseRightNested() throws Exception {
+        return CCJSqlParserUtil.parse(rightNested);
+    }
+}
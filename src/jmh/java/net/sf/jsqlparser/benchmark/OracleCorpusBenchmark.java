@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.ParserOptions;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing and deparsing of all statements of the oracle-tests corpus, which this parser accepts.
+ * One operation is a pass over the whole corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OracleCorpusBenchmark {
+
+    private final List<String> sqls = new ArrayList<String>();
+    private final List<Statement> statements = new ArrayList<Statement>();
+    private final ParserOptions withoutLineColumn = new ParserOptions();
+
+    @Setup
+    public void setUp() throws Exception {
+        withoutLineColumn.setTrackLineColumn(false);
+        File dir = new File(OracleCorpusBenchmark.class.
+                getResource("/net/sf/jsqlparser/statement/oracle-tests").toURI());
+        for (File file : dir.listFiles()) {
+            if (file.isFile()) {
+                String sql = FileUtils.readFileToString(file);
+                try {
+                    statements.add(CCJSqlParserUtil.parse(sql));
+                    sqls.add(sql);
+                } catch (JSQLParserException ex) {
+                    // not supported yet, see SpecialOracleTest
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws Exception {
+        for (String sql : sqls) {
+            blackhole.consume(CCJSqlParserUtil.parse(sql));
+        }
+    }
+
+    @Benchmark
+    public void parseWithoutLineColumn(Blackhole blackhole) throws Exception {
+        for (String sql : sqls) {
+            blackhole.consume(CCJSqlParserUtil.parse(sql, withoutLineColumn));
+        }
+    }
+
+    @Benchmark
+    public void deparse(Blackhole blackhole) {
+        for (Statement statement : statements) {
+            StringBuilder buffer = new StringBuilder();
+            statement.accept(new StatementDeParser(buffer));
+            blackhole.consume(buffer);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.sf.jsqlparser.parser.CCJSqlParser;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.ParserOptions;
+import net.sf.jsqlparser.parser.StringProvider;
+import net.sf.jsqlparser.statement.Statement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parse throughput per statement family. {@link #parse()} uses the per thread parser of
+ * {@link CCJSqlParserUtil}, {@link #parseWithNewParser()} creates a parser for every statement and
+ * {@link #parseWithoutASTNodes()} does not build the JJTree node tree, {@link #parseWithoutLineColumn()}
+ * does not maintain the line and column numbers of the tokens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"select", "insert", "merge", "createtable"})
+    public String family;
+
+    private String sql;
+    private ParserOptions withoutASTNodes;
+    private ParserOptions withoutLineColumn;
+
+    @Setup
+    public void setUp() {
+        sql = BenchmarkStatements.get(family);
+        withoutASTNodes = new ParserOptions();
+        withoutASTNodes.setTrackASTNodes(false);
+        withoutLineColumn = new ParserOptions();
+        withoutLineColumn.setTrackLineColumn(false);
+    }
+
+    @Benchmark
+    public Statement parse() throws Exception {
+        return CCJSqlParserUtil.parse(sql);
+    }
+
+    @Benchmark
+    public Statement parseWithNewParser() throws Exception {
+        return new CCJSqlParser(new StringProvider(sql)).Statement();
+    }
+
+    @Benchmark
+    public Statement parseWithoutASTNodes() throws Exception {
+        return CCJSqlParserUtil.parse(sql, withoutASTNodes);
+    }
+
+    @Benchmark
+    public Statement parseWithoutLineColumn() throws Exception {
+        return CCJSqlParserUtil.parse(sql, withoutLineColumn);
+    }
+}
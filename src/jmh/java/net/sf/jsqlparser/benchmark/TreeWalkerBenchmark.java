@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitorAdapter;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.ParserOptions;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.util.TreeWalker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Counting the columns of a generated condition with the recursive ExpressionVisitorAdapter and
+ * with the explicit stack of the TreeWalker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeWalkerBenchmark {
+
+    @Param({"10", "1000"})
+    public int terms;
+
+    private Expression condition;
+
+    @Setup
+    public void setUp() throws Exception {
+        StringBuilder sql = new StringBuilder("a0 = 0");
+        for (int i = 1; i < terms; i++) {
+            sql.append(i % 2 == 0 ? " OR " : " AND ").append("(a").append(i).append(" + 1) * 2 = ").append(i);
+        }
+        ParserOptions options = new ParserOptions();
+        options.setFlattenConditions(true);
+        condition = CCJSqlParserUtil.parseCondExpression(sql.toString(), false, options);
+    }
+
+    @Benchmark
+    public int expressionVisitorAdapter() {
+        final int[] count = new int[1];
+        condition.accept(new ExpressionVisitorAdapter() {
+            @Override
+            public void visit(Column column) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Benchmark
+    public int treeWalker() {
+        final int[] count = new int[1];
+        new TreeWalker() {
+            @Override
+            public void visit(Column column) {
+                count[0]++;
+            }
+        }.walk(condition);
+        return count[0];
+    }
+}
@@ -21,15 +21,21 @@
  */
 package net.sf.jsqlparser.expression;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
 /**
  *
  * @author toben
  */
-public class Alias {
+public class Alias extends Freezable {
 
     private String name;
     private boolean useAs = true;
 
+    private Alias() {
+    }
+
     public Alias(String name) {
         this.name = name;
     }
@@ -44,6 +50,7 @@ public class Alias {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -52,6 +59,7 @@ public class Alias {
     }
 
     public void setUseAs(boolean useAs) {
+        checkNotFrozen();
         this.useAs = useAs;
     }
 
@@ -59,4 +67,14 @@ public class Alias {
     public String toString() {
         return (useAs ? " AS " : " ") + name;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
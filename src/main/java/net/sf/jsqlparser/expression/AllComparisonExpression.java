@@ -28,6 +28,10 @@ public class AllComparisonExpression extends ASTNodeAccessImpl implements Expres
 
     private final SubSelect subSelect;
 
+    private AllComparisonExpression() {
+        this(null);
+    }
+
     public AllComparisonExpression(SubSelect subSelect) {
         this.subSelect = subSelect;
     }
@@ -59,6 +59,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         orderBy.setOrderByElements(orderByElements);
     }
 
@@ -67,6 +68,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setKeep(KeepExpression keep) {
+        checkNotFrozen();
         this.keep = keep;
     }
 
@@ -75,6 +77,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setPartitionExpressionList(ExpressionList partitionExpressionList) {
+        checkNotFrozen();
         partitionBy.setPartitionExpressionList(partitionExpressionList);
     }
 
@@ -83,6 +86,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -91,6 +95,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -99,6 +104,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setOffset(Expression offset) {
+        checkNotFrozen();
         this.offset = offset;
     }
 
@@ -107,6 +113,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setDefaultValue(Expression defaultValue) {
+        checkNotFrozen();
         this.defaultValue = defaultValue;
     }
 
@@ -115,6 +122,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setWindowElement(WindowElement windowElement) {
+        checkNotFrozen();
         orderBy.setWindowElement(windowElement);
     }
 
@@ -123,6 +131,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setType(AnalyticType type) {
+        checkNotFrozen();
         this.type = type;
     }
 
@@ -131,6 +140,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setDistinct(boolean distinct) {
+        checkNotFrozen();
         this.distinct = distinct;
     }
 
@@ -139,6 +149,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setIgnoreNulls(boolean ignoreNulls) {
+        checkNotFrozen();
         this.ignoreNulls = ignoreNulls;
     }
 
@@ -191,6 +202,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setAllColumns(boolean allColumns) {
+        checkNotFrozen();
         this.allColumns = allColumns;
     }
 
@@ -34,6 +34,10 @@ public class AnyComparisonExpression extends ASTNodeAccessImpl implements Expres
     private final SubSelect subSelect;
     private final AnyType anyType;
 
+    private AnyComparisonExpression() {
+        this(null, null);
+    }
+
     public AnyComparisonExpression(AnyType anyType, SubSelect subSelect) {
         this.anyType = anyType;
         this.subSelect = subSelect;
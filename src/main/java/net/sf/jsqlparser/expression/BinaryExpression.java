@@ -47,18 +47,22 @@ public abstract class BinaryExpression extends ASTNodeAccessImpl implements Expr
     }
 
     public void setLeftExpression(Expression expression) {
+        checkNotFrozen();
         leftExpression = expression;
     }
 
     public void setRightExpression(Expression expression) {
+        checkNotFrozen();
         rightExpression = expression;
     }
 
     public void setNot() {
+        checkNotFrozen();
         not = true;
     }
     
     public void removeNot() {
+        checkNotFrozen();
         not = false;
     }
  
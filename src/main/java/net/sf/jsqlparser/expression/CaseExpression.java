@@ -79,6 +79,7 @@ public class CaseExpression extends ASTNodeAccessImpl implements Expression {
      * @param switchExpression The switchExpression to set.
      */
     public void setSwitchExpression(Expression switchExpression) {
+        checkNotFrozen();
         this.switchExpression = switchExpression;
     }
 
@@ -93,6 +94,7 @@ public class CaseExpression extends ASTNodeAccessImpl implements Expression {
      * @param elseExpression The elseExpression to set.
      */
     public void setElseExpression(Expression elseExpression) {
+        checkNotFrozen();
         this.elseExpression = elseExpression;
     }
 
@@ -107,6 +109,7 @@ public class CaseExpression extends ASTNodeAccessImpl implements Expression {
      * @param whenClauses The whenClauses to set.
      */
     public void setWhenClauses(List<WhenClause> whenClauses) {
+        checkNotFrozen();
         this.whenClauses = whenClauses;
     }
 
@@ -39,6 +39,7 @@ public class CastExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setType(ColDataType type) {
+        checkNotFrozen();
         this.type = type;
     }
 
@@ -47,6 +48,7 @@ public class CastExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setLeftExpression(Expression expression) {
+        checkNotFrozen();
         leftExpression = expression;
     }
 
@@ -60,6 +62,7 @@ public class CastExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setUseCastKeyword(boolean useCastKeyword) {
+        checkNotFrozen();
         this.useCastKeyword = useCastKeyword;
     }
 
@@ -55,6 +55,7 @@ public class DateTimeLiteralExpression extends ASTNodeAccessImpl implements Expr
     }
 
     public void setValue(String value) {
+        checkNotFrozen();
         this.value = value;
     }
 
@@ -63,6 +64,7 @@ public class DateTimeLiteralExpression extends ASTNodeAccessImpl implements Expr
     }
 
     public void setType(DateTime type) {
+        checkNotFrozen();
         this.type = type;
     }
 
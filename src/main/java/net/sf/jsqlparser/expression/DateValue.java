@@ -32,6 +32,9 @@ public class DateValue extends ASTNodeAccessImpl implements Expression {
 
     private Date value;
 
+    private DateValue() {
+    }
+
     public DateValue(String value) {
         this.value = Date.valueOf(value.substring(1, value.length() - 1));
     }
@@ -46,6 +49,7 @@ public class DateValue extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setValue(Date d) {
+        checkNotFrozen();
         value = d;
     }
 
@@ -31,6 +31,9 @@ public class DoubleValue extends ASTNodeAccessImpl implements Expression {
     private double value;
     private String stringValue;
 
+    private DoubleValue() {
+    }
+
     public DoubleValue(final String value) {
         String val = value;
         if (val.charAt(0) == '+') {
@@ -50,6 +53,7 @@ public class DoubleValue extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setValue(double d) {
+        checkNotFrozen();
         value = d;
     }
 
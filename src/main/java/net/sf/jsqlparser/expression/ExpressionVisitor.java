@@ -51,6 +51,8 @@ import net.sf.jsqlparser.expression.operators.relational.RegExpMySQLOperator;
 import net.sf.jsqlparser.expression.operators.relational.JsonOperator;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
 
 public interface ExpressionVisitor {
 
@@ -96,6 +98,10 @@ public interface ExpressionVisitor {
 
     void visit(OrExpression orExpression);
 
+    void visit(MultiAndExpression andExpression);
+
+    void visit(MultiOrExpression orExpression);
+
     void visit(Between between);
 
     void visit(EqualsTo equalsTo);
@@ -40,6 +40,9 @@ import net.sf.jsqlparser.statement.select.SelectItemVisitor;
 import net.sf.jsqlparser.statement.select.SelectVisitor;
 import net.sf.jsqlparser.statement.select.SubSelect;
 import net.sf.jsqlparser.statement.select.WithItem;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultipleExpression;
 
 public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVisitor, PivotVisitor, SelectItemVisitor {
 
@@ -148,6 +151,16 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
         visitBinaryExpression(expr);
     }
 
+    @Override
+    public void visit(MultiAndExpression expr) {
+        visitMultipleExpression(expr);
+    }
+
+    @Override
+    public void visit(MultiOrExpression expr) {
+        visitMultipleExpression(expr);
+    }
+
     @Override
     public void visit(Between expr) {
         expr.getLeftExpression().accept(this);
@@ -373,6 +386,12 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
         expr.getRightExpression().accept(this);
     }
 
+    protected void visitMultipleExpression(MultipleExpression expr) {
+        for (Expression child : expr.getList()) {
+            child.accept(this);
+        }
+    }
+
     @Override
     public void visit(JsonExpression jsonExpr) {
         visit(jsonExpr.getColumn());
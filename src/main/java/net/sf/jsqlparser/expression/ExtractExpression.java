@@ -44,6 +44,7 @@ public class ExtractExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -52,6 +53,7 @@ public class ExtractExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -52,6 +52,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setName(String string) {
+        checkNotFrozen();
         name = string;
     }
 
@@ -65,6 +66,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setAllColumns(boolean b) {
+        checkNotFrozen();
         allColumns = b;
     }
 
@@ -78,6 +80,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setDistinct(boolean b) {
+        checkNotFrozen();
         distinct = b;
     }
 
@@ -92,6 +95,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setParameters(ExpressionList list) {
+        checkNotFrozen();
         parameters = list;
     }
 
@@ -105,6 +109,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setEscaped(boolean isEscaped) {
+        checkNotFrozen();
         this.isEscaped = isEscaped;
     }
 
@@ -113,6 +118,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setAttribute(String attribute) {
+        checkNotFrozen();
         this.attribute = attribute;
     }
 
@@ -121,6 +127,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setKeep(KeepExpression keep) {
+        checkNotFrozen();
         this.keep = keep;
     }
 
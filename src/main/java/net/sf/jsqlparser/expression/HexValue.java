@@ -30,6 +30,9 @@ public class HexValue extends ASTNodeAccessImpl implements Expression {
 
     private String stringValue;
 
+    private HexValue() {
+    }
+
     public HexValue(final String value) {
         String val = value;
         this.stringValue = val;
@@ -45,6 +48,7 @@ public class HexValue extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setValue(String d) {
+        checkNotFrozen();
         stringValue = d;
     }
 
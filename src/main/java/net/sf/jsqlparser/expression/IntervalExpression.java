@@ -37,6 +37,7 @@ public class IntervalExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setParameter(String parameter) {
+        checkNotFrozen();
         this.parameter = parameter;
     }
 
@@ -45,6 +46,7 @@ public class IntervalExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setIntervalType(String intervalType) {
+        checkNotFrozen();
         this.intervalType = intervalType;
     }
 
@@ -43,6 +43,7 @@ public class JdbcNamedParameter extends ASTNodeAccessImpl implements Expression
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -44,6 +44,7 @@ public class JdbcParameter extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setIndex(Integer index) {
+        checkNotFrozen();
         this.index = index;
     }
 
@@ -52,6 +53,7 @@ public class JdbcParameter extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setUseFixedIndex(boolean useFixedIndex) {
+        checkNotFrozen();
         this.useFixedIndex = useFixedIndex;
     }
 
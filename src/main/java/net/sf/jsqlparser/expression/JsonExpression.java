@@ -48,6 +48,7 @@ public class JsonExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setColumn(Column column) {
+        checkNotFrozen();
         this.column = column;
     }
 
@@ -67,6 +68,7 @@ public class JsonExpression extends ASTNodeAccessImpl implements Expression {
 //        addIdent(ident, "->");
 //    }
     public void addIdent(String ident, String operator) {
+        checkNotFrozen();
         idents.add(ident);
         operators.add(operator);
     }
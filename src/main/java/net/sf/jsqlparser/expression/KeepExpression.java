@@ -50,6 +50,7 @@ public class KeepExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -58,6 +59,7 @@ public class KeepExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -66,6 +68,7 @@ public class KeepExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setFirst(boolean first) {
+        checkNotFrozen();
         this.first = first;
     }
 
@@ -32,6 +32,9 @@ public class LongValue extends ASTNodeAccessImpl implements Expression {
 
     private String stringValue;
 
+    private LongValue() {
+    }
+
     public LongValue(final String value) {
         String val = value;
         if (val.charAt(0) == '+') {
@@ -58,6 +61,7 @@ public class LongValue extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setValue(long d) {
+        checkNotFrozen();
         stringValue = String.valueOf(d);
     }
 
@@ -66,6 +70,7 @@ public class LongValue extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setStringValue(String string) {
+        checkNotFrozen();
         stringValue = string;
     }
 
@@ -61,6 +61,7 @@ public class MySQLGroupConcat extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setExpressionList(ExpressionList expressionList) {
+        checkNotFrozen();
         this.expressionList = expressionList;
     }
 
@@ -69,6 +70,7 @@ public class MySQLGroupConcat extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setDistinct(boolean distinct) {
+        checkNotFrozen();
         this.distinct = distinct;
     }
 
@@ -77,6 +79,7 @@ public class MySQLGroupConcat extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -85,6 +88,7 @@ public class MySQLGroupConcat extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setSeparator(String separator) {
+        checkNotFrozen();
         this.separator = separator;
     }
 
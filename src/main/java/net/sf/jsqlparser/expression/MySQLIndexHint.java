@@ -22,13 +22,19 @@
 package net.sf.jsqlparser.expression;
 
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
-public class MySQLIndexHint  {
+public class MySQLIndexHint extends Freezable {
 
     private final String action;
     private final String indexQualifier;
     private final List<String> indexNames;
 
+    private MySQLIndexHint() {
+        this(null, null, null);
+    }
+
     public MySQLIndexHint(String action, String indexQualifier, List<String> indexNames) {
         this.action = action;
         this.indexQualifier = indexQualifier;
@@ -49,4 +55,14 @@ public class MySQLIndexHint  {
         buffer.append(")");
         return buffer.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -30,6 +30,9 @@ public class NotExpression extends ASTNodeAccessImpl implements Expression {
 
     private Expression expression;
 
+    private NotExpression() {
+    }
+
     public NotExpression(Expression expression) {
         setExpression(expression);
     }
@@ -39,6 +42,7 @@ public class NotExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public final void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
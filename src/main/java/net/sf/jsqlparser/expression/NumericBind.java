@@ -36,6 +36,7 @@ public class NumericBind extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setBindId(int bindId) {
+        checkNotFrozen();
         this.bindId = bindId;
     }
 
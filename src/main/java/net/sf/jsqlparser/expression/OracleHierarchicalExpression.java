@@ -39,6 +39,7 @@ public class OracleHierarchicalExpression extends ASTNodeAccessImpl implements E
     }
 
     public void setStartExpression(Expression startExpression) {
+        checkNotFrozen();
         this.startExpression = startExpression;
     }
 
@@ -47,6 +48,7 @@ public class OracleHierarchicalExpression extends ASTNodeAccessImpl implements E
     }
 
     public void setConnectExpression(Expression connectExpression) {
+        checkNotFrozen();
         this.connectExpression = connectExpression;
     }
 
@@ -55,6 +57,7 @@ public class OracleHierarchicalExpression extends ASTNodeAccessImpl implements E
     }
 
     public void setNoCycle(boolean noCycle) {
+        checkNotFrozen();
         this.noCycle = noCycle;
     }
 
@@ -63,6 +66,7 @@ public class OracleHierarchicalExpression extends ASTNodeAccessImpl implements E
     }
 
     public void setConnectFirst(boolean connectFirst) {
+        checkNotFrozen();
         this.connectFirst = connectFirst;
     }
 
@@ -46,6 +46,7 @@ public class OracleHint extends ASTNodeAccessImpl implements Expression {
     }
 
     public final void setComment(String comment) {
+        checkNotFrozen();
         Matcher m;
         m = SINGLE_LINE.matcher(comment);
         if (m.find()) {
@@ -65,6 +66,7 @@ public class OracleHint extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setValue(String value) {
+        checkNotFrozen();
         this.value = value;
     }
 
@@ -73,6 +75,7 @@ public class OracleHint extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setSingleLine(boolean singleLine) {
+        checkNotFrozen();
         this.singleLine = singleLine;
     }
 
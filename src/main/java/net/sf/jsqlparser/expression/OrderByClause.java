@@ -21,11 +21,13 @@
  */
 package net.sf.jsqlparser.expression;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.statement.select.OrderByElement;
 
 import java.util.List;
 
-public class OrderByClause {
+public class OrderByClause extends Freezable {
     private List<OrderByElement> orderByElements;
     private WindowElement windowElement;
 
@@ -34,6 +36,7 @@ public class OrderByClause {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -42,6 +45,7 @@ public class OrderByClause {
     }
 
     public void setWindowElement(WindowElement windowElement) {
+        checkNotFrozen();
         this.windowElement = windowElement;
     }
 
@@ -61,4 +65,14 @@ public class OrderByClause {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
+}
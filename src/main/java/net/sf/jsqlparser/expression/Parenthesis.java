@@ -44,6 +44,7 @@ public class Parenthesis extends ASTNodeAccessImpl implements Expression {
     }
 
     public final void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -53,6 +54,7 @@ public class Parenthesis extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setNot() {
+        checkNotFrozen();
         not = true;
     }
 
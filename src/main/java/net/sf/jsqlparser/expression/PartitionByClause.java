@@ -22,9 +22,11 @@
 package net.sf.jsqlparser.expression;
 
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
-public class PartitionByClause {
+public class PartitionByClause extends Freezable {
     ExpressionList partitionExpressionList;
 
     public ExpressionList getPartitionExpressionList() {
@@ -32,6 +34,7 @@ public class PartitionByClause {
     }
 
     public void setPartitionExpressionList(ExpressionList partitionExpressionList) {
+        checkNotFrozen();
         this.partitionExpressionList = partitionExpressionList;
     }
 
@@ -43,4 +46,14 @@ public class PartitionByClause {
             b.append(" ");
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
+}
@@ -42,6 +42,7 @@ public class RowConstructor extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setExprList(ExpressionList exprList) {
+        checkNotFrozen();
         this.exprList = exprList;
     }
 
@@ -50,6 +51,7 @@ public class RowConstructor extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -31,6 +31,9 @@ public class SignedExpression extends ASTNodeAccessImpl implements Expression {
     private char sign;
     private Expression expression;
 
+    private SignedExpression() {
+    }
+
     public SignedExpression(char sign, Expression expression) {
         setSign(sign);
         setExpression(expression);
@@ -41,6 +44,7 @@ public class SignedExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public final void setSign(char sign) {
+        checkNotFrozen();
         this.sign = sign;
         if (sign != '+' && sign != '-' && sign != '~') {
             throw new IllegalArgumentException("illegal sign character, only + - ~ allowed");
@@ -52,6 +56,7 @@ public class SignedExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public final void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -43,6 +43,9 @@ public final class StringValue extends ASTNodeAccessImpl implements Expression {
      */
     public static final List<String> ALLOWED_PREFIXES = Arrays.asList("N", "U", "E", "R", "B", "RB");
 
+    private StringValue() {
+    }
+
     public StringValue(String escapedValue) {
         // romoving "'" at the start and at the end
         if (escapedValue.startsWith("'") && escapedValue.endsWith("'")) {
@@ -84,10 +87,12 @@ public final class StringValue extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setValue(String string) {
+        checkNotFrozen();
         value = string;
     }
 
     public void setPrefix(String prefix) {
+        checkNotFrozen();
         this.prefix = prefix;
     }
 
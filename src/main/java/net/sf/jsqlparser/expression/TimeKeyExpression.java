@@ -27,6 +27,9 @@ public class TimeKeyExpression extends ASTNodeAccessImpl implements Expression {
 
     private String stringValue;
 
+    private TimeKeyExpression() {
+    }
+
     public TimeKeyExpression(final String value) {
         this.stringValue = value;
     }
@@ -41,6 +44,7 @@ public class TimeKeyExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setStringValue(String string) {
+        checkNotFrozen();
         stringValue = string;
     }
 
@@ -32,6 +32,9 @@ public class TimeValue extends ASTNodeAccessImpl implements Expression {
 
     private Time value;
 
+    private TimeValue() {
+    }
+
     public TimeValue(String value) {
         this.value = Time.valueOf(value.substring(1, value.length() - 1));
     }
@@ -46,6 +49,7 @@ public class TimeValue extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setValue(Time d) {
+        checkNotFrozen();
         value = d;
     }
 
@@ -32,6 +32,9 @@ public class TimestampValue extends ASTNodeAccessImpl implements Expression {
 
     private Timestamp value;
     private char quotation = '\'';
+    private TimestampValue() {
+    }
+
     public TimestampValue(String value) {
         if (value == null) {
             throw new java.lang.IllegalArgumentException("null string");
@@ -54,6 +57,7 @@ public class TimestampValue extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setValue(Timestamp d) {
+        checkNotFrozen();
         value = d;
     }
 
@@ -43,6 +43,7 @@ public class UserVariable extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -56,6 +57,7 @@ public class UserVariable extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setDoubleAdd(boolean doubleAdd) {
+        checkNotFrozen();
         this.doubleAdd = doubleAdd;
     }
 
@@ -44,6 +44,7 @@ public class ValueListExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setExpressionList(ExpressionList expressionList) {
+        checkNotFrozen();
         this.expressionList = expressionList;
     }
 
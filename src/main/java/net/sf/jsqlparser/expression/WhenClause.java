@@ -49,6 +49,7 @@ public class WhenClause extends ASTNodeAccessImpl implements Expression {
      * @param thenExpression The thenExpression to set.
      */
     public void setThenExpression(Expression thenExpression) {
+        checkNotFrozen();
         this.thenExpression = thenExpression;
     }
 
@@ -63,6 +64,7 @@ public class WhenClause extends ASTNodeAccessImpl implements Expression {
      * @param whenExpression The whenExpression to set.
      */
     public void setWhenExpression(Expression whenExpression) {
+        checkNotFrozen();
         this.whenExpression = whenExpression;
     }
 
@@ -21,7 +21,10 @@
  */
 package net.sf.jsqlparser.expression;
 
-public class WindowElement {
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
+public class WindowElement extends Freezable {
 
     public enum Type {
 
@@ -38,6 +41,7 @@ public class WindowElement {
     }
 
     public void setType(Type type) {
+        checkNotFrozen();
         this.type = type;
     }
 
@@ -46,6 +50,7 @@ public class WindowElement {
     }
 
     public void setOffset(WindowOffset offset) {
+        checkNotFrozen();
         this.offset = offset;
     }
 
@@ -54,6 +59,7 @@ public class WindowElement {
     }
 
     public void setRange(WindowRange range) {
+        checkNotFrozen();
         this.range = range;
     }
 
@@ -69,4 +75,14 @@ public class WindowElement {
 
         return buffer.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
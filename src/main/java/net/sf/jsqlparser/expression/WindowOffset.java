@@ -21,7 +21,10 @@
  */
 package net.sf.jsqlparser.expression;
 
-public class WindowOffset {
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
+public class WindowOffset extends Freezable {
 
     public enum Type {
 
@@ -39,6 +42,7 @@ public class WindowOffset {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -47,6 +51,7 @@ public class WindowOffset {
     }
 
     public void setType(Type type) {
+        checkNotFrozen();
         this.type = type;
     }
 
@@ -76,4 +81,14 @@ public class WindowOffset {
         }
         return buffer.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -21,7 +21,10 @@
  */
 package net.sf.jsqlparser.expression;
 
-public class WindowRange {
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
+public class WindowRange extends Freezable {
 
     private WindowOffset start;
     private WindowOffset end;
@@ -31,6 +34,7 @@ public class WindowRange {
     }
 
     public void setEnd(WindowOffset end) {
+        checkNotFrozen();
         this.end = end;
     }
 
@@ -39,6 +43,7 @@ public class WindowRange {
     }
 
     public void setStart(WindowOffset start) {
+        checkNotFrozen();
         this.start = start;
     }
 
@@ -51,4 +56,14 @@ public class WindowRange {
         buffer.append(end);
         return buffer.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
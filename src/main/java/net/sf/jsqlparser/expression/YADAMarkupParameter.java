@@ -21,10 +21,13 @@
  */
 package net.sf.jsqlparser.expression;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
 /**
  * A YADA markup parameter, i.e., qualified JDBC parameter, in a statement, e.g., '?v','?i','?n','?d','?t'
  */
-public class YADAMarkupParameter implements Expression {
+public class YADAMarkupParameter extends Freezable implements Expression {
 
     private String type;
 
@@ -33,6 +36,7 @@ public class YADAMarkupParameter implements Expression {
     }
 
     public void setType(String type) {
+        checkNotFrozen();
         this.type = type;
     }
 
@@ -45,4 +49,14 @@ public class YADAMarkupParameter implements Expression {
     public String toString() {
         return "?" + (type == null ? "" : type);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -52,18 +52,22 @@ public class Between extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setBetweenExpressionEnd(Expression expression) {
+        checkNotFrozen();
         betweenExpressionEnd = expression;
     }
 
     public void setBetweenExpressionStart(Expression expression) {
+        checkNotFrozen();
         betweenExpressionStart = expression;
     }
 
     public void setLeftExpression(Expression expression) {
+        checkNotFrozen();
         leftExpression = expression;
     }
 
     public void setNot(boolean b) {
+        checkNotFrozen();
         not = b;
     }
 
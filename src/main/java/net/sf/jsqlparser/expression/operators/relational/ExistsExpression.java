@@ -35,6 +35,7 @@ public class ExistsExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setRightExpression(Expression expression) {
+        checkNotFrozen();
         rightExpression = expression;
     }
 
@@ -43,6 +44,7 @@ public class ExistsExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setNot(boolean b) {
+        checkNotFrozen();
         not = b;
     }
 
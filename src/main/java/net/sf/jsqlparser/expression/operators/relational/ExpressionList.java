@@ -25,12 +25,14 @@ import java.util.Arrays;
 import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
 /**
  * A list of expressions, as in SELECT A FROM TAB WHERE B IN (expr1,expr2,expr3)
  */
-public class ExpressionList implements ItemsList {
+public class ExpressionList extends Freezable implements ItemsList {
 
     private List<Expression> expressions;
 
@@ -50,6 +52,7 @@ public class ExpressionList implements ItemsList {
     }
 
     public void setExpressions(List<Expression> list) {
+        checkNotFrozen();
         expressions = list;
     }
 
@@ -62,4 +65,14 @@ public class ExpressionList implements ItemsList {
     public String toString() {
         return PlainSelect.getStringList(expressions, true, true);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -44,6 +44,7 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
 
     @Override
     public void setOldOracleJoinSyntax(int oldOracleJoinSyntax) {
+        checkNotFrozen();
         this.oldOracleJoinSyntax = oldOracleJoinSyntax;
         if (oldOracleJoinSyntax < 0 || oldOracleJoinSyntax > 1) {
             throw new IllegalArgumentException("unexpected join type for oracle found with IN (type=" + oldOracleJoinSyntax + ")");
@@ -64,10 +65,12 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
     }
 
     public final void setRightItemsList(ItemsList list) {
+        checkNotFrozen();
         rightItemsList = list;
     }
 
     public final void setLeftExpression(Expression expression) {
+        checkNotFrozen();
         leftExpression = expression;
     }
 
@@ -76,6 +79,7 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
     }
 
     public void setNot(boolean b) {
+        checkNotFrozen();
         not = b;
     }
 
@@ -84,6 +88,7 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
     }
 
     public void setLeftItemsList(ItemsList leftItemsList) {
+        checkNotFrozen();
         this.leftItemsList = leftItemsList;
     }
 
@@ -108,6 +113,7 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
 
     @Override
     public void setOraclePriorPosition(int priorPosition) {
+        checkNotFrozen();
         if (priorPosition != SupportsOldOracleJoinSyntax.NO_ORACLE_PRIOR) {
             throw new IllegalArgumentException("unexpected prior for oracle found");
         }
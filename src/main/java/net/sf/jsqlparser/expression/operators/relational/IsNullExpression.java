@@ -40,10 +40,12 @@ public class IsNullExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setLeftExpression(Expression expression) {
+        checkNotFrozen();
         leftExpression = expression;
     }
 
     public void setNot(boolean b) {
+        checkNotFrozen();
         not = b;
     }
 
@@ -52,6 +54,7 @@ public class IsNullExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setUseIsNull(boolean useIsNull) {
+        checkNotFrozen();
         this.useIsNull = useIsNull;
     }
 
@@ -28,6 +28,9 @@ public class JsonOperator extends BinaryExpression {
 
     private String op; //"@>"
 
+    private JsonOperator() {
+    }
+
     public JsonOperator(String op) {
         this.op = op;
     }
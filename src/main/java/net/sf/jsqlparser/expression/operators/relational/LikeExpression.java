@@ -46,7 +46,7 @@ public class LikeExpression extends BinaryExpression {
 
     @Override
     public String getStringExpression() {
-        return (isNot() ? "NOT " : "") + (caseInsensitive ? "ILIKE" : "LIKE");
+        return caseInsensitive ? "ILIKE" : "LIKE";
     }
 
     @Override
@@ -64,6 +64,7 @@ public class LikeExpression extends BinaryExpression {
     }
 
     public void setEscape(String escape) {
+        checkNotFrozen();
         this.escape = escape;
     }
 
@@ -72,6 +73,7 @@ public class LikeExpression extends BinaryExpression {
     }
 
     public void setCaseInsensitive(boolean caseInsensitive) {
+        checkNotFrozen();
         this.caseInsensitive = caseInsensitive;
     }
 }
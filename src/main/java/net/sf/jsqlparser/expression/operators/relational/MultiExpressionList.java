@@ -26,6 +26,8 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * A list of ExpressionList items. e.g. multi values of insert statements. This one allows only
@@ -33,7 +35,7 @@ import net.sf.jsqlparser.expression.Expression;
  *
  * @author toben
  */
-public class MultiExpressionList implements ItemsList {
+public class MultiExpressionList extends Freezable implements ItemsList {
 
     private List<ExpressionList> exprList;
 
@@ -51,6 +53,7 @@ public class MultiExpressionList implements ItemsList {
     }
 
     public void addExpressionList(ExpressionList el) {
+        checkNotFrozen();
         if (!exprList.isEmpty()
                 && exprList.get(0).getExpressions().size() != el.getExpressions().size()) {
             throw new IllegalArgumentException("different count of parameters");
@@ -59,10 +62,12 @@ public class MultiExpressionList implements ItemsList {
     }
 
     public void addExpressionList(List<Expression> list) {
+        checkNotFrozen();
         addExpressionList(new ExpressionList(list));
     }
 
     public void addExpressionList(Expression expr) {
+        checkNotFrozen();
         addExpressionList(new ExpressionList(Arrays.asList(expr)));
     }
 
@@ -77,4 +82,14 @@ public class MultiExpressionList implements ItemsList {
         }
         return b.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -32,6 +32,7 @@ public abstract class OldOracleJoinBinaryExpression extends BinaryExpression imp
 
     @Override
     public void setOldOracleJoinSyntax(int oldOracleJoinSyntax) {
+        checkNotFrozen();
         this.oldOracleJoinSyntax = oldOracleJoinSyntax;
         if (oldOracleJoinSyntax < 0 || oldOracleJoinSyntax > 2) {
             throw new IllegalArgumentException("unknown join type for oracle found (type=" + oldOracleJoinSyntax + ")");
@@ -62,6 +63,7 @@ public abstract class OldOracleJoinBinaryExpression extends BinaryExpression imp
 
     @Override
     public void setOraclePriorPosition(int oraclePriorPosition) {
+        checkNotFrozen();
         this.oraclePriorPosition = oraclePriorPosition;
     }
 }
@@ -28,6 +28,9 @@ public class RegExpMatchOperator extends BinaryExpression {
 
     private RegExpMatchOperatorType operatorType;
 
+    private RegExpMatchOperator() {
+    }
+
     public RegExpMatchOperator(RegExpMatchOperatorType operatorType) {
         if (operatorType == null) {
             throw new NullPointerException();
@@ -29,6 +29,9 @@ public class RegExpMySQLOperator extends BinaryExpression {
     private RegExpMatchOperatorType operatorType;
     private boolean useRLike = false;
 
+    private RegExpMySQLOperator() {
+    }
+
     public RegExpMySQLOperator(RegExpMatchOperatorType operatorType) {
         if (operatorType == null) {
             throw new NullPointerException();
@@ -45,6 +48,7 @@ public class RegExpMySQLOperator extends BinaryExpression {
     }
 
     public RegExpMySQLOperator useRLike() {
+        checkNotFrozen();
         useRLike = true;
         return this;
     }
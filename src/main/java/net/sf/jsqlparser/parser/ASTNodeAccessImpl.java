@@ -22,10 +22,12 @@
 package net.sf.jsqlparser.parser;
 
 /**
+ * Base of the parsed objects linked to a JJTree node. Equality and hash code are structural, see
+ * {@link StructuralEquality}, and the object can be frozen, see {@link Freezable}.
  *
  * @author toben
  */
-public class ASTNodeAccessImpl implements ASTNodeAccess {
+public class ASTNodeAccessImpl extends Freezable implements ASTNodeAccess {
 
     private SimpleNode node;
 
@@ -36,7 +38,18 @@ public class ASTNodeAccessImpl implements ASTNodeAccess {
 
     @Override
     public void setASTNode(SimpleNode node) {
+        checkNotFrozen();
         this.node = node;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
+
 }
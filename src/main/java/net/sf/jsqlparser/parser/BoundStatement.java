@@ -0,0 +1,115 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.List;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.ValueListExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * A statement template together with the literal values of one concrete statement. The template
+ * contains a {@link JdbcParameter} for every replaced literal, numbered in order of appearance.
+ *
+ * @see StatementTemplateCache
+ */
+public final class BoundStatement {
+
+    private final StatementFingerprint fingerprint;
+    private final Statement template;
+
+    BoundStatement(StatementFingerprint fingerprint, Statement template) {
+        this.fingerprint = fingerprint;
+        this.template = template;
+    }
+
+    public StatementFingerprint getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * The parsed template. It is shared by all statements with the same fingerprint and therefore
+     * {@link Freezable#freeze(Object) frozen}.
+     */
+    public Statement getTemplate() {
+        return template;
+    }
+
+    /**
+     * The literal values of this statement, the value of the template parameter with index n is at
+     * position n - 1.
+     */
+    public List<Expression> getParameters() {
+        return fingerprint.getParameters();
+    }
+
+    /**
+     * Get the literal value bound to a parameter of the template. The parameter of a collapsed IN
+     * list is bound to a {@link ValueListExpression} with the values of the list.
+     *
+     * @return the literal or null if the parameter was not created from a literal
+     */
+    public Expression getParameter(JdbcParameter parameter) {
+        List<Expression> parameters = fingerprint.getParameters();
+        Integer index = parameter.getIndex();
+        if (index == null || index < 1 || index > parameters.size()) {
+            return null;
+        }
+        return parameters.get(index - 1);
+    }
+
+    /**
+     * Create a statement of its own with the literal values in place of the template parameters.
+     * The template is deep copied, so the result can be modified freely.
+     *
+     * @see DeepCopy
+     */
+    public Statement bind() {
+        return new DeepCopy() {
+            @Override
+            protected Object substitute(Object node) {
+                if (node instanceof ExpressionList) {
+                    // IN ( ? ) of a collapsed list gets all values of the list
+                    List<Expression> expressions = ((ExpressionList) node).getExpressions();
+                    if (expressions != null && expressions.size() == 1
+                            && expressions.get(0) instanceof JdbcParameter) {
+                        Expression value = getParameter((JdbcParameter) expressions.get(0));
+                        if (value instanceof ValueListExpression) {
+                            return copy(((ValueListExpression) value).getExpressionList());
+                        }
+                    }
+                } else if (node instanceof JdbcParameter) {
+                    Expression literal = getParameter((JdbcParameter) node);
+                    return literal == null ? null : copy(literal);
+                }
+                return null;
+            }
+        }.copy(template);
+    }
+
+    @Override
+    public String toString() {
+        return fingerprint.getText() + " " + fingerprint.getParameters();
+    }
+}
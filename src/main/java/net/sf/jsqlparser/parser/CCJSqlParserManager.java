@@ -33,11 +33,6 @@ public class CCJSqlParserManager implements JSqlParser {
 
     @Override
     public Statement parse(Reader statementReader) throws JSQLParserException {
-        CCJSqlParser parser = new CCJSqlParser(new StreamProvider(statementReader));
-        try {
-            return parser.Statement();
-        } catch (Exception ex) {
-            throw new JSQLParserException(ex);
-        }
+        return CCJSqlParserUtil.parse(statementReader);
     }
 }
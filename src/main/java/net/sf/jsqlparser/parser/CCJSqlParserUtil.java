@@ -35,53 +35,127 @@ import net.sf.jsqlparser.statement.Statements;
  */
 public final class CCJSqlParserUtil {
 
+    /**
+     * One parser per thread, reinitialised for every parse instead of building a new parser, token
+     * manager and char stream each time. A parser is taken out of the slot while it is in use, so a
+     * parse started from within another parse on the same thread simply gets its own instance.
+     */
+    private static final ThreadLocal<CCJSqlParser> PARSERS = new ThreadLocal<CCJSqlParser>();
+    private static final ParserOptions DEFAULT_OPTIONS = new ParserOptions();
+
     private CCJSqlParserUtil() {
     }
 
+    /**
+     * Get a parser for the given input. The parser has to be handed back using
+     * {@link #releaseParser(CCJSqlParser)} once the parse is finished.
+     */
+    static CCJSqlParser acquireParser(Provider provider) {
+        return acquireParser(provider, DEFAULT_OPTIONS);
+    }
+
+    static CCJSqlParser acquireParser(Provider provider, ParserOptions options) {
+        CCJSqlParser parser = PARSERS.get();
+        if (parser == null) {
+            parser = new CCJSqlParser(provider);
+        } else {
+            PARSERS.remove();
+            parser.reset(provider);
+        }
+        options.configure(parser);
+        return parser;
+    }
+
+    static void releaseParser(CCJSqlParser parser) {
+        parser.release();
+        PARSERS.set(parser);
+    }
+
+    /**
+     * Wrap an exception thrown by the parser, a parse stopped by one of the limits of
+     * {@link ParserOptions} is reported as {@link ParseLimitException}.
+     */
+    static JSQLParserException toParserException(Exception ex) {
+        if (ex instanceof ParseLimitSignal) {
+            return ((ParseLimitSignal) ex).getException();
+        }
+        return new JSQLParserException(ex);
+    }
+
     public static Statement parse(Reader statementReader) throws JSQLParserException {
-        CCJSqlParser parser = new CCJSqlParser(new StreamProvider(statementReader));
+        return parse(statementReader, DEFAULT_OPTIONS);
+    }
+
+    public static Statement parse(Reader statementReader, ParserOptions options) throws JSQLParserException {
+        CCJSqlParser parser = acquireParser(new StreamProvider(statementReader), options);
         try {
             return parser.Statement();
         } catch (Exception ex) {
-            throw new JSQLParserException(ex);
+            throw toParserException(ex);
+        } finally {
+            releaseParser(parser);
         }
     }
 
     public static Statement parse(String sql) throws JSQLParserException {
-        CCJSqlParser parser = new CCJSqlParser(new StringProvider(sql));
+        return parse(sql, DEFAULT_OPTIONS);
+    }
+
+    public static Statement parse(String sql, ParserOptions options) throws JSQLParserException {
+        CCJSqlParser parser = acquireParser(new StringProvider(sql), options);
         try {
             return parser.Statement();
         } catch (Exception ex) {
-            throw new JSQLParserException(ex);
+            throw toParserException(ex);
+        } finally {
+            releaseParser(parser);
         }
     }
 
     public static Node parseAST(String sql) throws JSQLParserException {
-        CCJSqlParser parser = new CCJSqlParser(new StringProvider(sql));
+        CCJSqlParser parser = acquireParser(new StringProvider(sql));
         try {
             parser.Statement();
             return parser.jjtree.rootNode();
         } catch (Exception ex) {
-            throw new JSQLParserException(ex);
+            throw toParserException(ex);
+        } finally {
+            releaseParser(parser);
         }
     }
 
     public static Statement parse(InputStream is) throws JSQLParserException {
+        StreamProvider provider;
         try {
-            CCJSqlParser parser = new CCJSqlParser(new StreamProvider(is));
-            return parser.Statement();
+            provider = new StreamProvider(is);
         } catch (Exception ex) {
             throw new JSQLParserException(ex);
         }
+        CCJSqlParser parser = acquireParser(provider);
+        try {
+            return parser.Statement();
+        } catch (Exception ex) {
+            throw toParserException(ex);
+        } finally {
+            releaseParser(parser);
+        }
     }
 
     public static Statement parse(InputStream is, String encoding) throws JSQLParserException {
+        StreamProvider provider;
         try {
-            CCJSqlParser parser = new CCJSqlParser(new StreamProvider(is, encoding));
-            return parser.Statement();
+            provider = new StreamProvider(is, encoding);
         } catch (Exception ex) {
             throw new JSQLParserException(ex);
         }
+        CCJSqlParser parser = acquireParser(provider);
+        try {
+            return parser.Statement();
+        } catch (Exception ex) {
+            throw toParserException(ex);
+        } finally {
+            releaseParser(parser);
+        }
     }
 
     /**
@@ -96,7 +170,7 @@ public final class CCJSqlParserUtil {
     }
     
     public static Expression parseExpression(String expression, boolean allowPartialParse) throws JSQLParserException {
-        CCJSqlParser parser = new CCJSqlParser(new StringProvider(expression));
+        CCJSqlParser parser = acquireParser(new StringProvider(expression));
         try {
             Expression expr = parser.SimpleExpression();
             if (!allowPartialParse && parser.getNextToken().kind != CCJSqlParserTokenManager.EOF) {
@@ -107,6 +181,10 @@ public final class CCJSqlParserUtil {
             throw ex;
         } catch (ParseException ex) {
             throw new JSQLParserException(ex);
+        } catch (ParseLimitSignal ex) {
+            throw ex.getException();
+        } finally {
+            releaseParser(parser);
         }
     }
 
@@ -129,7 +207,15 @@ public final class CCJSqlParserUtil {
      * @return
      */
     public static Expression parseCondExpression(String condExpr, boolean allowPartialParse) throws JSQLParserException {
-        CCJSqlParser parser = new CCJSqlParser(new StringProvider(condExpr));
+        return parseCondExpression(condExpr, allowPartialParse, DEFAULT_OPTIONS);
+    }
+
+    /**
+     * Parse an conditional expression using the given options.
+     */
+    public static Expression parseCondExpression(String condExpr, boolean allowPartialParse, ParserOptions options)
+            throws JSQLParserException {
+        CCJSqlParser parser = acquireParser(new StringProvider(condExpr), options);
         try {
             Expression expr = parser.Expression();
             if (!allowPartialParse && parser.getNextToken().kind != CCJSqlParserTokenManager.EOF) {
@@ -140,6 +226,10 @@ public final class CCJSqlParserUtil {
             throw ex;
         } catch (ParseException ex) {
             throw new JSQLParserException(ex);
+        } catch (ParseLimitSignal ex) {
+            throw ex.getException();
+        } finally {
+            releaseParser(parser);
         }
     }
 
@@ -147,11 +237,20 @@ public final class CCJSqlParserUtil {
      * Parse a statement list.
      */
     public static Statements parseStatements(String sqls) throws JSQLParserException {
-        CCJSqlParser parser = new CCJSqlParser(new StringProvider(sqls));
+        return parseStatements(sqls, DEFAULT_OPTIONS);
+    }
+
+    /**
+     * Parse a statement list using the given options.
+     */
+    public static Statements parseStatements(String sqls, ParserOptions options) throws JSQLParserException {
+        CCJSqlParser parser = acquireParser(new StringProvider(sqls), options);
         try {
             return parser.Statements();
         } catch (Exception ex) {
-            throw new JSQLParserException(ex);
+            throw toParserException(ex);
+        } finally {
+            releaseParser(parser);
         }
     }
 
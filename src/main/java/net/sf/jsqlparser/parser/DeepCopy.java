@@ -0,0 +1,179 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import net.sf.jsqlparser.expression.DateTimeLiteralExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.HexValue;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeKeyExpression;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+
+/**
+ * Deep copy of parsed statements and expressions, e.g. to hand out a cached statement to code that
+ * modifies it. All parsed objects reachable from the copied one are copied, lists are copied into
+ * new {@link ArrayList}s. Strings, enums and other values are shared, the link to the JJTree node is
+ * kept. Like {@link StructuralEquality} the copy works on the fields of the model classes, so it
+ * covers every statement and expression type without per type code.
+ *
+ * <p>
+ * Literal values (numbers, strings, NULL, date and time values) can optionally be shared between
+ * the original and the copy. The copy is then cheaper, but a literal has to be replaced rather
+ * than changed by callers modifying the copy.</p>
+ *
+ * <pre>
+ * <code>
+ * Statement stmt = DeepCopy.copyOf(cachedStatement);
+ * </code>
+ * </pre>
+ */
+public class DeepCopy {
+
+    private static final DeepCopy DEFAULT = new DeepCopy(false);
+
+    private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return constructor;
+            } catch (NoSuchMethodException ex) {
+                throw new IllegalStateException(type.getName() + " has no constructor without arguments", ex);
+            }
+        }
+    };
+
+    private static final ClassValue<Boolean> LITERALS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type == LongValue.class || type == DoubleValue.class || type == HexValue.class
+                    || type == StringValue.class || type == NullValue.class || type == DateValue.class
+                    || type == TimeValue.class || type == TimestampValue.class
+                    || type == DateTimeLiteralExpression.class || type == TimeKeyExpression.class;
+        }
+    };
+
+    private static final ClassValue<Boolean> MODEL = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            String name = type.getName();
+            return !type.isEnum() && name.startsWith("net.sf.jsqlparser.")
+                    && !name.startsWith("net.sf.jsqlparser.parser.");
+        }
+    };
+
+    private final boolean shareLiterals;
+
+    public DeepCopy() {
+        this(false);
+    }
+
+    /**
+     * @param shareLiterals true: literal values are not copied but used by the original and the copy
+     */
+    public DeepCopy(boolean shareLiterals) {
+        this.shareLiterals = shareLiterals;
+    }
+
+    /**
+     * Copy a statement, expression or any other parsed object with all its children.
+     */
+    public static <T> T copyOf(T node) {
+        return DEFAULT.copy(node);
+    }
+
+    public boolean isShareLiterals() {
+        return shareLiterals;
+    }
+
+    /**
+     * Copy a statement, expression or any other parsed object with all its children.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T copy(T node) {
+        return (T) copyValue(node);
+    }
+
+    /**
+     * Called for every parsed object before it is copied. Subclasses can return a replacement that
+     * is used in the copy instead, e.g. to bind parameters while copying.
+     *
+     * @return the object to use instead of a copy of the given one, or null to copy it
+     */
+    protected Object substitute(Object node) {
+        return null;
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> type = value.getClass();
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> copy = new ArrayList<Object>(list.size());
+            for (Object element : list) {
+                copy.add(copyValue(element));
+            }
+            return copy;
+        }
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        if (!MODEL.get(type)) {
+            return value;
+        }
+        Object substitute = substitute(value);
+        if (substitute != null) {
+            return substitute;
+        }
+        if (shareLiterals && LITERALS.get(type)) {
+            return value;
+        }
+        return copyNode(value);
+    }
+
+    private Object copyNode(Object node) {
+        try {
+            Object copy = CONSTRUCTORS.get(node.getClass()).newInstance();
+            for (Field field : StructuralEquality.fields(node.getClass())) {
+                field.set(copy, copyValue(field.get(node)));
+            }
+            if (node instanceof ASTNodeAccess) {
+                ((ASTNodeAccess) copy).setASTNode(((ASTNodeAccess) node).getASTNode());
+            }
+            return copy;
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("cannot copy " + node.getClass().getName(), ex);
+        }
+    }
+}
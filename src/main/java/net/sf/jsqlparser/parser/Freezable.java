@@ -0,0 +1,111 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Base of the parsed objects, which can be frozen. A frozen object and all parsed objects reachable
+ * from it cannot be changed anymore: setters throw an {@link UnsupportedOperationException} and the
+ * lists are unmodifiable. A frozen statement can therefore be shared between threads and cached
+ * without copies or locks, as long as it is published safely, e.g. through a final or volatile field
+ * or a concurrent collection. Frozen objects cache their hash code.
+ *
+ * <p>
+ * Use {@link DeepCopy} to get a modifiable copy of a frozen statement.</p>
+ *
+ * <pre>
+ * <code>
+ * Statement stmt = Freezable.freeze(CCJSqlParserUtil.parse("SELECT * FROM mytable"));
+ * </code>
+ * </pre>
+ */
+public abstract class Freezable {
+
+    private transient boolean frozen;
+    private transient int hash;
+
+    /**
+     * Freeze a statement, expression or any other parsed object with all its children. Freezing an
+     * already frozen object does nothing.
+     *
+     * @return the given object
+     */
+    public static <T> T freeze(T node) {
+        freezeValue(node);
+        return node;
+    }
+
+    public final boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Called by all methods changing this object.
+     *
+     * @throws UnsupportedOperationException if this object is frozen
+     */
+    protected final void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " is frozen");
+        }
+    }
+
+    int cachedHashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = StructuralEquality.computeHashCode(this);
+            hash = h;
+        }
+        return h;
+    }
+
+    private static Object freezeValue(Object value) {
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> frozenList = new ArrayList<Object>(list.size());
+            for (Object element : list) {
+                frozenList.add(freezeValue(element));
+            }
+            return Collections.unmodifiableList(frozenList);
+        }
+        if (value instanceof Freezable && !((Freezable) value).frozen) {
+            Freezable node = (Freezable) value;
+            try {
+                for (Field field : StructuralEquality.fields(node.getClass())) {
+                    Object fieldValue = field.get(node);
+                    Object frozenValue = freezeValue(fieldValue);
+                    if (frozenValue != fieldValue) {
+                        field.set(node, frozenValue);
+                    }
+                }
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException("cannot freeze " + node.getClass().getName(), ex);
+            }
+            node.frozen = true;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through a memory mapped {@link FileChannel}. The file is mapped window by window
+ * and decoded straight into the buffer of the parser, so no Reader or intermediate buffer is
+ * involved. Runs of ASCII characters in UTF-8, US-ASCII and ISO-8859-1 files are copied without
+ * going through the charset decoder.
+ *
+ * <pre>
+ * <code>
+ * StatementReader statements = new StatementReader(new MappedFileProvider(new File("dump.sql")));
+ * </code>
+ * </pre>
+ */
+public class MappedFileProvider implements Provider {
+
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    /**
+     * Bytes a window has to hold to decode one more character in any common charset, fewer bytes
+     * at the end of a window are decoded after mapping the next one.
+     */
+    private static final int MIN_REMAINING = 16;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private final CharsetDecoder decoder;
+    private final boolean asciiCompatible;
+    private final boolean latin1;
+    /**
+     * The low surrogate of a pair, if only its high surrogate fitted into the buffer.
+     */
+    private final CharBuffer pending = CharBuffer.allocate(2);
+    private MappedByteBuffer window;
+    private long windowStart = 0;
+    private boolean flushed = false;
+
+    /**
+     * Read an UTF-8 encoded file.
+     */
+    public MappedFileProvider(File file) throws IOException {
+        this(file, StandardCharsets.UTF_8);
+    }
+
+    public MappedFileProvider(File file, Charset charset) throws IOException {
+        this(file, charset, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedFileProvider(File file, Charset charset, int windowSize) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.size = channel.size();
+        this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).
+                onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.latin1 = StandardCharsets.ISO_8859_1.equals(charset);
+        this.asciiCompatible = latin1 || StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset);
+        this.windowSize = Math.max(windowSize, MIN_REMAINING);
+        pending.limit(0);
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (pending.hasRemaining()) {
+            buffer[offset] = pending.get();
+            return 1;
+        }
+        CharBuffer out = CharBuffer.wrap(buffer, offset, len);
+        while (out.position() == offset) {
+            if (!mapWindow()) {
+                if (!flushed) {
+                    decoder.decode(EMPTY, out, true);
+                    decoder.flush(out);
+                    flushed = true;
+                }
+                break;
+            }
+            if (asciiCompatible) {
+                copyAscii(out);
+            }
+            if (out.hasRemaining() && window.hasRemaining()) {
+                CoderResult result = decoder.decode(window, out, windowStart + window.limit() == size);
+                if (result.isOverflow() && out.position() == offset) {
+                    // a surrogate pair does not fit into a buffer of length 1
+                    pending.clear();
+                    decoder.decode(window, pending, windowStart + window.limit() == size);
+                    pending.flip();
+                    out.put(pending.get());
+                }
+            }
+        }
+        int count = out.position() - offset;
+        return count == 0 ? -1 : count;
+    }
+
+    private void copyAscii(CharBuffer out) {
+        char[] chars = out.array();
+        int position = out.position();
+        int end = out.limit();
+        MappedByteBuffer bytes = window;
+        while (position < end && bytes.hasRemaining()) {
+            byte b = bytes.get();
+            if (b >= 0) {
+                chars[position++] = (char) b;
+            } else if (latin1) {
+                chars[position++] = (char) (b & 0xff);
+            } else {
+                bytes.position(bytes.position() - 1);
+                break;
+            }
+        }
+        out.position(position);
+    }
+
+    /**
+     * Make sure the current window holds enough bytes to decode the next character.
+     *
+     * @return false at the end of the file
+     */
+    private boolean mapWindow() throws IOException {
+        if (window != null) {
+            boolean last = windowStart + window.limit() == size;
+            if (window.remaining() >= MIN_REMAINING || last && window.hasRemaining()) {
+                return true;
+            }
+            if (last) {
+                return false;
+            }
+            windowStart += window.position();
+        } else if (size == 0) {
+            return false;
+        }
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(windowSize, size - windowStart));
+        return window.hasRemaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
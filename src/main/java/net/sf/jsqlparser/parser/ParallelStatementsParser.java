@@ -0,0 +1,180 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * Parses the statements of a script concurrently. The script is first split into its statements
+ * by a pass of the {@link SqlTokenizer}, so semicolons within strings, quoted identifiers and
+ * comments are no separators and a BEGIN ... END block stays one statement. A BEGIN followed by a
+ * semicolon or a word like TRANSACTION or WORK starts a transaction and opens no block. The
+ * statements are then parsed on the given pool, every worker thread using its own parser.
+ *
+ * <pre>
+ * <code>
+ * ParallelStatementsParser parser = new ParallelStatementsParser(pool);
+ * for (ScriptStatement stmt : parser.parse(script)) {
+ *     if (stmt.getException() != null) {
+ *         ...
+ *     }
+ * }
+ * </code>
+ * </pre>
+ *
+ * A statement that does not parse does not stop the others, its error is reported by
+ * {@link ScriptStatement#getException()}.
+ */
+public class ParallelStatementsParser {
+
+    /**
+     * Number of statements parsed by one task without splitting it further.
+     */
+    private static final int BATCH_SIZE = 32;
+
+    private final ForkJoinPool pool;
+    private ParserOptions options = new ParserOptions();
+
+    public ParallelStatementsParser(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public ParserOptions getOptions() {
+        return options;
+    }
+
+    public void setOptions(ParserOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Parse all statements of the given script.
+     *
+     * @return the statements in the order of the script
+     * @throws JSQLParserException if the script contains characters that are not valid SQL tokens
+     */
+    public List<ScriptStatement> parse(String script) throws JSQLParserException {
+        List<ScriptStatement> statements = split(script);
+        pool.invoke(new ParseTask(statements, 0, statements.size(), options));
+        return statements;
+    }
+
+    /**
+     * Split a script at the semicolons outside of BEGIN ... END blocks. Empty statements are
+     * dropped.
+     */
+    static List<ScriptStatement> split(String script) throws JSQLParserException {
+        List<ScriptStatement> statements = new ArrayList<ScriptStatement>();
+        int depth = 0;
+        boolean begin = false;
+        Token first = null;
+        Token last = null;
+        try {
+            for (SqlTokenizer tokenizer = new SqlTokenizer(script); tokenizer.hasNext();) {
+                Token token = tokenizer.next();
+                if (begin && token.kind != CCJSqlParserConstants.ST_SEMICOLON
+                        && token.kind != CCJSqlParserConstants.S_IDENTIFIER) {
+                    depth++;
+                }
+                begin = token.kind == CCJSqlParserConstants.K_BEGIN;
+                if (token.kind == CCJSqlParserConstants.ST_SEMICOLON && depth == 0) {
+                    if (first != null) {
+                        statements.add(statement(script, first, last));
+                    }
+                    first = null;
+                    continue;
+                }
+                if (token.kind == CCJSqlParserConstants.K_CASE) {
+                    depth++;
+                } else if (token.kind == CCJSqlParserConstants.K_END && depth > 0) {
+                    depth--;
+                }
+                if (first == null) {
+                    first = token;
+                }
+                last = token;
+            }
+        } catch (TokenMgrException ex) {
+            throw new JSQLParserException(ex);
+        }
+        if (first != null) {
+            statements.add(statement(script, first, last));
+        }
+        return statements;
+    }
+
+    private static ScriptStatement statement(String script, Token first, Token last) {
+        // absolute token positions start with 1
+        return new ScriptStatement(script.substring(first.absoluteBegin - 1, last.absoluteEnd - 1),
+                first.absoluteBegin - 1);
+    }
+
+    private static final class ParseTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<ScriptStatement> statements;
+        private final int from;
+        private final int to;
+        private final ParserOptions options;
+
+        ParseTask(List<ScriptStatement> statements, int from, int to, ParserOptions options) {
+            this.statements = statements;
+            this.from = from;
+            this.to = to;
+            this.options = options;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    parse(statements.get(i));
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ParseTask(statements, from, middle, options),
+                        new ParseTask(statements, middle, to, options));
+            }
+        }
+
+        private void parse(ScriptStatement statement) {
+            CCJSqlParser parser = CCJSqlParserUtil.acquireParser(new StringProvider(statement.getSql()), options);
+            try {
+                Statement stmt = parser.NextStatement();
+                if (stmt == null) {
+                    throw new ParseException("No statement in \"" + statement.getSql() + "\"");
+                }
+                statement.setStatement(stmt);
+            } catch (Exception ex) {
+                statement.setException(CCJSqlParserUtil.toParserException(ex));
+            } finally {
+                CCJSqlParserUtil.releaseParser(parser);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+
+/**
+ * Thrown if a parse was stopped because it went beyond one of the limits set using
+ * {@link ParserOptions}, or because the parsing thread was interrupted. Unlike other parse
+ * failures the input is not necessarily invalid, it was just not parsed to the end.
+ */
+public class ParseLimitException extends JSQLParserException {
+
+    private static final long serialVersionUID = 2716937628431029467L;
+
+    /**
+     * The limit which stopped the parse.
+     */
+    public enum Limit {
+        TOKENS, DEPTH, TIMEOUT, INTERRUPTED
+    }
+
+    private final Limit limit;
+
+    public ParseLimitException(Limit limit, String message) {
+        super(message);
+        this.limit = limit;
+    }
+
+    public Limit getLimit() {
+        return limit;
+    }
+}
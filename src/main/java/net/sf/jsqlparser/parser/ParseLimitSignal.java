@@ -0,0 +1,43 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+/**
+ * Carries a {@link ParseLimitException} out of the token manager and the generated parser, which
+ * only let unchecked exceptions pass. No stack trace is filled in, the signal is unwrapped by the
+ * caller of the parser.
+ */
+final class ParseLimitSignal extends RuntimeException {
+
+    private static final long serialVersionUID = -4315920411624735520L;
+
+    private final ParseLimitException exception;
+
+    ParseLimitSignal(ParseLimitException.Limit limit, String message) {
+        super(message, null, false, false);
+        this.exception = new ParseLimitException(limit, message);
+    }
+
+    ParseLimitException getException() {
+        return exception;
+    }
+}
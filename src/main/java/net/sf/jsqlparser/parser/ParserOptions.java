@@ -0,0 +1,145 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+/**
+ * Settings for a single parse using {@link CCJSqlParserUtil}. A new instance holds the defaults,
+ * which are the settings used by the methods without options.
+ *
+ * <pre>
+ * <code>
+ * ParserOptions options = new ParserOptions();
+ * options.setTrackASTNodes(false);
+ * Statement stmt = CCJSqlParserUtil.parse("SELECT * FROM mytable", options);
+ * </code>
+ * </pre>
+ */
+public class ParserOptions {
+
+    private boolean trackASTNodes = true;
+    private boolean trackLineColumn = true;
+    private boolean flattenConditions;
+    private int maxTokens;
+    private int maxDepth;
+    private long timeout;
+    private boolean checkInterrupt;
+
+    public boolean isTrackASTNodes() {
+        return trackASTNodes;
+    }
+
+    /**
+     * Build the JJTree node tree and link it to the parsed objects (default true). Most callers
+     * never use {@link ASTNodeAccess#getASTNode()}, switching this off saves the node tree and
+     * keeps the parsed objects from holding on to the token chain of the statement.
+     */
+    public void setTrackASTNodes(boolean trackASTNodes) {
+        this.trackASTNodes = trackASTNodes;
+    }
+
+    public boolean isTrackLineColumn() {
+        return trackLineColumn;
+    }
+
+    /**
+     * Maintain the line and column numbers of the tokens (default true). Without them less work is
+     * done per character read, the absolute positions of the tokens are still available, but parse
+     * errors no longer report line and column.
+     */
+    public void setTrackLineColumn(boolean trackLineColumn) {
+        this.trackLineColumn = trackLineColumn;
+    }
+
+    public boolean isFlattenConditions() {
+        return flattenConditions;
+    }
+
+    /**
+     * Parse a chain of OR or AND conditions into a single
+     * {@link net.sf.jsqlparser.util.cnfexpression.MultiOrExpression} or
+     * {@link net.sf.jsqlparser.util.cnfexpression.MultiAndExpression} holding all terms (default
+     * false). Generated conditions with thousands of terms then no longer build trees that
+     * overflow the stack of the visitors and deparsers.
+     */
+    public void setFlattenConditions(boolean flattenConditions) {
+        this.flattenConditions = flattenConditions;
+    }
+
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    /**
+     * Fail with a {@link ParseLimitException} once a statement has more than the given number of
+     * tokens (default 0, no limit).
+     */
+    public void setMaxTokens(int maxTokens) {
+        this.maxTokens = maxTokens;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Fail with a {@link ParseLimitException} once parentheses, CASE or BEGIN blocks are nested
+     * deeper than the given depth (default 0, no limit). This bounds the recursion of the parser,
+     * which otherwise ends in a StackOverflowError for absurdly nested input.
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Fail with a {@link ParseLimitException} if a parse takes longer than the given number of
+     * milliseconds (default 0, no limit).
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public boolean isCheckInterrupt() {
+        return checkInterrupt;
+    }
+
+    /**
+     * Fail with a {@link ParseLimitException} if the parsing thread is interrupted (default false).
+     * The interrupt flag of the thread is not cleared.
+     */
+    public void setCheckInterrupt(boolean checkInterrupt) {
+        this.checkInterrupt = checkInterrupt;
+    }
+
+    void configure(CCJSqlParser parser) {
+        parser.setTrackASTNodes(trackASTNodes);
+        parser.setTrackLineColumn(trackLineColumn);
+        parser.setFlattenConditions(flattenConditions);
+        parser.setMaxTokens(maxTokens);
+        parser.setMaxDepth(maxDepth);
+        parser.setCheckInterrupt(checkInterrupt);
+        parser.setTimeout(timeout);
+    }
+}
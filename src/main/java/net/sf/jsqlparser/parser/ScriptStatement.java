@@ -0,0 +1,83 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * One statement of a script parsed by {@link ParallelStatementsParser}: its text and either the
+ * parsed statement or the reason it could not be parsed.
+ */
+public class ScriptStatement {
+
+    private final String sql;
+    private final int offset;
+    private Statement statement;
+    private JSQLParserException exception;
+
+    ScriptStatement(String sql, int offset) {
+        this.sql = sql;
+        this.offset = offset;
+    }
+
+    /**
+     * The text of the statement without the separating semicolon.
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * The index of the first character of the statement within the script.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return the parsed statement or null if it could not be parsed
+     */
+    public Statement getStatement() {
+        return statement;
+    }
+
+    void setStatement(Statement statement) {
+        this.statement = statement;
+    }
+
+    /**
+     * @return the parse error or null if the statement was parsed
+     */
+    public JSQLParserException getException() {
+        return exception;
+    }
+
+    void setException(JSQLParserException exception) {
+        this.exception = exception;
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+}
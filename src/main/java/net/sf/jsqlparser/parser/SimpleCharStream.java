@@ -75,8 +75,6 @@ public class SimpleCharStream {
 
     protected void ExpandBuff(boolean wrapAround) {
         char[] newbuffer = new char[bufsize + 2048];
-        int newbufline[] = new int[bufsize + 2048];
-        int newbufcolumn[] = new int[bufsize + 2048];
 
         try {
             if (wrapAround) {
@@ -84,24 +82,34 @@ public class SimpleCharStream {
                 System.arraycopy(buffer, 0, newbuffer, bufsize - tokenBegin, bufpos);
                 buffer = newbuffer;
 
-                System.arraycopy(bufline, tokenBegin, newbufline, 0, bufsize - tokenBegin);
-                System.arraycopy(bufline, 0, newbufline, bufsize - tokenBegin, bufpos);
-                bufline = newbufline;
+                if (trackLineColumn) {
+                    int newbufline[] = new int[bufsize + 2048];
+                    int newbufcolumn[] = new int[bufsize + 2048];
 
-                System.arraycopy(bufcolumn, tokenBegin, newbufcolumn, 0, bufsize - tokenBegin);
-                System.arraycopy(bufcolumn, 0, newbufcolumn, bufsize - tokenBegin, bufpos);
-                bufcolumn = newbufcolumn;
+                    System.arraycopy(bufline, tokenBegin, newbufline, 0, bufsize - tokenBegin);
+                    System.arraycopy(bufline, 0, newbufline, bufsize - tokenBegin, bufpos);
+                    bufline = newbufline;
+
+                    System.arraycopy(bufcolumn, tokenBegin, newbufcolumn, 0, bufsize - tokenBegin);
+                    System.arraycopy(bufcolumn, 0, newbufcolumn, bufsize - tokenBegin, bufpos);
+                    bufcolumn = newbufcolumn;
+                }
 
                 maxNextCharInd = bufpos += bufsize - tokenBegin;
             } else {
                 System.arraycopy(buffer, tokenBegin, newbuffer, 0, bufsize - tokenBegin);
                 buffer = newbuffer;
 
-                System.arraycopy(bufline, tokenBegin, newbufline, 0, bufsize - tokenBegin);
-                bufline = newbufline;
+                if (trackLineColumn) {
+                    int newbufline[] = new int[bufsize + 2048];
+                    int newbufcolumn[] = new int[bufsize + 2048];
 
-                System.arraycopy(bufcolumn, tokenBegin, newbufcolumn, 0, bufsize - tokenBegin);
-                bufcolumn = newbufcolumn;
+                    System.arraycopy(bufline, tokenBegin, newbufline, 0, bufsize - tokenBegin);
+                    bufline = newbufline;
+
+                    System.arraycopy(bufcolumn, tokenBegin, newbufcolumn, 0, bufsize - tokenBegin);
+                    bufcolumn = newbufcolumn;
+                }
 
                 maxNextCharInd = bufpos -= tokenBegin;
             }
@@ -221,7 +229,9 @@ public class SimpleCharStream {
 
         char c = buffer[bufpos];
 
-        UpdateLineColumn(c);
+        if (trackLineColumn) {
+            UpdateLineColumn(c);
+        }
         return c;
     }
 
@@ -231,7 +241,7 @@ public class SimpleCharStream {
      */
 
     public int getColumn() {
-        return bufcolumn[bufpos];
+        return trackLineColumn ? bufcolumn[bufpos] : 0;
     }
 
     @Deprecated
@@ -240,35 +250,35 @@ public class SimpleCharStream {
      */
 
     public int getLine() {
-        return bufline[bufpos];
+        return trackLineColumn ? bufline[bufpos] : 0;
     }
 
     /**
      * Get token end column number.
      */
     public int getEndColumn() {
-        return bufcolumn[bufpos];
+        return trackLineColumn ? bufcolumn[bufpos] : 0;
     }
 
     /**
      * Get token end line number.
      */
     public int getEndLine() {
-        return bufline[bufpos];
+        return trackLineColumn ? bufline[bufpos] : 0;
     }
 
     /**
      * Get token beginning column number.
      */
     public int getBeginColumn() {
-        return bufcolumn[tokenBegin];
+        return trackLineColumn ? bufcolumn[tokenBegin] : 0;
     }
 
     /**
      * Get token beginning line number.
      */
     public int getBeginLine() {
-        return bufline[tokenBegin];
+        return trackLineColumn ? bufline[tokenBegin] : 0;
     }
 
     /**
@@ -313,6 +323,16 @@ public class SimpleCharStream {
         this(dstream, 1, 1, 4096);
     }
 
+    /**
+     * Drop the input and the buffered characters, the next ReInit allocates new buffers.
+     */
+    void release() {
+        inputStream = null;
+        buffer = null;
+        bufline = null;
+        bufcolumn = null;
+    }
+
     /**
      * Reinitialise.
      */
@@ -325,12 +345,17 @@ public class SimpleCharStream {
         if (buffer == null || buffersize != buffer.length) {
             available = bufsize = buffersize;
             buffer = new char[buffersize];
+            bufline = null;
+            bufcolumn = null;
+        }
+        if (trackLineColumn && bufline == null) {
             bufline = new int[buffersize];
             bufcolumn = new int[buffersize];
         }
         prevCharIsLF = prevCharIsCR = false;
         tokenBegin = inBuf = maxNextCharInd = 0;
         bufpos = -1;
+        totalCharsRead = absoluteTokenBegin = 0;
     }
 
     /**
@@ -391,6 +416,9 @@ public class SimpleCharStream {
      */
     @SuppressWarnings("checkstyle:parameterassignment")
     public void adjustBeginLineColumn(int newLine, int newCol) {
+        if (!trackLineColumn) {
+            return;
+        }
         int start = tokenBegin;
         int len;
 
@@ -435,8 +463,16 @@ public class SimpleCharStream {
         return trackLineColumn;
     }
 
+    /**
+     * Switch line and column tracking on or off. Without it all line and column numbers are 0, the
+     * absolute positions are still maintained. Only change this before reading from the stream.
+     */
     void setTrackLineColumn(boolean tlc) {
-        trackLineColumn = tlc;
+        if (tlc != trackLineColumn) {
+            trackLineColumn = tlc;
+            bufline = tlc ? new int[bufsize] : null;
+            bufcolumn = tlc ? new int[bufsize] : null;
+        }
     }
 }
 /* JavaCC - OriginalChecksum=47e65cd0a1ed785f7a51c9e0c60893c9 (do not edit this line) */
@@ -0,0 +1,106 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Splits SQL text into the tokens of the parser grammar without parsing it, so no parser or AST
+ * node is created. This is the cheap way to e.g. find the kind of a statement, count its
+ * parameters or drop its comments.
+ *
+ * <p>
+ * The {@link Token#kind} of a token is one of the constants of {@link CCJSqlParserConstants},
+ * {@link Token#absoluteBegin} and {@link Token#absoluteEnd} give its position in the text (the
+ * first character is at position 1). Whitespace and comments are not returned, a comment is
+ * available as {@link Token#specialToken} of the token following it.</p>
+ *
+ * <pre>
+ * <code>
+ * SqlTokenizer tokenizer = new SqlTokenizer("SELECT * FROM mytable WHERE a = ?");
+ * while (tokenizer.hasNext()) {
+ *     Token token = tokenizer.next();
+ *     ...
+ * }
+ * </code>
+ * </pre>
+ *
+ * Characters that do not start any token cause a {@link TokenMgrException}.
+ */
+public class SqlTokenizer implements Iterator<Token> {
+
+    private final CCJSqlParserTokenManager tokenManager;
+    private Token next;
+    private boolean finished = false;
+
+    public SqlTokenizer(String sql) {
+        this(new StringProvider(sql));
+    }
+
+    public SqlTokenizer(Reader reader) {
+        this(new StreamProvider(reader));
+    }
+
+    public SqlTokenizer(Provider provider) {
+        tokenManager = new CCJSqlParserTokenManager(new SimpleCharStream(provider));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            Token token = tokenManager.getNextToken();
+            if (token.kind == CCJSqlParserConstants.EOF) {
+                finished = true;
+            } else {
+                next = token;
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Token next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Token token = next;
+        next = null;
+        return token;
+    }
+
+    /**
+     * @return whether the token is a keyword of the grammar, including the keywords that may also
+     * be used as names
+     */
+    public static boolean isKeyword(Token token) {
+        String kind = CCJSqlParserConstants.tokenImage[token.kind];
+        return kind.startsWith("<K_") || kind.length() > 2 && kind.charAt(0) == '"'
+                && Character.isLetter(kind.charAt(1));
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+}
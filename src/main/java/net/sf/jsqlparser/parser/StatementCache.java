@@ -0,0 +1,130 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * A size bounded cache of parsed statements, keyed by the exact SQL text. Statements are parsed
+ * using {@link CCJSqlParserUtil#parse(String)} on the first request and the least recently used
+ * entry is dropped once the cache is full. Statements that fail to parse are not cached.
+ *
+ * <p>
+ * The returned statements are shared between all callers asking for the same SQL, so they are
+ * {@link Freezable#freeze(Object) frozen}. Use {@link DeepCopy} to get a statement to modify.</p>
+ *
+ * <pre>
+ * <code>
+ * StatementCache cache = new StatementCache(1000);
+ * Statement stmt = cache.parse("SELECT * FROM mytable");
+ * </code>
+ * </pre>
+ */
+public class StatementCache {
+
+    private final int maximumSize;
+    private final Map<String, Statement> statements;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * @param maximumSize the maximum number of statements held by this cache
+     */
+    public StatementCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive, but was " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.statements = new LinkedHashMap<String, Statement>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Statement> eldest) {
+                if (size() > StatementCache.this.maximumSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the statement for the given SQL, parsing it if it is not cached yet.
+     *
+     * @param sql the statement text
+     * @return the parsed, shared and frozen statement
+     * @throws JSQLParserException if the SQL could not be parsed
+     */
+    public Statement parse(String sql) throws JSQLParserException {
+        synchronized (this) {
+            Statement statement = statements.get(sql);
+            if (statement != null) {
+                hitCount++;
+                return statement;
+            }
+            missCount++;
+        }
+        // parse outside the lock, concurrent misses for the same text are harmless
+        Statement statement = Freezable.freeze(CCJSqlParserUtil.parse(sql));
+        synchronized (this) {
+            Statement cached = statements.get(sql);
+            if (cached != null) {
+                return cached;
+            }
+            statements.put(sql, statement);
+        }
+        return statement;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized int size() {
+        return statements.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Remove all cached statements. The counters are kept.
+     */
+    public synchronized void clear() {
+        statements.clear();
+    }
+}
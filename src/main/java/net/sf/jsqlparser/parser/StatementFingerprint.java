@@ -0,0 +1,187 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.ValueListExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+
+/**
+ * The literal free shape of a statement. The statement is tokenized by {@link SqlTokenizer}, number
+ * and string literals are replaced by {@code ?} placeholders, keywords are written in upper case and
+ * all tokens are joined by single spaces, dropping comments and layout. Identifiers keep their case,
+ * unless they are written as a keyword. The replaced literals are kept as parameter values, so
+ * <code>SELECT * FROM tab WHERE a = 5 AND b = 'x'</code> and
+ * <code>select *  from tab where a=6 and b='y' -- comment</code> get the same fingerprint text
+ * <code>SELECT * FROM tab WHERE a = ? AND b = ?</code> with the parameters {@code 5, 'x'} and
+ * {@code 6, 'y'}.
+ *
+ * <p>
+ * An IN list of literals is replaced by a single placeholder, whose parameter is a
+ * {@link ValueListExpression} with all values of the list. So {@code a IN (1, 2)} and
+ * {@code a IN (1, 2, 3)} both get the fingerprint text {@code a IN ( ? )}.</p>
+ *
+ * <p>
+ * Statements that already contain {@code ?} parameters keep their literals, since the placeholders
+ * could not be told apart from the existing parameters.</p>
+ */
+public final class StatementFingerprint {
+
+    private final String text;
+    private final List<Expression> parameters;
+
+    private StatementFingerprint(String text, List<Expression> parameters) {
+        this.text = text;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Fingerprint the given statement, replacing its literals.
+     */
+    public static StatementFingerprint of(String sql) throws JSQLParserException {
+        return of(sql, true);
+    }
+
+    /**
+     * Fingerprint the given statement.
+     *
+     * @param sql the statement text
+     * @param replaceLiterals false: only normalize the layout and keep all literals
+     * @throws JSQLParserException if the statement contains characters that are not valid SQL
+     * tokens
+     */
+    public static StatementFingerprint of(String sql, boolean replaceLiterals) throws JSQLParserException {
+        List<Token> tokens = new ArrayList<Token>();
+        boolean hasParameters = false;
+        try {
+            for (SqlTokenizer tokenizer = new SqlTokenizer(sql); tokenizer.hasNext();) {
+                Token token = tokenizer.next();
+                tokens.add(token);
+                hasParameters |= token.image.startsWith("?");
+            }
+        } catch (TokenMgrException ex) {
+            throw new JSQLParserException(ex);
+        }
+
+        boolean replace = replaceLiterals && !hasParameters;
+        StringBuilder builder = new StringBuilder(sql.length());
+        List<Expression> parameters = new ArrayList<Expression>();
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            int end = replace && token.kind == CCJSqlParserConstants.K_IN ? endOfLiteralList(tokens, i + 1) : -1;
+            Expression literal = replace ? toLiteral(token) : null;
+            if (end > 0) {
+                List<Expression> values = new ArrayList<Expression>();
+                for (int j = i + 2; j < end; j += 2) {
+                    values.add(toLiteral(tokens.get(j)));
+                }
+                ValueListExpression list = new ValueListExpression();
+                list.setExpressionList(new ExpressionList(values));
+                builder.append(image(token)).append(" ( ? )");
+                parameters.add(list);
+                i = end;
+            } else if (literal == null) {
+                builder.append(image(token));
+            } else {
+                builder.append('?');
+                parameters.add(literal);
+            }
+        }
+        return new StatementFingerprint(builder.toString(), Collections.unmodifiableList(parameters));
+    }
+
+    /**
+     * @return the index of the closing parenthesis if the tokens from the given index are a list of
+     * literals in parenthesis, otherwise -1
+     */
+    private static int endOfLiteralList(List<Token> tokens, int start) {
+        if (start >= tokens.size() || !"(".equals(tokens.get(start).image)) {
+            return -1;
+        }
+        for (int i = start + 1; i + 1 < tokens.size(); i += 2) {
+            if (toLiteral(tokens.get(i)) == null) {
+                return -1;
+            }
+            String next = tokens.get(i + 1).image;
+            if (")".equals(next)) {
+                return i + 1;
+            } else if (!",".equals(next)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the image of the token, in upper case for a keyword
+     */
+    private static String image(Token token) {
+        if (SqlTokenizer.isKeyword(token)) {
+            return token.image.toUpperCase(Locale.ROOT);
+        }
+        return token.image;
+    }
+
+    private static Expression toLiteral(Token token) {
+        switch (token.kind) {
+            case CCJSqlParserConstants.S_LONG:
+                return new LongValue(token.image);
+            case CCJSqlParserConstants.S_DOUBLE:
+                return new DoubleValue(token.image);
+            case CCJSqlParserConstants.S_CHAR_LITERAL:
+                return new StringValue(token.image);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The normalized statement text with {@code ?} in place of the replaced literals.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * The replaced literals in order of appearance, i.e. the value of the n-th placeholder is at
+     * index n - 1. The value of an IN list placeholder is a {@link ValueListExpression}.
+     */
+    public List<Expression> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
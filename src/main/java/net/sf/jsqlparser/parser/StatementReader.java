@@ -0,0 +1,116 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * Reads the statements of a script one at a time. In contrast to
+ * {@link CCJSqlParserUtil#parseStatements(String)} the script is neither loaded completely nor are
+ * all statements kept, so scripts of any size can be processed in constant memory.
+ *
+ * <pre>
+ * <code>
+ * try (StatementReader statements = new StatementReader(new FileReader("dump.sql"))) {
+ *     for (Statement stmt = statements.next(); stmt != null; stmt = statements.next()) {
+ *         ...
+ *     }
+ * }
+ * </code>
+ * </pre>
+ *
+ * Statements are separated by semicolons, BEGIN ... END blocks are returned as one
+ * {@link net.sf.jsqlparser.statement.Block}. JDBC parameters are numbered per statement. If a
+ * statement could not be parsed, the input is skipped up to the next semicolon, so reading can
+ * continue with the following statement.
+ */
+public class StatementReader implements Closeable {
+
+    private final Provider provider;
+    private final CCJSqlParser parser;
+    private boolean finished = false;
+
+    public StatementReader(Reader reader) {
+        this(reader, new ParserOptions());
+    }
+
+    public StatementReader(Reader reader, ParserOptions options) {
+        this(new StreamProvider(reader), options);
+    }
+
+    public StatementReader(Provider provider) {
+        this(provider, new ParserOptions());
+    }
+
+    public StatementReader(Provider provider, ParserOptions options) {
+        this.provider = provider;
+        this.parser = new CCJSqlParser(provider);
+        options.configure(parser);
+    }
+
+    /**
+     * Parse the next statement.
+     *
+     * @return the statement or null at the end of the input
+     * @throws JSQLParserException if the statement could not be parsed
+     */
+    public Statement next() throws JSQLParserException {
+        if (finished) {
+            return null;
+        }
+        // drop the nodes of the previous statement from the node stack
+        parser.jjtree.reset();
+        parser.jdbcParameterIndex = 0;
+        parser.token_source.resetLimits();
+        try {
+            Statement statement = parser.NextStatement();
+            if (statement == null) {
+                finished = true;
+            }
+            return statement;
+        } catch (ParseException ex) {
+            skipStatement();
+            throw new JSQLParserException(ex);
+        } catch (Exception ex) {
+            finished = true;
+            throw CCJSqlParserUtil.toParserException(ex);
+        }
+    }
+
+    private void skipStatement() {
+        Token token;
+        do {
+            token = parser.getNextToken();
+        } while (token.kind != CCJSqlParserConstants.ST_SEMICOLON
+                && token.kind != CCJSqlParserConstants.EOF);
+        finished = token.kind == CCJSqlParserConstants.EOF;
+    }
+
+    @Override
+    public void close() throws IOException {
+        provider.close();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * A size bounded cache of statement templates keyed by {@link StatementFingerprint}. Statements
+ * differing only in their literals or layout are parsed once; later requests only tokenize the
+ * statement and look up the template.
+ *
+ * <p>
+ * Some literals cannot be replaced by a parameter, e.g. the string of
+ * <code>DATE '2018-01-01'</code> or a LIKE escape character. If the template of a statement does not
+ * parse, or does not contain one parameter per literal, the statement is cached with all of its
+ * literals instead.</p>
+ *
+ * <pre>
+ * <code>
+ * StatementTemplateCache cache = new StatementTemplateCache(1000);
+ * BoundStatement stmt = cache.parse("SELECT * FROM mytable WHERE id = 5");
+ * stmt.getTemplate();   // SELECT * FROM mytable WHERE id = ?
+ * stmt.getParameters(); // [5]
+ * </code>
+ * </pre>
+ */
+public class StatementTemplateCache {
+
+    private final int maximumSize;
+    /**
+     * Templates by fingerprint text. A null value marks a fingerprint whose literals cannot be
+     * replaced.
+     */
+    private final Map<String, Statement> templates;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * @param maximumSize the maximum number of templates held by this cache
+     */
+    public StatementTemplateCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive, but was " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.templates = new LinkedHashMap<String, Statement>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Statement> eldest) {
+                if (size() > StatementTemplateCache.this.maximumSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the template of the given statement together with its literal values.
+     *
+     * @throws JSQLParserException if the statement could not be parsed
+     */
+    public BoundStatement parse(String sql) throws JSQLParserException {
+        BoundStatement statement = lookup(StatementFingerprint.of(sql));
+        if (statement == null) {
+            statement = lookup(StatementFingerprint.of(sql, false));
+        }
+        return statement;
+    }
+
+    /**
+     * @return the bound statement or null if the literals of the fingerprint cannot be replaced
+     */
+    private BoundStatement lookup(StatementFingerprint fingerprint) throws JSQLParserException {
+        String text = fingerprint.getText();
+        synchronized (this) {
+            if (templates.containsKey(text)) {
+                hitCount++;
+                Statement template = templates.get(text);
+                return template == null ? null : new BoundStatement(fingerprint, template);
+            }
+            missCount++;
+        }
+
+        int parameterCount = fingerprint.getParameters().size();
+        Statement template;
+        CCJSqlParser parser = CCJSqlParserUtil.acquireParser(new StringProvider(text));
+        try {
+            template = parser.Statement();
+            // without replaced literals all parameters were in the statement already
+            if (parameterCount > 0 && parser.jdbcParameterIndex != parameterCount) {
+                template = null;
+            }
+        } catch (Exception ex) {
+            if (parameterCount == 0) {
+                throw new JSQLParserException(ex);
+            }
+            template = null;
+        } finally {
+            CCJSqlParserUtil.releaseParser(parser);
+        }
+
+        Freezable.freeze(template);
+        synchronized (this) {
+            templates.put(text, template);
+        }
+        return template == null ? null : new BoundStatement(fingerprint, template);
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Remove all cached templates. The counters are kept.
+     */
+    public synchronized void clear() {
+        templates.clear();
+    }
+}
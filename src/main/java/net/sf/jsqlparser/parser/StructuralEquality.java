@@ -0,0 +1,135 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Structural equality of the parsed objects. Two objects are equal if they are of the same class
+ * and all their fields are equal, which for fields holding other parsed objects (or lists of them)
+ * compares the whole sub-trees. The link to the JJTree node is not part of the comparison, so a
+ * statement parsed twice gives equal objects with equal hash codes.
+ *
+ * <p>
+ * The model classes implement {@link Object#equals(Object)} and {@link Object#hashCode()} with
+ * this class. Hash codes are only cached for {@link Freezable frozen} objects; as for any key, an
+ * object that is not frozen must not be changed while it is used in a hash based collection.</p>
+ */
+public final class StructuralEquality {
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<Field>();
+            for (Class<?> c = type; c != Object.class && c != ASTNodeAccessImpl.class
+                    && c != Freezable.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)
+                            && !field.isSynthetic()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(new Field[fields.size()]);
+        }
+    };
+
+    private StructuralEquality() {
+    }
+
+    /**
+     * The instance fields of a model class and its superclasses, without the JJTree node link.
+     */
+    static Field[] fields(Class<?> type) {
+        return FIELDS.get(type);
+    }
+
+    public static boolean equals(Object node, Object other) {
+        if (node == other) {
+            return true;
+        }
+        if (node == null || other == null || node.getClass() != other.getClass()) {
+            return false;
+        }
+        try {
+            for (Field field : FIELDS.get(node.getClass())) {
+                if (!valueEquals(field.get(node), field.get(other))) {
+                    return false;
+                }
+            }
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return true;
+    }
+
+    public static int hashCode(Object node) {
+        if (node == null) {
+            return 0;
+        }
+        if (node instanceof Freezable && ((Freezable) node).isFrozen()) {
+            return ((Freezable) node).cachedHashCode();
+        }
+        return computeHashCode(node);
+    }
+
+    static int computeHashCode(Object node) {
+        int hash = node.getClass().getName().hashCode();
+        try {
+            for (Field field : FIELDS.get(node.getClass())) {
+                hash = 31 * hash + valueHashCode(field.get(node));
+            }
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return hash;
+    }
+
+    private static boolean valueEquals(Object value, Object other) {
+        if (value == other) {
+            return true;
+        }
+        if (value == null || other == null) {
+            return false;
+        }
+        if (value.getClass().isArray()) {
+            return Arrays.deepEquals(new Object[]{value}, new Object[]{other});
+        }
+        return value.equals(other);
+    }
+
+    private static int valueHashCode(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.getClass().isArray()) {
+            return Arrays.deepHashCode(new Object[]{value});
+        }
+        return value.hashCode();
+    }
+}
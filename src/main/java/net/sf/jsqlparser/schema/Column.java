@@ -56,6 +56,7 @@ public final class Column extends ASTNodeAccessImpl implements Expression, Multi
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -64,6 +65,7 @@ public final class Column extends ASTNodeAccessImpl implements Expression, Multi
     }
 
     public void setColumnName(String string) {
+        checkNotFrozen();
         columnName = string;
     }
 
@@ -21,11 +21,17 @@
  */
 package net.sf.jsqlparser.schema;
 
-public final class Database implements MultiPartName {
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
+public final class Database extends Freezable implements MultiPartName {
 
     private Server server;
     private String databaseName;
 
+    private Database() {
+    }
+
     public Database(String databaseName) {
         setDatabaseName(databaseName);
     }
@@ -40,6 +46,7 @@ public final class Database implements MultiPartName {
     }
 
     public void setServer(Server server) {
+        checkNotFrozen();
         this.server = server;
     }
 
@@ -48,6 +55,7 @@ public final class Database implements MultiPartName {
     }
 
     public void setDatabaseName(String databaseName) {
+        checkNotFrozen();
         this.databaseName = databaseName;
     }
 
@@ -73,4 +81,14 @@ public final class Database implements MultiPartName {
     public String toString() {
         return getFullyQualifiedName();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
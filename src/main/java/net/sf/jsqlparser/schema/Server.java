@@ -22,8 +22,10 @@
 package net.sf.jsqlparser.schema;
 
 import java.util.regex.*;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
-public final class Server implements MultiPartName {
+public final class Server extends Freezable implements MultiPartName {
 
     public static final Pattern SERVER_PATTERN = Pattern.
             compile("\\[([^\\]]+?)(?:\\\\([^\\]]+))?\\]");
@@ -32,6 +34,9 @@ public final class Server implements MultiPartName {
     private String instanceName;
     private String simpleName;
 
+    private Server() {
+    }
+
     public Server(String serverAndInstanceName) {
         if (serverAndInstanceName != null) {
             final Matcher matcher = SERVER_PATTERN.matcher(serverAndInstanceName);
@@ -54,6 +59,7 @@ public final class Server implements MultiPartName {
     }
 
     public void setServerName(String serverName) {
+        checkNotFrozen();
         this.serverName = serverName;
     }
 
@@ -62,6 +68,7 @@ public final class Server implements MultiPartName {
     }
 
     public void setInstanceName(String instanceName) {
+        checkNotFrozen();
         this.instanceName = instanceName;
     }
 
@@ -83,4 +90,14 @@ public final class Server implements MultiPartName {
     public String toString() {
         return getFullyQualifiedName();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
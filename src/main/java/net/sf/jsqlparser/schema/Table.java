@@ -76,6 +76,7 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
     }
 
     public void setDatabase(Database database) {
+        checkNotFrozen();
         setIndex(DATABASE_IDX, database.getDatabaseName());
     }
 
@@ -84,6 +85,7 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
     }
 
     public void setSchemaName(String string) {
+        checkNotFrozen();
         setIndex(SCHEMA_IDX, string);
     }
 
@@ -92,6 +94,7 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
     }
 
     public void setName(String string) {
+        checkNotFrozen();
         setIndex(NAME_IDX, string);
     }
 
@@ -102,6 +105,7 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -122,6 +126,11 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
 
     @Override
     public String getFullyQualifiedName() {
+        if (partItems.size() == 1) {
+            // plain table name, the common case
+            String name = partItems.get(0);
+            return name == null ? "" : name;
+        }
         StringBuilder fqn = new StringBuilder();
 
         for (int i = partItems.size()-1 ; i >=0; i--) {
@@ -154,6 +163,7 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
         this.pivot = pivot;
     }
 
@@ -162,6 +172,7 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
     }
 
     public void setHint(MySQLIndexHint hint) {
+        checkNotFrozen();
         this.hint = hint;
     }
 
@@ -39,11 +39,14 @@
  */
 package net.sf.jsqlparser.statement;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
 /**
  *
  * @author Tobias Warneke (t.warneke@gmx.net)
  */
-public class Block implements Statement {
+public class Block extends Freezable implements Statement {
 
     private Statements statements;
 
@@ -52,6 +55,7 @@ public class Block implements Statement {
     }
 
     public void setStatements(Statements statements) {
+        checkNotFrozen();
         this.statements = statements;
     }
 
@@ -64,4 +68,14 @@ public class Block implements Statement {
     public String toString() {
         return "BEGIN\n" + (statements != null ? statements.toString() : "") + "END";
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -21,7 +21,10 @@
  */
 package net.sf.jsqlparser.statement;
 
-public class Commit implements Statement {
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
+public class Commit extends Freezable implements Statement {
     @Override
     public void accept(StatementVisitor statementVisitor) {
         statementVisitor.visit(this);
@@ -31,4 +34,14 @@ public class Commit implements Statement {
     public String toString() {
         return "COMMIT";
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
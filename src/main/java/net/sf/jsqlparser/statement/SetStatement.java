@@ -40,17 +40,22 @@
 package net.sf.jsqlparser.statement;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  *
  * @author toben
  */
-public class SetStatement implements Statement {
+public class SetStatement extends Freezable implements Statement {
 
     private String name;
     private Expression expression;
     private boolean useEqual;
 
+    private SetStatement() {
+    }
+
     public SetStatement(String name, Expression expression) {
         this.name = name;
         this.expression = expression;
@@ -61,6 +66,7 @@ public class SetStatement implements Statement {
     }
 
     public SetStatement setUseEqual(boolean useEqual) {
+        checkNotFrozen();
         this.useEqual = useEqual;
         return this;
     }
@@ -70,6 +76,7 @@ public class SetStatement implements Statement {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -78,6 +85,7 @@ public class SetStatement implements Statement {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -90,4 +98,14 @@ public class SetStatement implements Statement {
     public void accept(StatementVisitor statementVisitor) {
         statementVisitor.visit(this);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
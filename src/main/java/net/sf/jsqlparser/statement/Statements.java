@@ -22,12 +22,14 @@
 package net.sf.jsqlparser.statement;
 
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  *
  * @author toben
  */
-public class Statements {
+public class Statements extends Freezable {
 
     private List<Statement> statements;
 
@@ -36,6 +38,7 @@ public class Statements {
     }
 
     public void setStatements(List<Statement> statements) {
+        checkNotFrozen();
         this.statements = statements;
     }
 
@@ -51,4 +54,14 @@ public class Statements {
         }
         return b.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
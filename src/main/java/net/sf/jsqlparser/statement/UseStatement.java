@@ -21,14 +21,20 @@
  */
 package net.sf.jsqlparser.statement;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
 /**
  *
  * @author toben
  */
-public class UseStatement implements Statement {
+public class UseStatement extends Freezable implements Statement {
 
     private String name;
 
+    private UseStatement() {
+    }
+
     public UseStatement(String name) {
         this.name = name;
     }
@@ -38,6 +44,7 @@ public class UseStatement implements Statement {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -50,4 +57,14 @@ public class UseStatement implements Statement {
     public void accept(StatementVisitor statementVisitor) {
         statementVisitor.visit(this);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
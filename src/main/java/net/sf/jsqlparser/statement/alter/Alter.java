@@ -25,6 +25,8 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
@@ -33,7 +35,7 @@ import net.sf.jsqlparser.statement.StatementVisitor;
  *
  * @author toben & wrobstory
  */
-public class Alter implements Statement {
+public class Alter extends Freezable implements Statement {
 
     private Table table;
 
@@ -44,10 +46,12 @@ public class Alter implements Statement {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
     public void addAlterExpression(AlterExpression alterExpression) {
+        checkNotFrozen();
         if (alterExpressions == null) {
             alterExpressions = new ArrayList<AlterExpression>();
         }
@@ -59,6 +63,7 @@ public class Alter implements Statement {
     }
 
     public void setAlterExpressions(List<AlterExpression> alterExpressions) {
+        checkNotFrozen();
         this.alterExpressions = alterExpressions;
     }
 
@@ -88,4 +93,13 @@ public class Alter implements Statement {
         return b.toString();
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -26,6 +26,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.statement.create.table.ColDataType;
 import net.sf.jsqlparser.statement.create.table.Index;
 import net.sf.jsqlparser.statement.select.PlainSelect;
@@ -34,7 +36,7 @@ import net.sf.jsqlparser.statement.select.PlainSelect;
  *
  * @author toben & wrobstory
  */
-public class AlterExpression {
+public class AlterExpression extends Freezable {
 
     private AlterOperation operation;
     private String columnName;
@@ -62,6 +64,7 @@ public class AlterExpression {
     }
 
     public void setOperation(AlterOperation operation) {
+        checkNotFrozen();
         this.operation = operation;
     }
 
@@ -70,6 +73,7 @@ public class AlterExpression {
     }
 
     public void setOnDeleteCascade(boolean onDeleteCascade) {
+        checkNotFrozen();
         this.onDeleteCascade = onDeleteCascade;
     }
 
@@ -78,6 +82,7 @@ public class AlterExpression {
     }
 
     public void setOnDeleteRestrict(boolean onDeleteRestrict) {
+        checkNotFrozen();
         this.onDeleteRestrict = onDeleteRestrict;
     }
 
@@ -86,6 +91,7 @@ public class AlterExpression {
     }
 
     public void setOnDeleteSetNull(boolean onDeleteSetNull) {
+        checkNotFrozen();
         this.onDeleteSetNull = onDeleteSetNull;
     }
 
@@ -94,6 +100,7 @@ public class AlterExpression {
     }
 
     public void setFkColumns(List<String> fkColumns) {
+        checkNotFrozen();
         this.fkColumns = fkColumns;
     }
 
@@ -102,6 +109,7 @@ public class AlterExpression {
     }
 
     public void setFkSourceTable(String fkSourceTable) {
+        checkNotFrozen();
         this.fkSourceTable = fkSourceTable;
     }
 
@@ -110,10 +118,12 @@ public class AlterExpression {
     }
 
     public void addColDataType(String columnName, ColDataType colDataType) {
+        checkNotFrozen();
         addColDataType(new ColumnDataType(columnName, colDataType, null));
     }
 
     public void addColDataType(ColumnDataType columnDataType) {
+        checkNotFrozen();
         if (colDataTypeList == null) {
             colDataTypeList = new ArrayList<ColumnDataType>();
         }
@@ -125,6 +135,7 @@ public class AlterExpression {
     }
 
     public void setFkSourceColumns(List<String> fkSourceColumns) {
+        checkNotFrozen();
         this.fkSourceColumns = fkSourceColumns;
     }
 
@@ -133,6 +144,7 @@ public class AlterExpression {
     }
 
     public void setColumnName(String columnName) {
+        checkNotFrozen();
         this.columnName = columnName;
     }
 
@@ -141,6 +153,7 @@ public class AlterExpression {
     }
 
     public void setConstraintName(final String constraintName) {
+        checkNotFrozen();
         this.constraintName = constraintName;
     }
 
@@ -149,6 +162,7 @@ public class AlterExpression {
     }
 
     public void setPkColumns(List<String> pkColumns) {
+        checkNotFrozen();
         this.pkColumns = pkColumns;
     }
 
@@ -157,6 +171,7 @@ public class AlterExpression {
     }
 
     public void setUkColumns(List<String> ukColumns) {
+        checkNotFrozen();
         this.ukColumns = ukColumns;
     }
 
@@ -165,6 +180,7 @@ public class AlterExpression {
     }
 
     public void setUkName(String ukName) {
+        checkNotFrozen();
         this.ukName = ukName;
     }
 
@@ -173,6 +189,7 @@ public class AlterExpression {
     }
 
     public void setIndex(Index index) {
+        checkNotFrozen();
         this.index = index;
     }
 
@@ -181,10 +198,12 @@ public class AlterExpression {
     }
 
     public void setConstraints(List<ConstraintState> constraints) {
+        checkNotFrozen();
         this.constraints = constraints;
     }
 
     public void addParameters(String... params) {
+        checkNotFrozen();
         if (parameters == null) {
             parameters = new ArrayList<String>();
         }
@@ -245,12 +264,26 @@ public class AlterExpression {
         return b.toString();
     }
 
-    public static class ColumnDataType {
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
+
+    public static class ColumnDataType extends Freezable {
 
         private final String columnName;
         private final ColDataType colDataType;
         private final List<String> columnSpecs;
 
+        private ColumnDataType() {
+            this(null, null, null);
+        }
+
         public ColumnDataType(String columnName, ColDataType colDataType, List<String> columnSpecs) {
             this.columnName = columnName;
             this.colDataType = colDataType;
@@ -283,6 +316,15 @@ public class AlterExpression {
             }
             return " " + PlainSelect.getStringList(columnSpecs, false, false);
         }
-    }
 
+        @Override
+        public boolean equals(Object obj) {
+            return StructuralEquality.equals(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return StructuralEquality.hashCode(this);
+        }
+    }
 }
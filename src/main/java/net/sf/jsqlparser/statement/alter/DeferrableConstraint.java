@@ -21,10 +21,16 @@
  */
 package net.sf.jsqlparser.statement.alter;
 
-public class DeferrableConstraint implements ConstraintState {
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
+public class DeferrableConstraint extends Freezable implements ConstraintState {
 
     private boolean not;
 
+    private DeferrableConstraint() {
+    }
+
     public DeferrableConstraint(boolean not) {
         this.not = not;
     }
@@ -34,6 +40,7 @@ public class DeferrableConstraint implements ConstraintState {
     }
 
     public void setNot(boolean not) {
+        checkNotFrozen();
         this.not = not;
     }
 
@@ -46,4 +53,14 @@ public class DeferrableConstraint implements ConstraintState {
         b.append("DEFERRABLE");
         return b.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
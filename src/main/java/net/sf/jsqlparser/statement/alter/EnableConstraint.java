@@ -21,10 +21,16 @@
  */
 package net.sf.jsqlparser.statement.alter;
 
-public class EnableConstraint implements ConstraintState {
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
+public class EnableConstraint extends Freezable implements ConstraintState {
 
     private boolean disable;
 
+    private EnableConstraint() {
+    }
+
     public EnableConstraint(boolean disable) {
         this.disable = disable;
     }
@@ -34,6 +40,7 @@ public class EnableConstraint implements ConstraintState {
     }
 
     public void setDisable(boolean disable) {
+        checkNotFrozen();
         this.disable = disable;
     }
 
@@ -41,4 +48,14 @@ public class EnableConstraint implements ConstraintState {
     public String toString() {
         return disable ? "DISABLE" : "ENABLE";
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
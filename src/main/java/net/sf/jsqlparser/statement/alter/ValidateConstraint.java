@@ -21,10 +21,16 @@
  */
 package net.sf.jsqlparser.statement.alter;
 
-public class ValidateConstraint implements ConstraintState {
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
+public class ValidateConstraint extends Freezable implements ConstraintState {
 
     private boolean not;
 
+    private ValidateConstraint() {
+    }
+
     public ValidateConstraint(boolean not) {
         this.not = not;
     }
@@ -34,6 +40,7 @@ public class ValidateConstraint implements ConstraintState {
     }
 
     public void setNot(boolean not) {
+        checkNotFrozen();
         this.not = not;
     }
 
@@ -41,4 +48,14 @@ public class ValidateConstraint implements ConstraintState {
     public String toString() {
         return not ? "NOVALIDATE" : "VALIDATE";
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
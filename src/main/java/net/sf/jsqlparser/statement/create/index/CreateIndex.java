@@ -21,6 +21,8 @@
  */
 package net.sf.jsqlparser.statement.create.index;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.*;
 import net.sf.jsqlparser.statement.*;
 import net.sf.jsqlparser.statement.create.table.*;
@@ -32,7 +34,7 @@ import java.util.*;
  *
  * @author Raymond Augé
  */
-public class CreateIndex implements Statement {
+public class CreateIndex extends Freezable implements Statement {
 
     private Table table;
     private Index index;
@@ -50,6 +52,7 @@ public class CreateIndex implements Statement {
     }
 
     public void setIndex(Index index) {
+        checkNotFrozen();
         this.index = index;
     }
 
@@ -61,6 +64,7 @@ public class CreateIndex implements Statement {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -99,4 +103,13 @@ public class CreateIndex implements Statement {
         return buffer.toString();
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
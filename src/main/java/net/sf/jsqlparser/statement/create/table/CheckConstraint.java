@@ -40,6 +40,7 @@ public class CheckConstraint extends NamedConstraint {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -48,6 +49,7 @@ public class CheckConstraint extends NamedConstraint {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -24,9 +24,11 @@ package net.sf.jsqlparser.statement.create.table;
 import java.util.ArrayList;
 import java.util.List;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
-public class ColDataType {
+public class ColDataType extends Freezable {
 
     private String dataType;
     private List<String> argumentsStringList;
@@ -42,10 +44,12 @@ public class ColDataType {
     }
 
     public void setArgumentsStringList(List<String> list) {
+        checkNotFrozen();
         argumentsStringList = list;
     }
 
     public void setDataType(String string) {
+        checkNotFrozen();
         dataType = string;
     }
 
@@ -54,6 +58,7 @@ public class ColDataType {
     }
 
     public void setCharacterSet(String characterSet) {
+        checkNotFrozen();
         this.characterSet = characterSet;
     }
 
@@ -62,6 +67,7 @@ public class ColDataType {
     }
 
     public void setArrayData(List<Integer> arrayData) {
+        checkNotFrozen();
         this.arrayData = arrayData;
     }
 
@@ -81,4 +87,14 @@ public class ColDataType {
                 + arraySpec.toString()
                 + (characterSet != null ? " CHARACTER SET " + characterSet : "");
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -23,13 +23,15 @@ package net.sf.jsqlparser.statement.create.table;
 
 import java.util.List;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
 /**
  * A column definition in a CREATE TABLE statement.<br>
  * Example: mycol VARCHAR(30) NOT NULL
  */
-public class ColumnDefinition {
+public class ColumnDefinition extends Freezable {
 
     private String columnName;
     private ColDataType colDataType;
@@ -44,6 +46,7 @@ public class ColumnDefinition {
     }
 
     public void setColumnSpecStrings(List<String> list) {
+        checkNotFrozen();
         columnSpecStrings = list;
     }
 
@@ -55,6 +58,7 @@ public class ColumnDefinition {
     }
 
     public void setColDataType(ColDataType type) {
+        checkNotFrozen();
         colDataType = type;
     }
 
@@ -63,6 +67,7 @@ public class ColumnDefinition {
     }
 
     public void setColumnName(String string) {
+        checkNotFrozen();
         columnName = string;
     }
 
@@ -71,4 +76,14 @@ public class ColumnDefinition {
         return columnName + " " + colDataType + (columnSpecStrings != null ? " " + PlainSelect.
                 getStringList(columnSpecStrings, false, false) : "");
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -23,6 +23,8 @@ package net.sf.jsqlparser.statement.create.table;
 
 import java.util.List;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
@@ -32,7 +34,7 @@ import net.sf.jsqlparser.statement.select.Select;
 /**
  * A "CREATE TABLE" statement
  */
-public class CreateTable implements Statement {
+public class CreateTable extends Freezable implements Statement {
 
     private Table table;
     private boolean unlogged = false;
@@ -57,6 +59,7 @@ public class CreateTable implements Statement {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -70,6 +73,7 @@ public class CreateTable implements Statement {
     }
 
     public void setUnlogged(boolean unlogged) {
+        checkNotFrozen();
         this.unlogged = unlogged;
     }
 
@@ -81,6 +85,7 @@ public class CreateTable implements Statement {
     }
 
     public void setColumnDefinitions(List<ColumnDefinition> list) {
+        checkNotFrozen();
         columnDefinitions = list;
     }
 
@@ -92,6 +97,7 @@ public class CreateTable implements Statement {
     }
 
     public void setTableOptionsStrings(List<String> list) {
+        checkNotFrozen();
         tableOptionsStrings = list;
     }
 
@@ -100,6 +106,7 @@ public class CreateTable implements Statement {
     }
 
     public void setCreateOptionsStrings(List<String> createOptionsStrings) {
+        checkNotFrozen();
         this.createOptionsStrings = createOptionsStrings;
     }
 
@@ -113,6 +120,7 @@ public class CreateTable implements Statement {
     }
 
     public void setIndexes(List<Index> list) {
+        checkNotFrozen();
         indexes = list;
     }
 
@@ -121,6 +129,7 @@ public class CreateTable implements Statement {
     }
 
     public void setSelect(Select select, boolean parenthesis) {
+        checkNotFrozen();
         this.select = select;
         this.selectParenthesis = parenthesis;
     }
@@ -130,6 +139,7 @@ public class CreateTable implements Statement {
     }
 
     public void setIfNotExists(boolean ifNotExists) {
+        checkNotFrozen();
         this.ifNotExists = ifNotExists;
     }
 
@@ -138,6 +148,7 @@ public class CreateTable implements Statement {
     }
 
     public void setSelectParenthesis(boolean selectParenthesis) {
+        checkNotFrozen();
         this.selectParenthesis = selectParenthesis;
     }
 
@@ -169,4 +180,14 @@ public class CreateTable implements Statement {
 
         return sql;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -37,6 +37,7 @@ public class ExcludeConstraint extends Index {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -42,6 +42,7 @@ public class ForeignKeyIndex extends NamedConstraint {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -50,6 +51,7 @@ public class ForeignKeyIndex extends NamedConstraint {
     }
 
     public void setReferencedColumnNames(List<String> referencedColumnNames) {
+        checkNotFrozen();
         this.referencedColumnNames = referencedColumnNames;
     }
 
@@ -58,6 +60,7 @@ public class ForeignKeyIndex extends NamedConstraint {
     }
 
     public void setOnDeleteReferenceOption(String onDeleteReferenceOption) {
+        checkNotFrozen();
         this.onDeleteReferenceOption = onDeleteReferenceOption;
     }
 
@@ -66,6 +69,7 @@ public class ForeignKeyIndex extends NamedConstraint {
     }
 
     public void setOnUpdateReferenceOption(String onUpdateReferenceOption) {
+        checkNotFrozen();
         this.onUpdateReferenceOption = onUpdateReferenceOption;
     }
 
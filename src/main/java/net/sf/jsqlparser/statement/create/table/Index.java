@@ -23,12 +23,14 @@ package net.sf.jsqlparser.statement.create.table;
 
 import java.util.List;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
 /**
  * An index (unique, primary etc.) in a CREATE TABLE statement
  */
-public class Index {
+public class Index extends Freezable {
 
     private String type;
     private List<String> columnsNames;
@@ -54,14 +56,17 @@ public class Index {
     }
 
     public void setColumnsNames(List<String> list) {
+        checkNotFrozen();
         columnsNames = list;
     }
 
     public void setName(String string) {
+        checkNotFrozen();
         name = string;
     }
 
     public void setType(String string) {
+        checkNotFrozen();
         type = string;
     }
 
@@ -70,6 +75,7 @@ public class Index {
     }
 
     public void setIndexSpec(List<String> idxSpec) {
+        checkNotFrozen();
         this.idxSpec = idxSpec;
     }
 
@@ -79,4 +85,14 @@ public class Index {
         return type + (name != null ? " " + name : "") + " " + PlainSelect.
                 getStringList(columnsNames, true, true) + (!"".equals(idxSpecText) ? " " + idxSpecText : "");
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
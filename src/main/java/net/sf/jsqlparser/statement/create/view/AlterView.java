@@ -22,6 +22,8 @@
 package net.sf.jsqlparser.statement.create.view;
 
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
@@ -31,7 +33,7 @@ import net.sf.jsqlparser.statement.select.SelectBody;
 /**
  * A "CREATE VIEW" statement
  */
-public class AlterView implements Statement {
+public class AlterView extends Freezable implements Statement {
 
     private Table view;
     private SelectBody selectBody;
@@ -52,6 +54,7 @@ public class AlterView implements Statement {
     }
 
     public void setView(Table view) {
+        checkNotFrozen();
         this.view = view;
     }
 
@@ -63,6 +66,7 @@ public class AlterView implements Statement {
     }
 
     public void setSelectBody(SelectBody selectBody) {
+        checkNotFrozen();
         this.selectBody = selectBody;
     }
 
@@ -71,6 +75,7 @@ public class AlterView implements Statement {
     }
 
     public void setColumnNames(List<String> columnNames) {
+        checkNotFrozen();
         this.columnNames = columnNames;
     }
 
@@ -85,4 +90,14 @@ public class AlterView implements Statement {
         sql.append(" AS ").append(selectBody);
         return sql.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -22,6 +22,8 @@
 package net.sf.jsqlparser.statement.create.view;
 
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
@@ -31,7 +33,7 @@ import net.sf.jsqlparser.statement.select.Select;
 /**
  * A "CREATE VIEW" statement
  */
-public class CreateView implements Statement {
+public class CreateView extends Freezable implements Statement {
 
     private Table view;
     private Select select;
@@ -56,6 +58,7 @@ public class CreateView implements Statement {
     }
 
     public void setView(Table view) {
+        checkNotFrozen();
         this.view = view;
     }
 
@@ -70,6 +73,7 @@ public class CreateView implements Statement {
      * @param orReplace was "OR REPLACE" specified?
      */
     public void setOrReplace(boolean orReplace) {
+        checkNotFrozen();
         this.orReplace = orReplace;
     }
 
@@ -78,6 +82,7 @@ public class CreateView implements Statement {
     }
 
     public void setSelect(Select select) {
+        checkNotFrozen();
         this.select = select;
     }
 
@@ -86,6 +91,7 @@ public class CreateView implements Statement {
     }
 
     public void setColumnNames(List<String> columnNames) {
+        checkNotFrozen();
         this.columnNames = columnNames;
     }
 
@@ -94,6 +100,7 @@ public class CreateView implements Statement {
     }
 
     public void setMaterialized(boolean materialized) {
+        checkNotFrozen();
         this.materialized = materialized;
     }
 
@@ -102,6 +109,7 @@ public class CreateView implements Statement {
     }
 
     public void setForce(ForceOption force) {
+        checkNotFrozen();
         this.force = force;
     }
 
@@ -110,6 +118,7 @@ public class CreateView implements Statement {
     }
 
     public void setTemporary(TemporaryOption temp) {
+        checkNotFrozen();
         this.temp = temp;
     }
 
@@ -143,4 +152,14 @@ public class CreateView implements Statement {
         sql.append(" AS ").append(select);
         return sql.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
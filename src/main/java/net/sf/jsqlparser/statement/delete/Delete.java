@@ -22,6 +22,8 @@
 package net.sf.jsqlparser.statement.delete;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
@@ -32,7 +34,7 @@ import net.sf.jsqlparser.statement.select.PlainSelect;
 
 import java.util.List;
 
-public class Delete implements Statement {
+public class Delete extends Freezable implements Statement {
 
     private Table table;
     private List<Table> tables;
@@ -46,6 +48,7 @@ public class Delete implements Statement {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -63,10 +66,12 @@ public class Delete implements Statement {
     }
 
     public void setTable(Table name) {
+        checkNotFrozen();
         table = name;
     }
 
     public void setWhere(Expression expression) {
+        checkNotFrozen();
         where = expression;
     }
 
@@ -75,6 +80,7 @@ public class Delete implements Statement {
     }
 
     public void setLimit(Limit limit) {
+        checkNotFrozen();
         this.limit = limit;
     }
 
@@ -83,6 +89,7 @@ public class Delete implements Statement {
     }
 
     public void setTables(List<Table> tables) {
+        checkNotFrozen();
         this.tables = tables;
     }
 
@@ -91,6 +98,7 @@ public class Delete implements Statement {
     }
 
     public void setJoins(List<Join> joins) {
+        checkNotFrozen();
         this.joins = joins;
     }
 
@@ -131,4 +139,14 @@ public class Delete implements Statement {
         }
         return b.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
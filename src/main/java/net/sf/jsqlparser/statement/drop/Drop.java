@@ -22,13 +22,15 @@
 package net.sf.jsqlparser.statement.drop;
 
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Table;
 
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
-public class Drop implements Statement {
+public class Drop extends Freezable implements Statement {
 
     private String type;
     private Table name;
@@ -53,14 +55,17 @@ public class Drop implements Statement {
     }
 
     public void setName(Table string) {
+        checkNotFrozen();
         name = string;
     }
 
     public void setParameters(List<String> list) {
+        checkNotFrozen();
         parameters = list;
     }
 
     public void setType(String string) {
+        checkNotFrozen();
         type = string;
     }
 
@@ -69,6 +74,7 @@ public class Drop implements Statement {
     }
 
     public void setIfExists(boolean ifExists) {
+        checkNotFrozen();
         this.ifExists = ifExists;
     }
 
@@ -83,4 +89,14 @@ public class Drop implements Statement {
 
         return sql;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
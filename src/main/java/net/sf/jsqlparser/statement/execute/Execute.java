@@ -23,6 +23,8 @@ package net.sf.jsqlparser.statement.execute;
 
 import java.util.List;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
@@ -31,7 +33,7 @@ import net.sf.jsqlparser.statement.select.PlainSelect;
  *
  * @author toben
  */
-public class Execute implements Statement {
+public class Execute extends Freezable implements Statement {
 
     private EXEC_TYPE execType = EXEC_TYPE.EXECUTE;
     private String name;
@@ -42,10 +44,12 @@ public class Execute implements Statement {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
     public void setName(List<String> names) {
+        checkNotFrozen();
         for (String item : names) {
             if (this.name != null) {
                 this.name = this.name + "." + item;
@@ -60,6 +64,7 @@ public class Execute implements Statement {
     }
 
     public void setExprList(ExpressionList exprList) {
+        checkNotFrozen();
         this.exprList = exprList;
     }
 
@@ -68,6 +73,7 @@ public class Execute implements Statement {
     }
 
     public void setExecType(EXEC_TYPE execType) {
+        checkNotFrozen();
         this.execType = execType;
     }
 
@@ -89,4 +95,13 @@ public class Execute implements Statement {
         CALL
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
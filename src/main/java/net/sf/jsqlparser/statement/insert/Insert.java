@@ -25,6 +25,8 @@ import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
@@ -37,7 +39,7 @@ import net.sf.jsqlparser.statement.select.SelectExpressionItem;
  * The insert statement. Every column name in <code>columnNames</code> matches an item in
  * <code>itemsList</code>
  */
-public class Insert implements Statement {
+public class Insert extends Freezable implements Statement {
 
     private Table table;
     private List<Column> columns;
@@ -71,6 +73,7 @@ public class Insert implements Statement {
     }
 
     public void setTable(Table name) {
+        checkNotFrozen();
         table = name;
     }
 
@@ -84,6 +87,7 @@ public class Insert implements Statement {
     }
 
     public void setColumns(List<Column> list) {
+        checkNotFrozen();
         columns = list;
     }
 
@@ -97,6 +101,7 @@ public class Insert implements Statement {
     }
 
     public void setItemsList(ItemsList list) {
+        checkNotFrozen();
         itemsList = list;
     }
 
@@ -105,6 +110,7 @@ public class Insert implements Statement {
     }
 
     public void setUseValues(boolean useValues) {
+        checkNotFrozen();
         this.useValues = useValues;
     }
 
@@ -113,6 +119,7 @@ public class Insert implements Statement {
     }
 
     public void setReturningAllColumns(boolean returningAllColumns) {
+        checkNotFrozen();
         this.returningAllColumns = returningAllColumns;
     }
 
@@ -121,6 +128,7 @@ public class Insert implements Statement {
     }
 
     public void setReturningExpressionList(List<SelectExpressionItem> returningExpressionList) {
+        checkNotFrozen();
         this.returningExpressionList = returningExpressionList;
     }
 
@@ -129,6 +137,7 @@ public class Insert implements Statement {
     }
 
     public void setSelect(Select select) {
+        checkNotFrozen();
         this.select = select;
     }
 
@@ -137,6 +146,7 @@ public class Insert implements Statement {
     }
 
     public void setUseSelectBrackets(boolean useSelectBrackets) {
+        checkNotFrozen();
         this.useSelectBrackets = useSelectBrackets;
     }
 
@@ -145,6 +155,7 @@ public class Insert implements Statement {
     }
 
     public void setUseDuplicate(boolean useDuplicate) {
+        checkNotFrozen();
         this.useDuplicate = useDuplicate;
     }
 
@@ -153,6 +164,7 @@ public class Insert implements Statement {
     }
 
     public void setDuplicateUpdateColumns(List<Column> duplicateUpdateColumns) {
+        checkNotFrozen();
         this.duplicateUpdateColumns = duplicateUpdateColumns;
     }
 
@@ -161,6 +173,7 @@ public class Insert implements Statement {
     }
 
     public void setDuplicateUpdateExpressionList(List<Expression> duplicateUpdateExpressionList) {
+        checkNotFrozen();
         this.duplicateUpdateExpressionList = duplicateUpdateExpressionList;
     }
 
@@ -169,6 +182,7 @@ public class Insert implements Statement {
     }
 
     public void setModifierPriority(InsertModifierPriority modifierPriority) {
+        checkNotFrozen();
         this.modifierPriority = modifierPriority;
     }
 
@@ -177,10 +191,12 @@ public class Insert implements Statement {
     }
 
     public void setModifierIgnore(boolean modifierIgnore) {
+        checkNotFrozen();
         this.modifierIgnore = modifierIgnore;
     }
     
     public void setUseSet(boolean useSet) {
+        checkNotFrozen();
         this.useSet = useSet;
     }
     
@@ -189,6 +205,7 @@ public class Insert implements Statement {
     }
     
     public void setSetColumns(List<Column> setColumns) {
+        checkNotFrozen();
         this.setColumns = setColumns;
     }
     
@@ -197,6 +214,7 @@ public class Insert implements Statement {
     }
     
     public void setSetExpressionList(List<Expression> setExpressionList) {
+        checkNotFrozen();
         this.setExpressionList = setExpressionList;
     }
     
@@ -271,4 +289,14 @@ public class Insert implements Statement {
         return sql.toString();
     }
     
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
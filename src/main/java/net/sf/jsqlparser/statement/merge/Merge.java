@@ -23,6 +23,8 @@ package net.sf.jsqlparser.statement.merge;
 
 import net.sf.jsqlparser.expression.Alias;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
@@ -33,7 +35,7 @@ import net.sf.jsqlparser.statement.select.SubSelect;
  *
  * @author tw
  */
-public class Merge implements Statement {
+public class Merge extends Freezable implements Statement {
 
     private Table table;
     private Table usingTable;
@@ -49,6 +51,7 @@ public class Merge implements Statement {
     }
 
     public void setTable(Table name) {
+        checkNotFrozen();
         table = name;
     }
 
@@ -57,6 +60,7 @@ public class Merge implements Statement {
     }
 
     public void setUsingTable(Table usingTable) {
+        checkNotFrozen();
         this.usingTable = usingTable;
     }
 
@@ -65,6 +69,7 @@ public class Merge implements Statement {
     }
 
     public void setUsingSelect(SubSelect usingSelect) {
+        checkNotFrozen();
         this.usingSelect = usingSelect;
         if (this.usingSelect != null) {
             this.usingSelect.setUseBrackets(false);
@@ -76,6 +81,7 @@ public class Merge implements Statement {
     }
 
     public void setUsingAlias(Alias usingAlias) {
+        checkNotFrozen();
         this.usingAlias = usingAlias;
     }
 
@@ -84,6 +90,7 @@ public class Merge implements Statement {
     }
 
     public void setOnCondition(Expression onCondition) {
+        checkNotFrozen();
         this.onCondition = onCondition;
     }
 
@@ -92,6 +99,7 @@ public class Merge implements Statement {
     }
 
     public void setMergeInsert(MergeInsert insert) {
+        checkNotFrozen();
         this.mergeInsert = insert;
     }
 
@@ -100,6 +108,7 @@ public class Merge implements Statement {
     }
 
     public void setMergeUpdate(MergeUpdate mergeUpdate) {
+        checkNotFrozen();
         this.mergeUpdate = mergeUpdate;
     }
 
@@ -113,6 +122,7 @@ public class Merge implements Statement {
     }
 
     public void setInsertFirst(boolean insertFirst) {
+        checkNotFrozen();
         this.insertFirst = insertFirst;
     }
 
@@ -153,4 +163,14 @@ public class Merge implements Statement {
 
         return b.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -23,6 +23,8 @@ package net.sf.jsqlparser.statement.merge;
 
 import java.util.List;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
@@ -30,7 +32,7 @@ import net.sf.jsqlparser.statement.select.PlainSelect;
  *
  * @author toben
  */
-public class MergeInsert {
+public class MergeInsert extends Freezable {
 
     private List<Column> columns = null;
     private List<Expression> values = null;
@@ -40,6 +42,7 @@ public class MergeInsert {
     }
 
     public void setColumns(List<Column> columns) {
+        checkNotFrozen();
         this.columns = columns;
     }
 
@@ -48,6 +51,7 @@ public class MergeInsert {
     }
 
     public void setValues(List<Expression> values) {
+        checkNotFrozen();
         this.values = values;
     }
 
@@ -57,4 +61,14 @@ public class MergeInsert {
                 + (columns.isEmpty() ? "" : PlainSelect.getStringList(columns, true, true))
                 + " VALUES " + PlainSelect.getStringList(values, true, true);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -23,13 +23,15 @@ package net.sf.jsqlparser.statement.merge;
 
 import java.util.List;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Column;
 
 /**
  *
  * @author toben
  */
-public class MergeUpdate {
+public class MergeUpdate extends Freezable {
 
     private List<Column> columns = null;
     private List<Expression> values = null;
@@ -41,6 +43,7 @@ public class MergeUpdate {
     }
 
     public void setColumns(List<Column> columns) {
+        checkNotFrozen();
         this.columns = columns;
     }
 
@@ -49,6 +52,7 @@ public class MergeUpdate {
     }
 
     public void setValues(List<Expression> values) {
+        checkNotFrozen();
         this.values = values;
     }
 
@@ -57,6 +61,7 @@ public class MergeUpdate {
     }
 
     public void setWhereCondition(Expression whereCondition) {
+        checkNotFrozen();
         this.whereCondition = whereCondition;
     }
 
@@ -65,6 +70,7 @@ public class MergeUpdate {
     }
 
     public void setDeleteWhereCondition(Expression deleteWhereCondition) {
+        checkNotFrozen();
         this.deleteWhereCondition = deleteWhereCondition;
     }
 
@@ -86,4 +92,14 @@ public class MergeUpdate {
         }
         return b.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -25,6 +25,8 @@ import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
@@ -34,7 +36,7 @@ import net.sf.jsqlparser.statement.select.PlainSelect;
 /**
  * The replace statement.
  */
-public class Replace implements Statement {
+public class Replace extends Freezable implements Statement {
 
     private Table table;
     private List<Column> columns;
@@ -53,6 +55,7 @@ public class Replace implements Statement {
     }
 
     public void setTable(Table name) {
+        checkNotFrozen();
         table = name;
     }
 
@@ -61,6 +64,7 @@ public class Replace implements Statement {
     }
 
     public void setUseIntoTables(boolean useIntoTables) {
+        checkNotFrozen();
         this.useIntoTables = useIntoTables;
     }
 
@@ -83,10 +87,12 @@ public class Replace implements Statement {
     }
 
     public void setColumns(List<Column> list) {
+        checkNotFrozen();
         columns = list;
     }
 
     public void setItemsList(ItemsList list) {
+        checkNotFrozen();
         itemsList = list;
     }
 
@@ -100,6 +106,7 @@ public class Replace implements Statement {
     }
 
     public void setExpressions(List<Expression> list) {
+        checkNotFrozen();
         expressions = list;
     }
 
@@ -108,6 +115,7 @@ public class Replace implements Statement {
     }
 
     public void setUseValues(boolean useValues) {
+        checkNotFrozen();
         this.useValues = useValues;
     }
 
@@ -146,4 +154,14 @@ public class Replace implements Statement {
 
         return sql.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
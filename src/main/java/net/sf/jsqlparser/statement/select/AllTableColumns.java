@@ -43,6 +43,7 @@ public class AllTableColumns extends ASTNodeAccessImpl implements SelectItem {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -22,11 +22,13 @@
 package net.sf.jsqlparser.statement.select;
 
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * A DISTINCT [ON (expression, ...)] clause
  */
-public class Distinct {
+public class Distinct extends Freezable {
 
     private List<SelectItem> onSelectItems;
     private boolean useUnique = false;
@@ -48,6 +50,7 @@ public class Distinct {
     }
 
     public void setOnSelectItems(List<SelectItem> list) {
+        checkNotFrozen();
         onSelectItems = list;
     }
 
@@ -56,6 +59,7 @@ public class Distinct {
     }
 
     public void setUseUnique(boolean useUnique) {
+        checkNotFrozen();
         this.useUnique = useUnique;
     }
 
@@ -69,4 +73,14 @@ public class Distinct {
 
         return sql;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -23,8 +23,10 @@ package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Alias;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
-public class ExpressionListItem {
+public class ExpressionListItem extends Freezable {
 
     private ExpressionList expressionList;
     private Alias alias;
@@ -34,6 +36,7 @@ public class ExpressionListItem {
     }
 
     public void setExpressionList(ExpressionList expressionList) {
+        checkNotFrozen();
         this.expressionList = expressionList;
     }
 
@@ -42,6 +45,7 @@ public class ExpressionListItem {
     }
 
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -49,4 +53,14 @@ public class ExpressionListItem {
     public String toString() {
         return expressionList + ((alias != null) ? alias.toString() : "");
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
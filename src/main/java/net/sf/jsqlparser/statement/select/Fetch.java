@@ -22,11 +22,13 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * A fetch clause in the form FETCH (FIRST | NEXT) row_count (ROW | ROWS) ONLY
  */
-public class Fetch {
+public class Fetch extends Freezable {
 
     private long rowCount;
     private JdbcParameter fetchJdbcParameter = null;
@@ -38,6 +40,7 @@ public class Fetch {
     }
 
     public void setRowCount(long l) {
+        checkNotFrozen();
         rowCount = l;
     }
 
@@ -54,14 +57,17 @@ public class Fetch {
     }
 
     public void setFetchJdbcParameter(JdbcParameter jdbc) {
+        checkNotFrozen();
         fetchJdbcParameter = jdbc;
     }
 
     public void setFetchParam(String s) {
+        checkNotFrozen();
         this.fetchParam = s;
     }
 
     public void setFetchParamFirst(boolean b) {
+        checkNotFrozen();
         this.isFetchParamFirst = b;
     }
 
@@ -71,4 +77,14 @@ public class Fetch {
                 + (fetchJdbcParameter!=null ? fetchJdbcParameter.toString() : 
                     Long.toString(rowCount)) + " " + fetchParam + " ONLY";
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
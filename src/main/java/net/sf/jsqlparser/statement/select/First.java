@@ -22,6 +22,8 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * A FIRST clause in the form [FIRST row_count] the alternative form [LIMIT row_count] is also
@@ -30,7 +32,7 @@ import net.sf.jsqlparser.expression.JdbcParameter;
  * Initial implementation was done for informix special syntax:
  * http://www-01.ibm.com/support/knowledgecenter/SSGU8G_12.1.0/com.ibm.sqls.doc/ids_sqs_0156.htm
  */
-public class First {
+public class First extends Freezable {
 
     public enum Keyword {
         FIRST,
@@ -47,6 +49,7 @@ public class First {
     }
 
     public void setRowCount(Long rowCount) {
+        checkNotFrozen();
         this.rowCount = rowCount;
     }
 
@@ -55,6 +58,7 @@ public class First {
     }
 
     public void setJdbcParameter(JdbcParameter jdbcParameter) {
+        checkNotFrozen();
         this.jdbcParameter = jdbcParameter;
     }
 
@@ -63,6 +67,7 @@ public class First {
     }
 
     public void setKeyword(Keyword keyword) {
+        checkNotFrozen();
         this.keyword = keyword;
     }
 
@@ -71,6 +76,7 @@ public class First {
     }
 
     public void setVariable(String variable) {
+        checkNotFrozen();
         this.variable = variable;
     }
 
@@ -88,4 +94,14 @@ public class First {
 
         return result;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -23,8 +23,10 @@ package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Alias;
 import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
-public class FunctionItem {
+public class FunctionItem extends Freezable {
 
     private Function function;
     private Alias alias;
@@ -34,6 +36,7 @@ public class FunctionItem {
     }
 
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -42,6 +45,7 @@ public class FunctionItem {
     }
 
     public void setFunction(Function function) {
+        checkNotFrozen();
         this.function = function;
     }
 
@@ -49,4 +53,14 @@ public class FunctionItem {
     public String toString() {
         return function + ((alias != null) ? alias.toString() : "");
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -55,6 +55,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setSimple(boolean b) {
+        checkNotFrozen();
         simple = b;
     }
 
@@ -68,6 +69,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setInner(boolean b) {
+        checkNotFrozen();
         inner = b;
     }
 
@@ -81,6 +83,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setOuter(boolean b) {
+        checkNotFrozen();
         outer = b;
     }
 
@@ -94,6 +97,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setSemi(boolean b) {
+        checkNotFrozen();
         semi = b;
     }
 
@@ -107,6 +111,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setLeft(boolean b) {
+        checkNotFrozen();
         left = b;
     }
 
@@ -120,6 +125,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setRight(boolean b) {
+        checkNotFrozen();
         right = b;
     }
 
@@ -133,6 +139,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setNatural(boolean b) {
+        checkNotFrozen();
         natural = b;
     }
 
@@ -146,6 +153,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setFull(boolean b) {
+        checkNotFrozen();
         full = b;
     }
 
@@ -154,6 +162,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setCross(boolean cross) {
+        checkNotFrozen();
         this.cross = cross;
     }
 
@@ -165,6 +174,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setRightItem(FromItem item) {
+        checkNotFrozen();
         rightItem = item;
     }
 
@@ -176,6 +186,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setOnExpression(Expression expression) {
+        checkNotFrozen();
         onExpression = expression;
     }
 
@@ -187,6 +198,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setUsingColumns(List<Column> list) {
+        checkNotFrozen();
         usingColumns = list;
     }
 
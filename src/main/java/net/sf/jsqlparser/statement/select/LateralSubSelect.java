@@ -22,19 +22,22 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * A lateral subselect followed by an alias.
  *
  * @author Tobias Warneke
  */
-public class LateralSubSelect implements FromItem {
+public class LateralSubSelect extends Freezable implements FromItem {
 
     private SubSelect subSelect;
     private Alias alias;
     private Pivot pivot;
 
     public void setSubSelect(SubSelect subSelect) {
+        checkNotFrozen();
         this.subSelect = subSelect;
     }
 
@@ -54,6 +57,7 @@ public class LateralSubSelect implements FromItem {
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -64,6 +68,7 @@ public class LateralSubSelect implements FromItem {
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
         this.pivot = pivot;
     }
 
@@ -73,4 +78,14 @@ public class LateralSubSelect implements FromItem {
                 + ((alias != null) ? alias.toString() : "")
                 + ((pivot != null) ? " " + pivot : "");
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -43,10 +43,12 @@ public class Limit extends ASTNodeAccessImpl {
     }
 
     public void setOffset(Expression l) {
+        checkNotFrozen();
         offset = l;
     }
 
     public void setRowCount(Expression l) {
+        checkNotFrozen();
         rowCount = l;
     }
 
@@ -58,6 +60,7 @@ public class Limit extends ASTNodeAccessImpl {
     }
 
     public void setLimitAll(boolean b) {
+        checkNotFrozen();
         limitAll = b;
     }
 
@@ -69,6 +72,7 @@ public class Limit extends ASTNodeAccessImpl {
     }
 
     public void setLimitNull(boolean b) {
+        checkNotFrozen();
         limitNull = b;
     }
 
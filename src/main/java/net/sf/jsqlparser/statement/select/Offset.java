@@ -24,11 +24,13 @@ package net.sf.jsqlparser.statement.select;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.JdbcNamedParameter;
 import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * An offset clause in the form OFFSET offset or in the form OFFSET offset (ROW | ROWS)
  */
-public class Offset {
+public class Offset extends Freezable {
 
     private long offset;
     private Expression offsetJdbcParameter = null;
@@ -43,10 +45,12 @@ public class Offset {
     }
 
     public void setOffset(long l) {
+        checkNotFrozen();
         offset = l;
     }
 
     public void setOffsetParam(String s) {
+        checkNotFrozen();
         offsetParam = s;
     }
 
@@ -55,10 +59,12 @@ public class Offset {
     }
 
     public void setOffsetJdbcParameter(JdbcParameter jdbc) {
+        checkNotFrozen();
         offsetJdbcParameter = jdbc;
     }
     
     public void setOffsetJdbcParameter(JdbcNamedParameter jdbc) {
+        checkNotFrozen();
         offsetJdbcParameter = jdbc;
     }
 
@@ -66,4 +72,14 @@ public class Offset {
     public String toString() {
         return " OFFSET " + (offsetJdbcParameter!=null ? offsetJdbcParameter.toString() : offset) + (offsetParam != null ? " " + offsetParam : "");
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
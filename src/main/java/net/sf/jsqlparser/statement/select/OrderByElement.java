@@ -22,11 +22,13 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * An element (column reference) in an "ORDER BY" clause.
  */
-public class OrderByElement {
+public class OrderByElement extends Freezable {
 
     public enum NullOrdering {
 
@@ -48,14 +50,17 @@ public class OrderByElement {
     }
 
     public void setNullOrdering(NullOrdering nullOrdering) {
+        checkNotFrozen();
         this.nullOrdering = nullOrdering;
     }
 
     public void setAsc(boolean b) {
+        checkNotFrozen();
         asc = b;
     }
 
     public void setAscDescPresent(boolean b) {
+        checkNotFrozen();
         ascDesc = b;
     }
 
@@ -72,6 +77,7 @@ public class OrderByElement {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -92,4 +98,14 @@ public class OrderByElement {
         }
         return b.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
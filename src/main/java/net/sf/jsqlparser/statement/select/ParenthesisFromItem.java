@@ -22,11 +22,13 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.*;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * It represents an expression like "(" expression ")"
  */
-public class ParenthesisFromItem implements FromItem {
+public class ParenthesisFromItem extends Freezable implements FromItem {
 
     private FromItem fromItem;
     
@@ -44,6 +46,7 @@ public class ParenthesisFromItem implements FromItem {
     }
 
     public final void setFromItem(FromItem fromItem) {
+        checkNotFrozen();
         this.fromItem = fromItem;
     }
 
@@ -64,6 +67,7 @@ public class ParenthesisFromItem implements FromItem {
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -74,6 +78,17 @@ public class ParenthesisFromItem implements FromItem {
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
         throw new UnsupportedOperationException("Not supported yet."); 
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -21,12 +21,14 @@
  */
 package net.sf.jsqlparser.statement.select;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Column;
 
 import java.util.List;
 import net.sf.jsqlparser.expression.Alias;
 
-public class Pivot {
+public class Pivot extends Freezable {
 
     private List<FunctionItem> functionItems;
     private List<Column> forColumns;
@@ -43,6 +45,7 @@ public class Pivot {
     }
 
     public void setSingleInItems(List<SelectExpressionItem> singleInItems) {
+        checkNotFrozen();
         this.singleInItems = singleInItems;
     }
 
@@ -51,6 +54,7 @@ public class Pivot {
     }
 
     public void setMultiInItems(List<ExpressionListItem> multiInItems) {
+        checkNotFrozen();
         this.multiInItems = multiInItems;
     }
 
@@ -59,6 +63,7 @@ public class Pivot {
     }
 
     public void setFunctionItems(List<FunctionItem> functionItems) {
+        checkNotFrozen();
         this.functionItems = functionItems;
     }
 
@@ -67,6 +72,7 @@ public class Pivot {
     }
 
     public void setForColumns(List<Column> forColumns) {
+        checkNotFrozen();
         this.forColumns = forColumns;
     }
 
@@ -79,6 +85,7 @@ public class Pivot {
     }
 
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -91,4 +98,14 @@ public class Pivot {
                 + " IN " + PlainSelect.getStringList(getInItems(), true, true) + ")"
                 + (alias!=null?alias.toString():"");
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -40,6 +40,7 @@ public class PivotXml extends Pivot {
     }
 
     public void setInSelect(SelectBody inSelect) {
+        checkNotFrozen();
         this.inSelect = inSelect;
     }
 
@@ -48,6 +49,7 @@ public class PivotXml extends Pivot {
     }
 
     public void setInAny(boolean inAny) {
+        checkNotFrozen();
         this.inAny = inAny;
     }
 
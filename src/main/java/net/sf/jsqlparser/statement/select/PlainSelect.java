@@ -67,6 +67,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setUseBrackets(boolean useBrackets) {
+        checkNotFrozen();
         this.useBrackets = useBrackets;
     }
 
@@ -97,18 +98,22 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setFromItem(FromItem item) {
+        checkNotFrozen();
         fromItem = item;
     }
 
     public void setIntoTables(List<Table> intoTables) {
+        checkNotFrozen();
         this.intoTables = intoTables;
     }
 
     public void setSelectItems(List<SelectItem> list) {
+        checkNotFrozen();
         selectItems = list;
     }
 
     public void addSelectItems(SelectItem... items) {
+        checkNotFrozen();
         if (selectItems == null) {
             selectItems = new ArrayList<SelectItem>();
         }
@@ -116,6 +121,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setWhere(Expression where) {
+        checkNotFrozen();
         this.where = where;
     }
 
@@ -129,6 +135,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setJoins(List<Join> list) {
+        checkNotFrozen();
         joins = list;
     }
 
@@ -142,6 +149,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -150,6 +158,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setLimit(Limit limit) {
+        checkNotFrozen();
         this.limit = limit;
     }
 
@@ -158,6 +167,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setOffset(Offset offset) {
+        checkNotFrozen();
         this.offset = offset;
     }
 
@@ -166,6 +176,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setFetch(Fetch fetch) {
+        checkNotFrozen();
         this.fetch = fetch;
     }
 
@@ -174,6 +185,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setTop(Top top) {
+        checkNotFrozen();
         this.top = top;
     }
 
@@ -182,6 +194,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setSkip(Skip skip) {
+        checkNotFrozen();
         this.skip = skip;
     }
 
@@ -190,6 +203,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setFirst(First first) {
+        checkNotFrozen();
         this.first = first;
     }
 
@@ -198,6 +212,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setDistinct(Distinct distinct) {
+        checkNotFrozen();
         this.distinct = distinct;
     }
 
@@ -206,6 +221,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setHaving(Expression expression) {
+        checkNotFrozen();
         having = expression;
     }
 
@@ -220,10 +236,12 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setGroupByColumnReferences(List<Expression> list) {
+        checkNotFrozen();
         groupByColumnReferences = list;
     }
 
     public void addGroupByColumnReference(Expression expr) {
+        checkNotFrozen();
         if (groupByColumnReferences == null) {
             groupByColumnReferences = new ArrayList<Expression>();
         }
@@ -235,6 +253,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setOracleHierarchical(OracleHierarchicalExpression oracleHierarchical) {
+        checkNotFrozen();
         this.oracleHierarchical = oracleHierarchical;
     }
 
@@ -243,6 +262,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setOracleSiblings(boolean oracleSiblings) {
+        checkNotFrozen();
         this.oracleSiblings = oracleSiblings;
     }
 
@@ -251,6 +271,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setForUpdate(boolean forUpdate) {
+        checkNotFrozen();
         this.forUpdate = forUpdate;
     }
 
@@ -259,6 +280,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setForUpdateTable(Table forUpdateTable) {
+        checkNotFrozen();
         this.forUpdateTable = forUpdateTable;
     }
 
@@ -267,6 +289,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setOracleHint(OracleHint oracleHint) {
+        checkNotFrozen();
         this.oracleHint = oracleHint;
     }
 
@@ -276,6 +299,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
      * @param wait the {@link Wait} for this SELECT
      */
     public void setWait(final Wait wait) {
+        checkNotFrozen();
         this.wait = wait;
     }
 
@@ -466,10 +490,12 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setMySqlSqlCalcFoundRows(boolean mySqlCalcFoundRows) {
+        checkNotFrozen();
         this.mySqlSqlCalcFoundRows = mySqlCalcFoundRows;
     }
 
     public void setMySqlSqlNoCache(boolean sqlNoCacheFlagSet) {
+        checkNotFrozen();
         this.sqlNoCacheFlag = sqlNoCacheFlagSet;
     }
 
@@ -24,10 +24,12 @@ package net.sf.jsqlparser.statement.select;
 import java.util.Iterator;
 import java.util.List;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
-public class Select implements Statement {
+public class Select extends Freezable implements Statement {
 
     private SelectBody selectBody;
     private List<WithItem> withItemsList;
@@ -42,6 +44,7 @@ public class Select implements Statement {
     }
 
     public void setSelectBody(SelectBody body) {
+        checkNotFrozen();
         selectBody = body;
     }
 
@@ -68,6 +71,17 @@ public class Select implements Statement {
     }
 
     public void setWithItemsList(List<WithItem> withItemsList) {
+        checkNotFrozen();
         this.withItemsList = withItemsList;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -22,6 +22,8 @@
 package net.sf.jsqlparser.statement.select;
 
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * A database set operation. This operation consists of a list of plainSelects connected by set
@@ -29,7 +31,7 @@ import java.util.List;
  *
  * @author tw
  */
-public class SetOperationList implements SelectBody {
+public class SetOperationList extends Freezable implements SelectBody {
 
     private List<SelectBody> selects;
     private List<Boolean> brackets;
@@ -61,14 +63,17 @@ public class SetOperationList implements SelectBody {
     }
 
     public void setBrackets(List<Boolean> brackets) {
+        checkNotFrozen();
         this.brackets = brackets;
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
     public void setBracketsOpsAndSelects(List<Boolean> brackets, List<SelectBody> select, List<SetOperation> ops) {
+        checkNotFrozen();
         selects = select;
         operations = ops;
         this.brackets = brackets;
@@ -83,6 +88,7 @@ public class SetOperationList implements SelectBody {
     }
 
     public void setLimit(Limit limit) {
+        checkNotFrozen();
         this.limit = limit;
     }
 
@@ -91,6 +97,7 @@ public class SetOperationList implements SelectBody {
     }
 
     public void setOffset(Offset offset) {
+        checkNotFrozen();
         this.offset = offset;
     }
 
@@ -99,6 +106,7 @@ public class SetOperationList implements SelectBody {
     }
 
     public void setFetch(Fetch fetch) {
+        checkNotFrozen();
         this.fetch = fetch;
     }
 
@@ -142,4 +150,14 @@ public class SetOperationList implements SelectBody {
         MINUS,
         UNION
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
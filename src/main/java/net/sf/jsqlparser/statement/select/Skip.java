@@ -22,6 +22,8 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * A skip clause in the form [SKIP row_count]
@@ -29,7 +31,7 @@ import net.sf.jsqlparser.expression.JdbcParameter;
  * Initial implementation was done for informix special syntax:
  * http://www-01.ibm.com/support/knowledgecenter/SSGU8G_12.1.0/com.ibm.sqls.doc/ids_sqs_0156.htm
  */
-public class Skip {
+public class Skip extends Freezable {
 
     private Long rowCount;
     private JdbcParameter jdbcParameter;
@@ -40,6 +42,7 @@ public class Skip {
     }
 
     public void setRowCount(Long rowCount) {
+        checkNotFrozen();
         this.rowCount = rowCount;
     }
 
@@ -48,6 +51,7 @@ public class Skip {
     }
 
     public void setJdbcParameter(JdbcParameter jdbcParameter) {
+        checkNotFrozen();
         this.jdbcParameter = jdbcParameter;
     }
 
@@ -56,6 +60,7 @@ public class Skip {
     }
 
     public void setVariable(String variable) {
+        checkNotFrozen();
         this.variable = variable;
     }
 
@@ -73,4 +78,14 @@ public class Skip {
 
         return result;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
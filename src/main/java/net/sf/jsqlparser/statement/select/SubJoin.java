@@ -24,11 +24,13 @@ package net.sf.jsqlparser.statement.select;
 import net.sf.jsqlparser.expression.Alias;
 
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * A table created by "(tab1 [join tab2]* )".
  */
-public class SubJoin implements FromItem {
+public class SubJoin extends Freezable implements FromItem {
 
     private FromItem left;
     private Alias alias;
@@ -45,6 +47,7 @@ public class SubJoin implements FromItem {
     }
 
     public void setLeft(FromItem l) {
+        checkNotFrozen();
         left = l;
     }
 
@@ -53,6 +56,7 @@ public class SubJoin implements FromItem {
     }
 
     public void setJoinList(List<Join> joinList) {
+        checkNotFrozen();
         this.joinList = joinList;
     }
 
@@ -63,6 +67,7 @@ public class SubJoin implements FromItem {
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
         this.pivot = pivot;
     }
 
@@ -73,6 +78,7 @@ public class SubJoin implements FromItem {
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -87,4 +93,14 @@ public class SubJoin implements FromItem {
         sb.append(")").append((alias != null) ? (" " + alias.toString()) : "").append((pivot != null) ? " " + pivot : "");
         return sb.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -52,6 +52,7 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
     }
 
     public void setSelectBody(SelectBody body) {
+        checkNotFrozen();
         selectBody = body;
     }
 
@@ -67,6 +68,7 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -77,6 +79,7 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
         this.pivot = pivot;
     }
 
@@ -85,6 +88,7 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
     }
 
     public void setUseBrackets(boolean useBrackets) {
+        checkNotFrozen();
         this.useBrackets = useBrackets;
     }
 
@@ -93,6 +97,7 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
     }
 
     public void setWithItemsList(List<WithItem> withItemsList) {
+        checkNotFrozen();
         this.withItemsList = withItemsList;
     }
 
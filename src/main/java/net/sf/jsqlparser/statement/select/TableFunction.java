@@ -35,5 +35,6 @@ public class TableFunction extends FunctionItem implements FromItem {
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
     }
 }
@@ -22,11 +22,13 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * A top clause in the form [TOP (row_count) or TOP row_count]
  */
-public class Top {
+public class Top extends Freezable {
 
     private boolean hasParenthesis = false;
     private boolean isPercentage = false;
@@ -37,6 +39,7 @@ public class Top {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -45,6 +48,7 @@ public class Top {
     }
 
     public void setParenthesis(boolean hasParenthesis) {
+        checkNotFrozen();
         this.hasParenthesis = hasParenthesis;
     }
 
@@ -53,6 +57,7 @@ public class Top {
     }
 
     public void setPercentage(boolean percentage) {
+        checkNotFrozen();
         this.isPercentage = percentage;
     }
 
@@ -76,4 +81,14 @@ public class Top {
 
         return result;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -41,6 +41,7 @@ public class UnionOp extends SetOperation {
     }
 
     public void setAll(boolean all) {
+        checkNotFrozen();
         this.all = all;
     }
 
@@ -49,6 +50,7 @@ public class UnionOp extends SetOperation {
     }
 
     public void setDistinct(boolean distinct) {
+        checkNotFrozen();
         this.distinct = distinct;
     }
 
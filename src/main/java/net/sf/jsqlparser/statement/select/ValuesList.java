@@ -27,6 +27,8 @@ import net.sf.jsqlparser.expression.operators.relational.MultiExpressionList;
 import java.util.Iterator;
 import java.util.List;
 import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * This is a container for a values item within a select statement. It holds some syntactical stuff
@@ -34,7 +36,7 @@ import net.sf.jsqlparser.expression.Alias;
  *
  * @author toben
  */
-public class ValuesList implements FromItem {
+public class ValuesList extends Freezable implements FromItem {
 
     private Alias alias;
     private MultiExpressionList multiExpressionList;
@@ -60,6 +62,7 @@ public class ValuesList implements FromItem {
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -70,6 +73,7 @@ public class ValuesList implements FromItem {
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
     }
 
     public MultiExpressionList getMultiExpressionList() {
@@ -77,6 +81,7 @@ public class ValuesList implements FromItem {
     }
 
     public void setMultiExpressionList(MultiExpressionList multiExpressionList) {
+        checkNotFrozen();
         this.multiExpressionList = multiExpressionList;
     }
 
@@ -85,6 +90,7 @@ public class ValuesList implements FromItem {
     }
 
     public void setNoBrackets(boolean noBrackets) {
+        checkNotFrozen();
         this.noBrackets = noBrackets;
     }
 
@@ -123,6 +129,17 @@ public class ValuesList implements FromItem {
     }
 
     public void setColumnNames(List<String> columnNames) {
+        checkNotFrozen();
         this.columnNames = columnNames;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
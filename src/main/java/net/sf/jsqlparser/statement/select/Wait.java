@@ -10,12 +10,15 @@
  */
 package net.sf.jsqlparser.statement.select;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
+
 /**
  * A timeout applied to SELECT to specify how long to wait for the row on the lock to be released.
  *
  * @author janmonterrubio
  */
-public class Wait {
+public class Wait extends Freezable {
 
     private long timeout;
 
@@ -34,6 +37,7 @@ public class Wait {
      * @param timeout the number of seconds to WAIT for this {@link Wait}
      */
     public void setTimeout(long timeout) {
+        checkNotFrozen();
         this.timeout = timeout;
     }
 
@@ -47,4 +51,14 @@ public class Wait {
     public String toString() {
         return " WAIT " + timeout;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -22,11 +22,13 @@
 package net.sf.jsqlparser.statement.select;
 
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 
 /**
  * One of the parts of a "WITH" clause of a "SELECT" statement
  */
-public class WithItem implements SelectBody {
+public class WithItem extends Freezable implements SelectBody {
 
     private String name;
     private List<SelectItem> withItemList;
@@ -43,6 +45,7 @@ public class WithItem implements SelectBody {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -51,6 +54,7 @@ public class WithItem implements SelectBody {
     }
 
     public void setRecursive(boolean recursive) {
+        checkNotFrozen();
         this.recursive = recursive;
     }
 
@@ -64,6 +68,7 @@ public class WithItem implements SelectBody {
     }
 
     public void setSelectBody(SelectBody selectBody) {
+        checkNotFrozen();
         this.selectBody = selectBody;
     }
 
@@ -77,6 +82,7 @@ public class WithItem implements SelectBody {
     }
 
     public void setWithItemList(List<SelectItem> withItemList) {
+        checkNotFrozen();
         this.withItemList = withItemList;
     }
 
@@ -91,4 +97,14 @@ public class WithItem implements SelectBody {
     public void accept(SelectVisitor visitor) {
         visitor.visit(this);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -21,6 +21,8 @@
  */
 package net.sf.jsqlparser.statement.truncate;
 
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
@@ -28,7 +30,7 @@ import net.sf.jsqlparser.statement.StatementVisitor;
 /**
  * A TRUNCATE TABLE statement
  */
-public class Truncate implements Statement {
+public class Truncate extends Freezable implements Statement {
 
     private Table table;
     boolean cascade;  // to support TRUNCATE TABLE ... CASCADE
@@ -43,6 +45,7 @@ public class Truncate implements Statement {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -51,6 +54,7 @@ public class Truncate implements Statement {
     }
 
     public void setCascade(boolean c){
+        checkNotFrozen();
         cascade=c;
     }
 
@@ -61,4 +65,14 @@ public class Truncate implements Statement {
         }
         return "TRUNCATE TABLE " + table;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -24,6 +24,8 @@ package net.sf.jsqlparser.statement.update;
 import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
@@ -39,7 +41,7 @@ import net.sf.jsqlparser.statement.select.SelectExpressionItem;
 /**
  * The update statement.
  */
-public class Update implements Statement {
+public class Update extends Freezable implements Statement {
 
     private List<Table> tables;
     private Expression where;
@@ -69,10 +71,12 @@ public class Update implements Statement {
     }
 
     public void setTables(List<Table> list) {
+        checkNotFrozen();
         tables = list;
     }
 
     public void setWhere(Expression expression) {
+        checkNotFrozen();
         where = expression;
     }
 
@@ -96,10 +100,12 @@ public class Update implements Statement {
     }
 
     public void setColumns(List<Column> list) {
+        checkNotFrozen();
         columns = list;
     }
 
     public void setExpressions(List<Expression> list) {
+        checkNotFrozen();
         expressions = list;
     }
 
@@ -108,6 +114,7 @@ public class Update implements Statement {
     }
 
     public void setFromItem(FromItem fromItem) {
+        checkNotFrozen();
         this.fromItem = fromItem;
     }
 
@@ -116,6 +123,7 @@ public class Update implements Statement {
     }
 
     public void setJoins(List<Join> joins) {
+        checkNotFrozen();
         this.joins = joins;
     }
 
@@ -124,6 +132,7 @@ public class Update implements Statement {
     }
 
     public void setSelect(Select select) {
+        checkNotFrozen();
         this.select = select;
     }
 
@@ -132,6 +141,7 @@ public class Update implements Statement {
     }
 
     public void setUseColumnsBrackets(boolean useColumnsBrackets) {
+        checkNotFrozen();
         this.useColumnsBrackets = useColumnsBrackets;
     }
 
@@ -140,14 +150,17 @@ public class Update implements Statement {
     }
 
     public void setUseSelect(boolean useSelect) {
+        checkNotFrozen();
         this.useSelect = useSelect;
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
     public void setLimit(Limit limit) {
+        checkNotFrozen();
         this.limit = limit;
     }
 
@@ -164,6 +177,7 @@ public class Update implements Statement {
     }
 
     public void setReturningAllColumns(boolean returningAllColumns) {
+        checkNotFrozen();
         this.returningAllColumns = returningAllColumns;
     }
 
@@ -172,6 +186,7 @@ public class Update implements Statement {
     }
 
     public void setReturningExpressionList(List<SelectExpressionItem> returningExpressionList) {
+        checkNotFrozen();
         this.returningExpressionList = returningExpressionList;
     }
 
@@ -238,4 +253,14 @@ public class Update implements Statement {
 
         return b.toString();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
 }
@@ -25,6 +25,8 @@ import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.StructuralEquality;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
@@ -46,7 +48,7 @@ import net.sf.jsqlparser.statement.select.Select;
  * @author messfish
  *
  */
-public class Upsert implements Statement {
+public class Upsert extends Freezable implements Statement {
 
     private Table table;
     private List<Column> columns;
@@ -64,6 +66,7 @@ public class Upsert implements Statement {
     }
     
     public void setTable(Table name) {
+        checkNotFrozen();
         table = name;
     }
     
@@ -72,6 +75,7 @@ public class Upsert implements Statement {
     }
     
     public void setColumns(List<Column> list) {
+        checkNotFrozen();
         columns = list;
     }
     
@@ -80,6 +84,7 @@ public class Upsert implements Statement {
     }
     
     public void setItemsList(ItemsList list) {
+        checkNotFrozen();
         itemsList = list;
     }
     
@@ -88,6 +93,7 @@ public class Upsert implements Statement {
     }
     
     public void setUseValues(boolean useValues) {
+        checkNotFrozen();
         this.useValues = useValues;
     }
     
@@ -96,6 +102,7 @@ public class Upsert implements Statement {
     }
     
     public void setSelect(Select select) {
+        checkNotFrozen();
         this.select = select;
     }
     
@@ -104,6 +111,7 @@ public class Upsert implements Statement {
     }
     
     public void setUseSelectBrackets(boolean useSelectBrackets) {
+        checkNotFrozen();
         this.useSelectBrackets = useSelectBrackets;
     }
     
@@ -112,6 +120,7 @@ public class Upsert implements Statement {
     }
     
     public void setUseDuplicate(boolean useDuplicate) {
+        checkNotFrozen();
         this.useDuplicate = useDuplicate;
     }
     
@@ -120,6 +129,7 @@ public class Upsert implements Statement {
     }
     
     public void setDuplicateUpdateColumns(List<Column> duplicateUpdateColumns) {
+        checkNotFrozen();
         this.duplicateUpdateColumns = duplicateUpdateColumns;
     }
     
@@ -128,6 +138,7 @@ public class Upsert implements Statement {
     }
     
     public void setDuplicateUpdateExpressionList(List<Expression> duplicateUpdateExpressionList) {
+        checkNotFrozen();
         this.duplicateUpdateExpressionList = duplicateUpdateExpressionList;
     }
     
@@ -176,5 +187,13 @@ public class Upsert implements Statement {
         return sb.toString();
     }
 
-}
+    @Override
+    public boolean equals(Object obj) {
+        return StructuralEquality.equals(this, obj);
+    }
 
+    @Override
+    public int hashCode() {
+        return StructuralEquality.hashCode(this);
+    }
+}
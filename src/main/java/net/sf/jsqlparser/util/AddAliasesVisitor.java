@@ -31,12 +31,15 @@ import java.util.*;
  * recognized and preserved. This class standard uses a prefix of A and a counter to generate new
  * aliases (e.g. A1, A5, ...). This behaviour can be altered.
  *
+ * Each part of a union and the body of a with item get their own aliases, * and t.* are left as
+ * they are. The aliases in use are kept in a hash set, so a select with thousands of columns is
+ * handled in linear time.
+ *
  * @author tw
  */
 public class AddAliasesVisitor implements SelectVisitor, SelectItemVisitor {
 
-    private static final String NOT_SUPPORTED_YET = "Not supported yet.";
-    private List<String> aliases = new LinkedList<String>();
+    private Set<String> aliases = new HashSet<String>();
     private boolean firstRun = true;
     private int counter = 0;
     private String prefix = "A";
@@ -64,7 +67,7 @@ public class AddAliasesVisitor implements SelectVisitor, SelectItemVisitor {
 
     @Override
     public void visit(AllTableColumns allTableColumns) {
-        throw new UnsupportedOperationException(NOT_SUPPORTED_YET);
+        // t.* cannot have an alias
     }
 
     @Override
@@ -78,8 +81,7 @@ public class AddAliasesVisitor implements SelectVisitor, SelectItemVisitor {
 
                 while (true) {
                     String alias = getNextAlias().toUpperCase();
-                    if (!aliases.contains(alias)) {
-                        aliases.add(alias);
+                    if (aliases.add(alias)) {
                         selectExpressionItem.setAlias(new Alias(alias));
                         break;
                     }
@@ -109,11 +111,11 @@ public class AddAliasesVisitor implements SelectVisitor, SelectItemVisitor {
 
     @Override
     public void visit(WithItem withItem) {
-        throw new UnsupportedOperationException(NOT_SUPPORTED_YET); //To change body of generated methods, choose Tools | Templates.
+        withItem.getSelectBody().accept(this);
     }
 
     @Override
     public void visit(AllColumns allColumns) {
-        throw new UnsupportedOperationException(NOT_SUPPORTED_YET); //To change body of generated methods, choose Tools | Templates.
+        // * cannot have an alias
     }
 }
@@ -31,12 +31,18 @@ import java.util.*;
  * select a || b as expr from table. The type of binary expression is set by overwriting this class
  * abstract method createBinaryExpression.
  *
+ * By default the expressions are chained from left to right, (a || b) || c, so the depth of the
+ * result grows with the number of selected expressions. In balanced mode the expressions are split
+ * in halves, (a || b) || (c || d), which keeps the depth logarithmic for thousands of columns. This
+ * prints the same, but is only equivalent for an associative operator, e.g. || or +, not for -.
+ *
  * @author tw
  */
 public abstract class ConnectExpressionsVisitor implements SelectVisitor, SelectItemVisitor {
 
     private String alias = "expr";
-    private final List<SelectExpressionItem> itemsExpr = new LinkedList<SelectExpressionItem>();
+    private final List<SelectExpressionItem> itemsExpr = new ArrayList<SelectExpressionItem>();
+    private boolean balanced = false;
 
     public ConnectExpressionsVisitor() {
     }
@@ -52,22 +58,37 @@ public abstract class ConnectExpressionsVisitor implements SelectVisitor, Select
      */
     protected abstract BinaryExpression createBinaryExpression();
 
+    public boolean isBalanced() {
+        return balanced;
+    }
+
+    /**
+     * Connect the expressions as a balanced tree instead of a chain. Use this only for an
+     * associative binary expression.
+     *
+     * @param balanced
+     */
+    public void setBalanced(boolean balanced) {
+        this.balanced = balanced;
+    }
+
     @Override
     public void visit(PlainSelect plainSelect) {
+        itemsExpr.clear();
         for (SelectItem item : plainSelect.getSelectItems()) {
             item.accept(this);
         }
 
         if (itemsExpr.size() > 1) {
-            BinaryExpression binExpr = createBinaryExpression();
-            binExpr.setLeftExpression(itemsExpr.get(0).getExpression());
-            for (int i = 1; i < itemsExpr.size() - 1; i++) {
-                binExpr.setRightExpression(itemsExpr.get(i).getExpression());
-                BinaryExpression binExpr2 = createBinaryExpression();
-                binExpr2.setLeftExpression(binExpr);
-                binExpr = binExpr2;
+            Expression binExpr;
+            if (balanced) {
+                binExpr = connect(0, itemsExpr.size());
+            } else {
+                binExpr = itemsExpr.get(0).getExpression();
+                for (int i = 1; i < itemsExpr.size(); i++) {
+                    binExpr = connect(binExpr, itemsExpr.get(i).getExpression());
+                }
             }
-            binExpr.setRightExpression(itemsExpr.get(itemsExpr.size() - 1).getExpression());
 
             SelectExpressionItem sei = new SelectExpressionItem();
             sei.setExpression(binExpr);
@@ -79,6 +100,24 @@ public abstract class ConnectExpressionsVisitor implements SelectVisitor, Select
         ((SelectExpressionItem) plainSelect.getSelectItems().get(0)).setAlias(new Alias(alias));
     }
 
+    /**
+     * Connects the expressions of the items from (inclusive) to (exclusive) as a balanced tree.
+     */
+    private Expression connect(int from, int to) {
+        if (to - from == 1) {
+            return itemsExpr.get(from).getExpression();
+        }
+        int middle = (from + to) >>> 1;
+        return connect(connect(from, middle), connect(middle, to));
+    }
+
+    private Expression connect(Expression left, Expression right) {
+        BinaryExpression binExpr = createBinaryExpression();
+        binExpr.setLeftExpression(left);
+        binExpr.setRightExpression(right);
+        return binExpr;
+    }
+
     @Override
     public void visit(SetOperationList setOpList) {
         for (SelectBody select : setOpList.getSelects()) {
@@ -0,0 +1,179 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tables, columns and common table expressions used by a statement, as found by
+ * {@link LineageExtractor}. All sets keep the order in which the items were found.
+ */
+public final class Lineage {
+
+    /**
+     * How a statement uses a table.
+     */
+    public enum Role {
+        /**
+         * The table is read, e.g. by a FROM clause or a subquery.
+         */
+        READ,
+        /**
+         * The table or its definition is changed, e.g. by INSERT, UPDATE, DELETE or DDL statements.
+         */
+        WRITE
+    }
+
+    private final Map<String, Set<Role>> tables = new LinkedHashMap<String, Set<Role>>();
+    private final Set<ColumnReference> columns = new LinkedHashSet<ColumnReference>();
+    private final Set<String> cteNames = new LinkedHashSet<String>();
+    private final Set<String> lowerCaseCteNames = new HashSet<String>();
+
+    Lineage() {
+    }
+
+    void addTable(String name, Role role) {
+        Set<Role> roles = tables.get(name);
+        if (roles == null) {
+            roles = EnumSet.noneOf(Role.class);
+            tables.put(name, roles);
+        }
+        roles.add(role);
+    }
+
+    void addColumn(String table, String name) {
+        columns.add(new ColumnReference(table, name));
+    }
+
+    void addCteName(String name) {
+        if (lowerCaseCteNames.add(name.toLowerCase())) {
+            cteNames.add(name);
+        }
+    }
+
+    /**
+     * All tables used by the statement, with the names as written in the statement. Names of common
+     * table expressions are not included.
+     */
+    public Set<String> getTables() {
+        return Collections.unmodifiableSet(tables.keySet());
+    }
+
+    public Set<String> getReadTables() {
+        return getTables(Role.READ);
+    }
+
+    public Set<String> getWrittenTables() {
+        return getTables(Role.WRITE);
+    }
+
+    private Set<String> getTables(Role role) {
+        Set<String> result = new LinkedHashSet<String>();
+        for (Map.Entry<String, Set<Role>> entry : tables.entrySet()) {
+            if (entry.getValue().contains(role)) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the roles of the table or an empty set if the statement does not use it
+     */
+    public Set<Role> getRoles(String table) {
+        Set<Role> roles = tables.get(table);
+        return roles == null ? Collections.<Role>emptySet() : Collections.unmodifiableSet(roles);
+    }
+
+    public Set<ColumnReference> getColumns() {
+        return Collections.unmodifiableSet(columns);
+    }
+
+    /**
+     * The names of the common table expressions (WITH items) defined by the statement.
+     */
+    public Set<String> getCteNames() {
+        return Collections.unmodifiableSet(cteNames);
+    }
+
+    @Override
+    public String toString() {
+        return "tables=" + tables + ", columns=" + columns + ", cteNames=" + cteNames;
+    }
+
+    /**
+     * A column used by a statement together with the table it belongs to.
+     */
+    public static final class ColumnReference {
+
+        private final String table;
+        private final String columnName;
+
+        ColumnReference(String table, String columnName) {
+            this.table = table;
+            this.columnName = columnName;
+        }
+
+        /**
+         * The table of the column with its name as written in the statement, aliases are resolved.
+         *
+         * @return the table name or null if the column cannot be attributed to a single table, e.g.
+         * an unqualified column of a join or a column of a subquery or common table expression
+         */
+        public String getTable() {
+            return table;
+        }
+
+        public String getColumnName() {
+            return columnName;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ColumnReference)) {
+                return false;
+            }
+            ColumnReference other = (ColumnReference) obj;
+            return columnName.equals(other.columnName)
+                    && (table == null ? other.table == null : table.equals(other.table));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (table == null ? 0 : table.hashCode()) + columnName.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return table == null ? columnName : table + "." + columnName;
+        }
+    }
+}
@@ -0,0 +1,619 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.expression.operators.relational.MultiExpressionList;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Block;
+import net.sf.jsqlparser.statement.Commit;
+import net.sf.jsqlparser.statement.SetStatement;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementVisitor;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.statement.UseStatement;
+import net.sf.jsqlparser.statement.alter.Alter;
+import net.sf.jsqlparser.statement.alter.AlterExpression;
+import net.sf.jsqlparser.statement.create.index.CreateIndex;
+import net.sf.jsqlparser.statement.create.table.ColumnDefinition;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.table.ForeignKeyIndex;
+import net.sf.jsqlparser.statement.create.table.Index;
+import net.sf.jsqlparser.statement.create.view.AlterView;
+import net.sf.jsqlparser.statement.create.view.CreateView;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.execute.Execute;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.merge.Merge;
+import net.sf.jsqlparser.statement.merge.MergeInsert;
+import net.sf.jsqlparser.statement.merge.MergeUpdate;
+import net.sf.jsqlparser.statement.replace.Replace;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.OrderByElement;
+import net.sf.jsqlparser.statement.select.ParenthesisFromItem;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SubJoin;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.statement.select.WithItem;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+import net.sf.jsqlparser.statement.upsert.Upsert;
+
+/**
+ * Finds the tables, columns and common table expressions used by a statement, see {@link Lineage}.
+ * All statement types are supported. The statement is walked once with a {@link TreeWalker}, so deep
+ * expressions do not overflow the stack, and all lookups are hash based.
+ *
+ * <p>
+ * Tables are reported with the names as written in the statement. Tables changed by the statement
+ * (the target of INSERT, UPDATE, DELETE, MERGE, SELECT INTO and of DDL statements) get the role
+ * {@link Lineage.Role#WRITE}, all others {@link Lineage.Role#READ}. Column qualifiers are resolved
+ * against the FROM clauses of the enclosing selects, innermost first, so an alias is reported as its
+ * table. A common table expression hides a table of the same name only in the query that owns its
+ * WITH clause, after its own item unless it is RECURSIVE.</p>
+ *
+ * <pre>
+ * <code>
+ * Lineage lineage = new LineageExtractor().extract(statement);
+ * lineage.getWrittenTables();
+ * </code>
+ * </pre>
+ *
+ * An instance can be reused, but not by several threads at once.
+ */
+public class LineageExtractor implements StatementVisitor {
+
+    private final Walker walker = new Walker();
+    private final List<Scope> scopes = new ArrayList<Scope>();
+
+    /**
+     * Lower case names of the common table expressions visible at the current position, one set per
+     * enclosing WITH clause.
+     */
+    private final List<Set<String>> cteScopes = new ArrayList<Set<String>>();
+
+    /**
+     * Tables of SELECT INTO, which are written although they are walked as from items.
+     */
+    private final Map<Table, Boolean> intoTables = new IdentityHashMap<Table, Boolean>();
+    private Lineage lineage;
+
+    /**
+     * Main entry of this class.
+     *
+     * @return the tables, columns and common table expressions used by the statement
+     */
+    public Lineage extract(Statement statement) {
+        lineage = new Lineage();
+        try {
+            statement.accept(this);
+            return lineage;
+        } finally {
+            scopes.clear();
+            cteScopes.clear();
+            intoTables.clear();
+        }
+    }
+
+    /**
+     * @return the tables, columns and common table expressions used by any of the statements
+     */
+    public Lineage extract(Statements statements) {
+        lineage = new Lineage();
+        try {
+            visit(statements);
+            return lineage;
+        } finally {
+            scopes.clear();
+            cteScopes.clear();
+            intoTables.clear();
+        }
+    }
+
+    private void table(Table table, Lineage.Role role) {
+        if (table != null && table.getName() != null) {
+            lineage.addTable(table.getFullyQualifiedName(), role);
+        }
+    }
+
+    private void column(Table table, String columnName) {
+        if (table != null && table.getName() != null && columnName != null) {
+            lineage.addColumn(table.getFullyQualifiedName(), columnName);
+        }
+    }
+
+    private boolean isCte(Table table) {
+        if (table.getSchemaName() != null || table.getName() == null) {
+            return false;
+        }
+        String name = table.getName().toLowerCase();
+        for (int i = cteScopes.size() - 1; i >= 0; i--) {
+            if (cteScopes.get(i).contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Scope pushScope() {
+        Scope scope = new Scope();
+        scopes.add(scope);
+        return scope;
+    }
+
+    private void popScope() {
+        scopes.remove(scopes.size() - 1);
+    }
+
+    private void addToScope(Scope scope, FromItem fromItem) {
+        if (fromItem instanceof Table) {
+            Table table = (Table) fromItem;
+            if (table.getName() == null) {
+                return;
+            }
+            String name = isCte(table) ? null : table.getFullyQualifiedName();
+            if (table.getAlias() != null) {
+                scope.names.put(table.getAlias().getName().toLowerCase(), name);
+            } else {
+                scope.names.put(table.getName().toLowerCase(), name);
+                if (name != null) {
+                    scope.names.put(name.toLowerCase(), name);
+                }
+            }
+            scope.sources++;
+            scope.single = name;
+        } else if (fromItem instanceof SubJoin) {
+            SubJoin subJoin = (SubJoin) fromItem;
+            addToScope(scope, subJoin.getLeft());
+            addToScope(scope, subJoin.getJoinList());
+        } else if (fromItem instanceof ParenthesisFromItem) {
+            addToScope(scope, ((ParenthesisFromItem) fromItem).getFromItem());
+        } else if (fromItem != null) {
+            if (fromItem.getAlias() != null) {
+                scope.names.put(fromItem.getAlias().getName().toLowerCase(), null);
+            }
+            scope.sources++;
+            scope.single = null;
+        }
+    }
+
+    private void addToScope(Scope scope, List<Join> joins) {
+        if (joins != null) {
+            for (Join join : joins) {
+                addToScope(scope, join.getRightItem());
+            }
+        }
+    }
+
+    /**
+     * Resolve the table of a column using the scopes, innermost first.
+     */
+    private String resolve(Column column) {
+        Table qualifier = column.getTable();
+        if (qualifier == null || qualifier.getName() == null) {
+            if (scopes.isEmpty()) {
+                return null;
+            }
+            Scope scope = scopes.get(scopes.size() - 1);
+            return scope.sources == 1 ? scope.single : null;
+        }
+        String name = qualifier.getFullyQualifiedName();
+        String key = name.toLowerCase();
+        for (int i = scopes.size() - 1; i >= 0; i--) {
+            Map<String, String> names = scopes.get(i).names;
+            if (names.containsKey(key)) {
+                return names.get(key);
+            }
+        }
+        return isCte(qualifier) ? null : name;
+    }
+
+    private void walk(Expression expression) {
+        if (expression != null) {
+            walker.walk(expression);
+        }
+    }
+
+    private void walk(List<? extends Expression> expressions) {
+        if (expressions != null) {
+            for (Expression expression : expressions) {
+                walker.walk(expression);
+            }
+        }
+    }
+
+    private void walk(ItemsList itemsList) {
+        if (itemsList instanceof ExpressionList) {
+            walk(((ExpressionList) itemsList).getExpressions());
+        } else if (itemsList instanceof MultiExpressionList) {
+            for (ExpressionList list : ((MultiExpressionList) itemsList).getExprList()) {
+                walk(list.getExpressions());
+            }
+        } else if (itemsList instanceof Expression) {
+            walker.walk((Expression) itemsList);
+        }
+    }
+
+    private void walkJoins(List<Join> joins) {
+        if (joins != null) {
+            for (Join join : joins) {
+                walker.walk(join.getRightItem());
+                walk(join.getOnExpression());
+                walk(join.getUsingColumns());
+            }
+        }
+    }
+
+    private void walkOrderBy(List<OrderByElement> orderByElements) {
+        if (orderByElements != null) {
+            for (OrderByElement element : orderByElements) {
+                walk(element.getExpression());
+            }
+        }
+    }
+
+    private void walkReturning(List<SelectExpressionItem> items) {
+        if (items != null) {
+            for (SelectExpressionItem item : items) {
+                walk(item.getExpression());
+            }
+        }
+    }
+
+    private void addIndex(Table table, Index index) {
+        if (index instanceof ForeignKeyIndex) {
+            table(((ForeignKeyIndex) index).getTable(), Lineage.Role.READ);
+        }
+        if (index != null && index.getColumnsNames() != null) {
+            for (String columnName : index.getColumnsNames()) {
+                column(table, columnName);
+            }
+        }
+    }
+
+    @Override
+    public void visit(Select select) {
+        if (select != null) {
+            if (select.getWithItemsList() != null) {
+                cteScopes.add(new HashSet<String>());
+                for (WithItem withItem : select.getWithItemsList()) {
+                    walker.walk(withItem);
+                }
+                walker.walk(select.getSelectBody());
+                cteScopes.remove(cteScopes.size() - 1);
+            } else {
+                walker.walk(select.getSelectBody());
+            }
+        }
+    }
+
+    @Override
+    public void visit(Delete delete) {
+        Scope scope = pushScope();
+        addToScope(scope, delete.getTable());
+        addToScope(scope, delete.getJoins());
+        table(delete.getTable(), Lineage.Role.WRITE);
+        if (delete.getTables() != null) {
+            for (Table table : delete.getTables()) {
+                String name = scope.names.get(table.getFullyQualifiedName().toLowerCase());
+                if (name != null) {
+                    lineage.addTable(name, Lineage.Role.WRITE);
+                } else {
+                    table(table, Lineage.Role.WRITE);
+                }
+            }
+        }
+        walkJoins(delete.getJoins());
+        walk(delete.getWhere());
+        walkOrderBy(delete.getOrderByElements());
+        popScope();
+    }
+
+    @Override
+    public void visit(Update update) {
+        Scope scope = pushScope();
+        if (update.getTables() != null) {
+            for (Table table : update.getTables()) {
+                addToScope(scope, table);
+                table(table, Lineage.Role.WRITE);
+            }
+        }
+        addToScope(scope, update.getFromItem());
+        addToScope(scope, update.getJoins());
+        if (update.getFromItem() != null) {
+            walker.walk(update.getFromItem());
+        }
+        walkJoins(update.getJoins());
+        walk(update.getColumns());
+        walk(update.getExpressions());
+        visit(update.getSelect());
+        walk(update.getWhere());
+        walkOrderBy(update.getOrderByElements());
+        walkReturning(update.getReturningExpressionList());
+        popScope();
+    }
+
+    @Override
+    public void visit(Insert insert) {
+        addToScope(pushScope(), insert.getTable());
+        table(insert.getTable(), Lineage.Role.WRITE);
+        walk(insert.getColumns());
+        walk(insert.getItemsList());
+        visit(insert.getSelect());
+        walk(insert.getSetColumns());
+        walk(insert.getSetExpressionList());
+        walk(insert.getDuplicateUpdateColumns());
+        walk(insert.getDuplicateUpdateExpressionList());
+        walkReturning(insert.getReturningExpressionList());
+        popScope();
+    }
+
+    @Override
+    public void visit(Replace replace) {
+        addToScope(pushScope(), replace.getTable());
+        table(replace.getTable(), Lineage.Role.WRITE);
+        walk(replace.getColumns());
+        walk(replace.getItemsList());
+        walk(replace.getExpressions());
+        popScope();
+    }
+
+    @Override
+    public void visit(Upsert upsert) {
+        addToScope(pushScope(), upsert.getTable());
+        table(upsert.getTable(), Lineage.Role.WRITE);
+        walk(upsert.getColumns());
+        walk(upsert.getItemsList());
+        visit(upsert.getSelect());
+        walk(upsert.getDuplicateUpdateColumns());
+        walk(upsert.getDuplicateUpdateExpressionList());
+        popScope();
+    }
+
+    @Override
+    public void visit(Merge merge) {
+        Scope scope = pushScope();
+        addToScope(scope, merge.getTable());
+        table(merge.getTable(), Lineage.Role.WRITE);
+        if (merge.getUsingTable() != null) {
+            addToScope(scope, merge.getUsingTable());
+            if (merge.getUsingAlias() != null && !isCte(merge.getUsingTable())) {
+                scope.names.put(merge.getUsingAlias().getName().toLowerCase(),
+                        merge.getUsingTable().getFullyQualifiedName());
+            }
+            walker.walk(merge.getUsingTable());
+        } else if (merge.getUsingSelect() != null) {
+            scope.sources++;
+            scope.single = null;
+            walker.walk((FromItem) merge.getUsingSelect());
+        }
+        if (merge.getUsingAlias() != null && merge.getUsingTable() == null) {
+            scope.names.put(merge.getUsingAlias().getName().toLowerCase(), null);
+        }
+        walk(merge.getOnCondition());
+        MergeUpdate mergeUpdate = merge.getMergeUpdate();
+        if (mergeUpdate != null) {
+            walk(mergeUpdate.getColumns());
+            walk(mergeUpdate.getValues());
+            walk(mergeUpdate.getWhereCondition());
+            walk(mergeUpdate.getDeleteWhereCondition());
+        }
+        MergeInsert mergeInsert = merge.getMergeInsert();
+        if (mergeInsert != null) {
+            walk(mergeInsert.getColumns());
+            walk(mergeInsert.getValues());
+        }
+        popScope();
+    }
+
+    @Override
+    public void visit(Drop drop) {
+        String type = drop.getType() == null ? "" : drop.getType().toUpperCase();
+        if (type.endsWith("TABLE") || type.endsWith("VIEW")) {
+            table(drop.getName(), Lineage.Role.WRITE);
+        }
+    }
+
+    @Override
+    public void visit(Truncate truncate) {
+        table(truncate.getTable(), Lineage.Role.WRITE);
+    }
+
+    @Override
+    public void visit(CreateIndex createIndex) {
+        table(createIndex.getTable(), Lineage.Role.WRITE);
+        addIndex(createIndex.getTable(), createIndex.getIndex());
+    }
+
+    @Override
+    public void visit(CreateTable createTable) {
+        table(createTable.getTable(), Lineage.Role.WRITE);
+        if (createTable.getColumnDefinitions() != null) {
+            for (ColumnDefinition definition : createTable.getColumnDefinitions()) {
+                column(createTable.getTable(), definition.getColumnName());
+            }
+        }
+        if (createTable.getIndexes() != null) {
+            for (Index index : createTable.getIndexes()) {
+                addIndex(createTable.getTable(), index);
+            }
+        }
+        visit(createTable.getSelect());
+    }
+
+    @Override
+    public void visit(CreateView createView) {
+        table(createView.getView(), Lineage.Role.WRITE);
+        visit(createView.getSelect());
+    }
+
+    @Override
+    public void visit(AlterView alterView) {
+        table(alterView.getView(), Lineage.Role.WRITE);
+        if (alterView.getSelectBody() != null) {
+            walker.walk(alterView.getSelectBody());
+        }
+    }
+
+    @Override
+    public void visit(Alter alter) {
+        Table table = alter.getTable();
+        table(table, Lineage.Role.WRITE);
+        if (alter.getAlterExpressions() != null) {
+            for (AlterExpression expression : alter.getAlterExpressions()) {
+                if (expression.getFkSourceTable() != null) {
+                    lineage.addTable(expression.getFkSourceTable(), Lineage.Role.READ);
+                }
+                addIndex(table, expression.getIndex());
+                column(table, expression.getColumnName());
+                if (expression.getColDataTypeList() != null) {
+                    for (AlterExpression.ColumnDataType columnDataType : expression.getColDataTypeList()) {
+                        column(table, columnDataType.getColumnName());
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void visit(Statements stmts) {
+        if (stmts.getStatements() != null) {
+            for (Statement statement : stmts.getStatements()) {
+                statement.accept(this);
+            }
+        }
+    }
+
+    @Override
+    public void visit(Block block) {
+        if (block.getStatements() != null) {
+            visit(block.getStatements());
+        }
+    }
+
+    @Override
+    public void visit(Execute execute) {
+        if (execute.getExprList() != null) {
+            walk(execute.getExprList().getExpressions());
+        }
+    }
+
+    @Override
+    public void visit(SetStatement set) {
+        walk(set.getExpression());
+    }
+
+    @Override
+    public void visit(UseStatement use) {
+    }
+
+    @Override
+    public void visit(Commit commit) {
+    }
+
+    /**
+     * Names visible in the FROM clause of a select or the target of a data manipulation statement.
+     */
+    private static final class Scope {
+
+        /**
+         * Lower case alias or table name mapped to the table name, null for subqueries and common
+         * table expressions.
+         */
+        private final Map<String, String> names = new HashMap<String, String>();
+        private int sources;
+
+        /**
+         * The table if it is the only item of this scope.
+         */
+        private String single;
+    }
+
+    private final class Walker extends TreeWalker {
+
+        @Override
+        protected boolean enter(Object node) {
+            if (node instanceof PlainSelect) {
+                PlainSelect plainSelect = (PlainSelect) node;
+                Scope scope = pushScope();
+                addToScope(scope, plainSelect.getFromItem());
+                addToScope(scope, plainSelect.getJoins());
+                if (plainSelect.getIntoTables() != null) {
+                    for (Table table : plainSelect.getIntoTables()) {
+                        intoTables.put(table, Boolean.TRUE);
+                    }
+                }
+            } else if (node instanceof SubSelect && ((SubSelect) node).getWithItemsList() != null) {
+                cteScopes.add(new HashSet<String>());
+            }
+            return true;
+        }
+
+        @Override
+        protected void leave(Object node) {
+            if (node instanceof PlainSelect) {
+                popScope();
+            } else if (node instanceof SubSelect && ((SubSelect) node).getWithItemsList() != null) {
+                cteScopes.remove(cteScopes.size() - 1);
+            } else if (node instanceof WithItem) {
+                // visible to the following items and the query of the WITH clause
+                cteScopes.get(cteScopes.size() - 1).add(((WithItem) node).getName().toLowerCase());
+            }
+        }
+
+        @Override
+        public void visit(Table table) {
+            if (table.getName() != null && !isCte(table)) {
+                table(table, intoTables.containsKey(table) ? Lineage.Role.WRITE : Lineage.Role.READ);
+            }
+        }
+
+        @Override
+        public void visit(Column column) {
+            if (column.getColumnName() != null) {
+                lineage.addColumn(resolve(column), column.getColumnName());
+            }
+        }
+
+        @Override
+        public void visit(WithItem withItem) {
+            lineage.addCteName(withItem.getName());
+            if (withItem.isRecursive()) {
+                cteScopes.get(cteScopes.size() - 1).add(withItem.getName().toLowerCase());
+            }
+        }
+    }
+}
@@ -132,11 +132,16 @@ import net.sf.jsqlparser.statement.select.WithItem;
 import net.sf.jsqlparser.statement.truncate.Truncate;
 import net.sf.jsqlparser.statement.update.Update;
 import net.sf.jsqlparser.statement.upsert.Upsert;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultipleExpression;
 
 /**
  * Find all used tables within an select statement.
  *
  * Override extractTableName method to modify the extracted table names (e.g. without schema).
+ *
+ * @see LineageExtractor for all statement types, with columns and read/write roles
  */
 public class TablesNamesFinder implements SelectVisitor, FromItemVisitor, ExpressionVisitor, ItemsListVisitor, SelectItemVisitor, StatementVisitor {
 
@@ -371,6 +376,16 @@ public class TablesNamesFinder implements SelectVisitor, FromItemVisitor, Expres
         visitBinaryExpression(orExpression);
     }
 
+    @Override
+    public void visit(MultiAndExpression andExpression) {
+        visitMultipleExpression(andExpression);
+    }
+
+    @Override
+    public void visit(MultiOrExpression orExpression) {
+        visitMultipleExpression(orExpression);
+    }
+
     @Override
     public void visit(Parenthesis parenthesis) {
         parenthesis.getExpression().accept(this);
@@ -405,6 +420,12 @@ public class TablesNamesFinder implements SelectVisitor, FromItemVisitor, Expres
         binaryExpression.getRightExpression().accept(this);
     }
 
+    public void visitMultipleExpression(MultipleExpression multipleExpression) {
+        for (Expression expression : multipleExpression.getList()) {
+            expression.accept(this);
+        }
+    }
+
     @Override
     public void visit(ExpressionList expressionList) {
         for (Expression expression : expressionList.getExpressions()) {
@@ -0,0 +1,1225 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import net.sf.jsqlparser.expression.*;
+import net.sf.jsqlparser.expression.operators.arithmetic.*;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.*;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.*;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
+
+/**
+ * Walks over expressions, select bodies and from items. Only the first levels of the tree are
+ * walked by recursion, deeper subtrees are walked using an explicit stack, so the depth of the
+ * tree is limited by the heap and not by the thread stack.
+ *
+ * Every node is handed to the matching visit method before its children (pre-order). The visit
+ * methods do nothing here and only need to look at the node itself, the walker takes care of the
+ * children. A visitor built on {@link net.sf.jsqlparser.expression.ExpressionVisitorAdapter} which
+ * overrides only some visit methods can therefore extend this class instead and call
+ * {@link #walk(Expression)}.
+ *
+ * <pre>
+ * <code>
+ * final List&lt;Column&gt; columns = new ArrayList&lt;Column&gt;();
+ * new TreeWalker() {
+ *     &#64;Override
+ *     public void visit(Column column) {
+ *         columns.add(column);
+ *     }
+ * }.walk(select.getSelectBody());
+ * </code>
+ * </pre>
+ *
+ * {@link #enter(Object)} is called before the visit method and can skip a node with its subtree,
+ * {@link #leave(Object)} is called after all children of a node have been walked (post-order).
+ * Subqueries are walked as part of the tree, so a walk over a select body also reaches the select
+ * bodies of its subqueries.
+ */
+public class TreeWalker implements ExpressionVisitor, ItemsListVisitor, SelectVisitor, FromItemVisitor,
+        SelectItemVisitor, PivotVisitor {
+
+    private static final int EXPRESSION = 1;
+    private static final int ITEMS_LIST = 2;
+    private static final int SELECT_BODY = 3;
+    private static final int FROM_ITEM = 4;
+    private static final int SELECT_ITEM = 5;
+    private static final int PIVOT = 6;
+
+    /**
+     * Levels walked by plain recursion, which is faster as long as it fits on the thread stack.
+     */
+    private static final int MAX_RECURSION = 64;
+
+    /**
+     * Whether a class overrides {@link #leave(Object)}, without it no node has to be kept on the
+     * stack until its children are done.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_LEAVE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> c = type; c != TreeWalker.class; c = c.getSuperclass()) {
+                for (Method method : c.getDeclaredMethods()) {
+                    if ("leave".equals(method.getName()) && method.getParameterTypes().length == 1) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    };
+
+    private final ChildCollector children = new ChildCollector();
+    private final boolean leaving = OVERRIDES_LEAVE.get(getClass());
+
+    /**
+     * Pending nodes and their kinds, a negative kind marks a node whose children have been
+     * walked and which only waits for {@link #leave(Object)}.
+     */
+    private Object[] nodes = new Object[64];
+    private int[] kinds = new int[64];
+    private int size = 0;
+    private int depth = 0;
+
+    public void walk(Expression expression) {
+        start(expression, EXPRESSION);
+    }
+
+    public void walk(SelectBody selectBody) {
+        start(selectBody, SELECT_BODY);
+    }
+
+    public void walk(FromItem fromItem) {
+        start(fromItem, FROM_ITEM);
+    }
+
+    /**
+     * Called before a node is visited.
+     *
+     * @param node an expression, items list, select body, from item, select item or pivot
+     * @return false to skip the node, its children and the call to {@link #leave(Object)}
+     */
+    protected boolean enter(Object node) {
+        return true;
+    }
+
+    /**
+     * Called once the node and all its children have been visited.
+     */
+    protected void leave(Object node) {
+    }
+
+    private void start(Object root, int kind) {
+        if (root != null) {
+            // walk may be called again from within a visit method, which starts a new recursion
+            int outerDepth = depth;
+            depth = 0;
+            child(root, kind);
+            depth = outerDepth;
+        }
+    }
+
+    /**
+     * Walks a node and its children. Up to {@link #MAX_RECURSION} levels are walked recursively,
+     * the subtree below a node at that depth is walked from the explicit stack.
+     */
+    private void child(Object node, int kind) {
+        if (depth == MAX_RECURSION) {
+            push(node, kind);
+        } else if (enter(node)) {
+            depth++;
+            if (depth < MAX_RECURSION) {
+                accept(node, kind);
+            } else {
+                int base = size;
+                accept(node, kind);
+                reverse(base, size - 1);
+                drain(base);
+            }
+            depth--;
+            if (leaving) {
+                leave(node);
+            }
+        }
+    }
+
+    private void drain(int base) {
+        while (size > base) {
+            size--;
+            Object node = nodes[size];
+            int kind = kinds[size];
+            nodes[size] = null;
+            if (kind < 0) {
+                leave(node);
+            } else if (enter(node)) {
+                if (leaving) {
+                    push(node, -kind);
+                }
+                int first = size;
+                accept(node, kind);
+                reverse(first, size - 1);
+            }
+        }
+    }
+
+    private void accept(Object node, int kind) {
+        switch (kind) {
+            case EXPRESSION:
+                ((Expression) node).accept(children);
+                break;
+            case ITEMS_LIST:
+                ((ItemsList) node).accept(children);
+                break;
+            case SELECT_BODY:
+                ((SelectBody) node).accept(children);
+                break;
+            case FROM_ITEM:
+                ((FromItem) node).accept(children);
+                break;
+            case SELECT_ITEM:
+                ((SelectItem) node).accept(children);
+                break;
+            default:
+                ((Pivot) node).accept(children);
+                break;
+        }
+    }
+
+    private void push(Object node, int kind) {
+        if (size == nodes.length) {
+            Object[] newNodes = new Object[size * 2];
+            System.arraycopy(nodes, 0, newNodes, 0, size);
+            nodes = newNodes;
+            int[] newKinds = new int[size * 2];
+            System.arraycopy(kinds, 0, newKinds, 0, size);
+            kinds = newKinds;
+        }
+        nodes[size] = node;
+        kinds[size] = kind;
+        size++;
+    }
+
+    /**
+     * Children are collected in order of appearance, reversing them lets the first child be
+     * walked first.
+     */
+    private void reverse(int from, int to) {
+        for (int i = from, j = to; i < j; i++, j--) {
+            Object node = nodes[i];
+            nodes[i] = nodes[j];
+            nodes[j] = node;
+            int kind = kinds[i];
+            kinds[i] = kinds[j];
+            kinds[j] = kind;
+        }
+    }
+
+    @Override
+    public void visit(BitwiseRightShift aThis) {
+    }
+
+    @Override
+    public void visit(BitwiseLeftShift aThis) {
+    }
+
+    @Override
+    public void visit(NullValue nullValue) {
+    }
+
+    @Override
+    public void visit(Function function) {
+    }
+
+    @Override
+    public void visit(SignedExpression signedExpression) {
+    }
+
+    @Override
+    public void visit(JdbcParameter jdbcParameter) {
+    }
+
+    @Override
+    public void visit(JdbcNamedParameter jdbcNamedParameter) {
+    }
+
+    @Override
+    public void visit(DoubleValue doubleValue) {
+    }
+
+    @Override
+    public void visit(LongValue longValue) {
+    }
+
+    @Override
+    public void visit(HexValue hexValue) {
+    }
+
+    @Override
+    public void visit(DateValue dateValue) {
+    }
+
+    @Override
+    public void visit(TimeValue timeValue) {
+    }
+
+    @Override
+    public void visit(TimestampValue timestampValue) {
+    }
+
+    @Override
+    public void visit(Parenthesis parenthesis) {
+    }
+
+    @Override
+    public void visit(StringValue stringValue) {
+    }
+
+    @Override
+    public void visit(Addition addition) {
+    }
+
+    @Override
+    public void visit(Division division) {
+    }
+
+    @Override
+    public void visit(Multiplication multiplication) {
+    }
+
+    @Override
+    public void visit(Subtraction subtraction) {
+    }
+
+    @Override
+    public void visit(AndExpression andExpression) {
+    }
+
+    @Override
+    public void visit(OrExpression orExpression) {
+    }
+
+    @Override
+    public void visit(MultiAndExpression andExpression) {
+    }
+
+    @Override
+    public void visit(MultiOrExpression orExpression) {
+    }
+
+    @Override
+    public void visit(Between between) {
+    }
+
+    @Override
+    public void visit(EqualsTo equalsTo) {
+    }
+
+    @Override
+    public void visit(GreaterThan greaterThan) {
+    }
+
+    @Override
+    public void visit(GreaterThanEquals greaterThanEquals) {
+    }
+
+    @Override
+    public void visit(InExpression inExpression) {
+    }
+
+    @Override
+    public void visit(IsNullExpression isNullExpression) {
+    }
+
+    @Override
+    public void visit(LikeExpression likeExpression) {
+    }
+
+    @Override
+    public void visit(MinorThan minorThan) {
+    }
+
+    @Override
+    public void visit(MinorThanEquals minorThanEquals) {
+    }
+
+    @Override
+    public void visit(NotEqualsTo notEqualsTo) {
+    }
+
+    @Override
+    public void visit(Column tableColumn) {
+    }
+
+    @Override
+    public void visit(SubSelect subSelect) {
+    }
+
+    @Override
+    public void visit(CaseExpression caseExpression) {
+    }
+
+    @Override
+    public void visit(WhenClause whenClause) {
+    }
+
+    @Override
+    public void visit(ExistsExpression existsExpression) {
+    }
+
+    @Override
+    public void visit(AllComparisonExpression allComparisonExpression) {
+    }
+
+    @Override
+    public void visit(AnyComparisonExpression anyComparisonExpression) {
+    }
+
+    @Override
+    public void visit(Concat concat) {
+    }
+
+    @Override
+    public void visit(Matches matches) {
+    }
+
+    @Override
+    public void visit(BitwiseAnd bitwiseAnd) {
+    }
+
+    @Override
+    public void visit(BitwiseOr bitwiseOr) {
+    }
+
+    @Override
+    public void visit(BitwiseXor bitwiseXor) {
+    }
+
+    @Override
+    public void visit(CastExpression cast) {
+    }
+
+    @Override
+    public void visit(Modulo modulo) {
+    }
+
+    @Override
+    public void visit(AnalyticExpression aexpr) {
+    }
+
+    @Override
+    public void visit(ExtractExpression eexpr) {
+    }
+
+    @Override
+    public void visit(IntervalExpression iexpr) {
+    }
+
+    @Override
+    public void visit(OracleHierarchicalExpression oexpr) {
+    }
+
+    @Override
+    public void visit(RegExpMatchOperator rexpr) {
+    }
+
+    @Override
+    public void visit(JsonExpression jsonExpr) {
+    }
+
+    @Override
+    public void visit(JsonOperator jsonExpr) {
+    }
+
+    @Override
+    public void visit(RegExpMySQLOperator regExpMySQLOperator) {
+    }
+
+    @Override
+    public void visit(UserVariable var) {
+    }
+
+    @Override
+    public void visit(NumericBind bind) {
+    }
+
+    @Override
+    public void visit(KeepExpression aexpr) {
+    }
+
+    @Override
+    public void visit(MySQLGroupConcat groupConcat) {
+    }
+
+    @Override
+    public void visit(ValueListExpression valueList) {
+    }
+
+    @Override
+    public void visit(RowConstructor rowConstructor) {
+    }
+
+    @Override
+    public void visit(OracleHint hint) {
+    }
+
+    @Override
+    public void visit(TimeKeyExpression timeKeyExpression) {
+    }
+
+    @Override
+    public void visit(DateTimeLiteralExpression literal) {
+    }
+
+    @Override
+    public void visit(NotExpression aThis) {
+    }
+
+    @Override
+    public void visit(YADAMarkupParameter yadaMarkupParameter) {
+    }
+
+    @Override
+    public void visit(ExpressionList expressionList) {
+    }
+
+    @Override
+    public void visit(MultiExpressionList multiExprList) {
+    }
+
+    @Override
+    public void visit(PlainSelect plainSelect) {
+    }
+
+    @Override
+    public void visit(SetOperationList setOpList) {
+    }
+
+    @Override
+    public void visit(WithItem withItem) {
+    }
+
+    @Override
+    public void visit(Table table) {
+    }
+
+    @Override
+    public void visit(SubJoin subjoin) {
+    }
+
+    @Override
+    public void visit(LateralSubSelect lateralSubSelect) {
+    }
+
+    @Override
+    public void visit(ValuesList valuesList) {
+    }
+
+    @Override
+    public void visit(TableFunction tableFunction) {
+    }
+
+    @Override
+    public void visit(ParenthesisFromItem parenthesisFromItem) {
+    }
+
+    @Override
+    public void visit(AllColumns allColumns) {
+    }
+
+    @Override
+    public void visit(AllTableColumns allTableColumns) {
+    }
+
+    @Override
+    public void visit(SelectExpressionItem selectExpressionItem) {
+    }
+
+    @Override
+    public void visit(Pivot pivot) {
+    }
+
+    @Override
+    public void visit(PivotXml pivot) {
+    }
+
+    /**
+     * Hands the node to the visit method of the walker and pushes its children onto the stack, in
+     * order of appearance. Doing both in one dispatch keeps the calls of the visit methods
+     * monomorphic.
+     */
+    private final class ChildCollector implements ExpressionVisitor, ItemsListVisitor, SelectVisitor,
+            FromItemVisitor, SelectItemVisitor, PivotVisitor {
+
+        private void expression(Expression expression) {
+            if (expression != null) {
+                child(expression, EXPRESSION);
+            }
+        }
+
+        private void expressions(List<? extends Expression> expressions) {
+            if (expressions != null) {
+                for (Expression expression : expressions) {
+                    expression(expression);
+                }
+            }
+        }
+
+        private void binaryExpression(BinaryExpression expression) {
+            expression(expression.getLeftExpression());
+            expression(expression.getRightExpression());
+        }
+
+        private void itemsList(ItemsList itemsList) {
+            if (itemsList != null) {
+                child(itemsList, ITEMS_LIST);
+            }
+        }
+
+        private void selectBody(SelectBody selectBody) {
+            if (selectBody != null) {
+                child(selectBody, SELECT_BODY);
+            }
+        }
+
+        private void fromItem(FromItem fromItem) {
+            if (fromItem != null) {
+                child(fromItem, FROM_ITEM);
+            }
+        }
+
+        private void selectItem(SelectItem selectItem) {
+            child(selectItem, SELECT_ITEM);
+        }
+
+        private void selectItems(List<SelectItem> selectItems) {
+            if (selectItems != null) {
+                for (SelectItem selectItem : selectItems) {
+                    selectItem(selectItem);
+                }
+            }
+        }
+
+        private void pivot(Pivot pivot) {
+            if (pivot != null) {
+                child(pivot, PIVOT);
+            }
+        }
+
+        private void pivotFunctions(Pivot pivot) {
+            for (FunctionItem item : pivot.getFunctionItems()) {
+                expression(item.getFunction());
+            }
+            expressions(pivot.getForColumns());
+        }
+
+        private void joins(List<Join> joins) {
+            if (joins != null) {
+                for (Join join : joins) {
+                    fromItem(join.getRightItem());
+                    expression(join.getOnExpression());
+                    expressions(join.getUsingColumns());
+                }
+            }
+        }
+
+        private void orderByElements(List<OrderByElement> orderByElements) {
+            if (orderByElements != null) {
+                for (OrderByElement element : orderByElements) {
+                    expression(element.getExpression());
+                }
+            }
+        }
+
+        private void windowOffset(WindowOffset offset) {
+            if (offset != null) {
+                expression(offset.getExpression());
+            }
+        }
+
+        private void limit(Limit limit, Offset offset, Fetch fetch) {
+            if (limit != null) {
+                expression(limit.getOffset());
+                expression(limit.getRowCount());
+            }
+            if (offset != null) {
+                expression(offset.getOffsetJdbcParameter());
+            }
+            if (fetch != null) {
+                expression(fetch.getFetchJdbcParameter());
+            }
+        }
+
+        @Override
+        public void visit(BitwiseRightShift aThis) {
+            TreeWalker.this.visit(aThis);
+            binaryExpression(aThis);
+        }
+
+        @Override
+        public void visit(BitwiseLeftShift aThis) {
+            TreeWalker.this.visit(aThis);
+            binaryExpression(aThis);
+        }
+
+        @Override
+        public void visit(NullValue nullValue) {
+            TreeWalker.this.visit(nullValue);
+        }
+
+        @Override
+        public void visit(Function function) {
+            TreeWalker.this.visit(function);
+            itemsList(function.getParameters());
+            expression(function.getKeep());
+        }
+
+        @Override
+        public void visit(SignedExpression signedExpression) {
+            TreeWalker.this.visit(signedExpression);
+            expression(signedExpression.getExpression());
+        }
+
+        @Override
+        public void visit(JdbcParameter jdbcParameter) {
+            TreeWalker.this.visit(jdbcParameter);
+        }
+
+        @Override
+        public void visit(JdbcNamedParameter jdbcNamedParameter) {
+            TreeWalker.this.visit(jdbcNamedParameter);
+        }
+
+        @Override
+        public void visit(DoubleValue doubleValue) {
+            TreeWalker.this.visit(doubleValue);
+        }
+
+        @Override
+        public void visit(LongValue longValue) {
+            TreeWalker.this.visit(longValue);
+        }
+
+        @Override
+        public void visit(HexValue hexValue) {
+            TreeWalker.this.visit(hexValue);
+        }
+
+        @Override
+        public void visit(DateValue dateValue) {
+            TreeWalker.this.visit(dateValue);
+        }
+
+        @Override
+        public void visit(TimeValue timeValue) {
+            TreeWalker.this.visit(timeValue);
+        }
+
+        @Override
+        public void visit(TimestampValue timestampValue) {
+            TreeWalker.this.visit(timestampValue);
+        }
+
+        @Override
+        public void visit(Parenthesis parenthesis) {
+            TreeWalker.this.visit(parenthesis);
+            expression(parenthesis.getExpression());
+        }
+
+        @Override
+        public void visit(StringValue stringValue) {
+            TreeWalker.this.visit(stringValue);
+        }
+
+        @Override
+        public void visit(Addition addition) {
+            TreeWalker.this.visit(addition);
+            binaryExpression(addition);
+        }
+
+        @Override
+        public void visit(Division division) {
+            TreeWalker.this.visit(division);
+            binaryExpression(division);
+        }
+
+        @Override
+        public void visit(Multiplication multiplication) {
+            TreeWalker.this.visit(multiplication);
+            binaryExpression(multiplication);
+        }
+
+        @Override
+        public void visit(Subtraction subtraction) {
+            TreeWalker.this.visit(subtraction);
+            binaryExpression(subtraction);
+        }
+
+        @Override
+        public void visit(AndExpression andExpression) {
+            TreeWalker.this.visit(andExpression);
+            binaryExpression(andExpression);
+        }
+
+        @Override
+        public void visit(OrExpression orExpression) {
+            TreeWalker.this.visit(orExpression);
+            binaryExpression(orExpression);
+        }
+
+        @Override
+        public void visit(MultiAndExpression andExpression) {
+            TreeWalker.this.visit(andExpression);
+            expressions(andExpression.getList());
+        }
+
+        @Override
+        public void visit(MultiOrExpression orExpression) {
+            TreeWalker.this.visit(orExpression);
+            expressions(orExpression.getList());
+        }
+
+        @Override
+        public void visit(Between between) {
+            TreeWalker.this.visit(between);
+            expression(between.getLeftExpression());
+            expression(between.getBetweenExpressionStart());
+            expression(between.getBetweenExpressionEnd());
+        }
+
+        @Override
+        public void visit(EqualsTo equalsTo) {
+            TreeWalker.this.visit(equalsTo);
+            binaryExpression(equalsTo);
+        }
+
+        @Override
+        public void visit(GreaterThan greaterThan) {
+            TreeWalker.this.visit(greaterThan);
+            binaryExpression(greaterThan);
+        }
+
+        @Override
+        public void visit(GreaterThanEquals greaterThanEquals) {
+            TreeWalker.this.visit(greaterThanEquals);
+            binaryExpression(greaterThanEquals);
+        }
+
+        @Override
+        public void visit(InExpression inExpression) {
+            TreeWalker.this.visit(inExpression);
+            expression(inExpression.getLeftExpression());
+            itemsList(inExpression.getLeftItemsList());
+            itemsList(inExpression.getRightItemsList());
+        }
+
+        @Override
+        public void visit(IsNullExpression isNullExpression) {
+            TreeWalker.this.visit(isNullExpression);
+            expression(isNullExpression.getLeftExpression());
+        }
+
+        @Override
+        public void visit(LikeExpression likeExpression) {
+            TreeWalker.this.visit(likeExpression);
+            binaryExpression(likeExpression);
+        }
+
+        @Override
+        public void visit(MinorThan minorThan) {
+            TreeWalker.this.visit(minorThan);
+            binaryExpression(minorThan);
+        }
+
+        @Override
+        public void visit(MinorThanEquals minorThanEquals) {
+            TreeWalker.this.visit(minorThanEquals);
+            binaryExpression(minorThanEquals);
+        }
+
+        @Override
+        public void visit(NotEqualsTo notEqualsTo) {
+            TreeWalker.this.visit(notEqualsTo);
+            binaryExpression(notEqualsTo);
+        }
+
+        @Override
+        public void visit(Column tableColumn) {
+            TreeWalker.this.visit(tableColumn);
+        }
+
+        @Override
+        public void visit(SubSelect subSelect) {
+            TreeWalker.this.visit(subSelect);
+            if (subSelect.getWithItemsList() != null) {
+                for (WithItem item : subSelect.getWithItemsList()) {
+                    selectBody(item);
+                }
+            }
+            selectBody(subSelect.getSelectBody());
+            pivot(subSelect.getPivot());
+        }
+
+        @Override
+        public void visit(CaseExpression caseExpression) {
+            TreeWalker.this.visit(caseExpression);
+            expression(caseExpression.getSwitchExpression());
+            expressions(caseExpression.getWhenClauses());
+            expression(caseExpression.getElseExpression());
+        }
+
+        @Override
+        public void visit(WhenClause whenClause) {
+            TreeWalker.this.visit(whenClause);
+            expression(whenClause.getWhenExpression());
+            expression(whenClause.getThenExpression());
+        }
+
+        @Override
+        public void visit(ExistsExpression existsExpression) {
+            TreeWalker.this.visit(existsExpression);
+            expression(existsExpression.getRightExpression());
+        }
+
+        @Override
+        public void visit(AllComparisonExpression allComparisonExpression) {
+            TreeWalker.this.visit(allComparisonExpression);
+            expression(allComparisonExpression.getSubSelect());
+        }
+
+        @Override
+        public void visit(AnyComparisonExpression anyComparisonExpression) {
+            TreeWalker.this.visit(anyComparisonExpression);
+            expression(anyComparisonExpression.getSubSelect());
+        }
+
+        @Override
+        public void visit(Concat concat) {
+            TreeWalker.this.visit(concat);
+            binaryExpression(concat);
+        }
+
+        @Override
+        public void visit(Matches matches) {
+            TreeWalker.this.visit(matches);
+            binaryExpression(matches);
+        }
+
+        @Override
+        public void visit(BitwiseAnd bitwiseAnd) {
+            TreeWalker.this.visit(bitwiseAnd);
+            binaryExpression(bitwiseAnd);
+        }
+
+        @Override
+        public void visit(BitwiseOr bitwiseOr) {
+            TreeWalker.this.visit(bitwiseOr);
+            binaryExpression(bitwiseOr);
+        }
+
+        @Override
+        public void visit(BitwiseXor bitwiseXor) {
+            TreeWalker.this.visit(bitwiseXor);
+            binaryExpression(bitwiseXor);
+        }
+
+        @Override
+        public void visit(CastExpression cast) {
+            TreeWalker.this.visit(cast);
+            expression(cast.getLeftExpression());
+        }
+
+        @Override
+        public void visit(Modulo modulo) {
+            TreeWalker.this.visit(modulo);
+            binaryExpression(modulo);
+        }
+
+        @Override
+        public void visit(AnalyticExpression aexpr) {
+            TreeWalker.this.visit(aexpr);
+            expression(aexpr.getExpression());
+            expression(aexpr.getOffset());
+            expression(aexpr.getDefaultValue());
+            expression(aexpr.getKeep());
+            itemsList(aexpr.getPartitionExpressionList());
+            orderByElements(aexpr.getOrderByElements());
+            WindowElement window = aexpr.getWindowElement();
+            if (window != null) {
+                if (window.getRange() != null) {
+                    windowOffset(window.getRange().getStart());
+                    windowOffset(window.getRange().getEnd());
+                }
+                windowOffset(window.getOffset());
+            }
+        }
+
+        @Override
+        public void visit(ExtractExpression eexpr) {
+            TreeWalker.this.visit(eexpr);
+            expression(eexpr.getExpression());
+        }
+
+        @Override
+        public void visit(IntervalExpression iexpr) {
+            TreeWalker.this.visit(iexpr);
+        }
+
+        @Override
+        public void visit(OracleHierarchicalExpression oexpr) {
+            TreeWalker.this.visit(oexpr);
+            expression(oexpr.getStartExpression());
+            expression(oexpr.getConnectExpression());
+        }
+
+        @Override
+        public void visit(RegExpMatchOperator rexpr) {
+            TreeWalker.this.visit(rexpr);
+            binaryExpression(rexpr);
+        }
+
+        @Override
+        public void visit(JsonExpression jsonExpr) {
+            TreeWalker.this.visit(jsonExpr);
+            expression(jsonExpr.getColumn());
+        }
+
+        @Override
+        public void visit(JsonOperator jsonExpr) {
+            TreeWalker.this.visit(jsonExpr);
+            binaryExpression(jsonExpr);
+        }
+
+        @Override
+        public void visit(RegExpMySQLOperator regExpMySQLOperator) {
+            TreeWalker.this.visit(regExpMySQLOperator);
+            binaryExpression(regExpMySQLOperator);
+        }
+
+        @Override
+        public void visit(UserVariable var) {
+            TreeWalker.this.visit(var);
+        }
+
+        @Override
+        public void visit(NumericBind bind) {
+            TreeWalker.this.visit(bind);
+        }
+
+        @Override
+        public void visit(KeepExpression aexpr) {
+            TreeWalker.this.visit(aexpr);
+            orderByElements(aexpr.getOrderByElements());
+        }
+
+        @Override
+        public void visit(MySQLGroupConcat groupConcat) {
+            TreeWalker.this.visit(groupConcat);
+            itemsList(groupConcat.getExpressionList());
+            orderByElements(groupConcat.getOrderByElements());
+        }
+
+        @Override
+        public void visit(ValueListExpression valueList) {
+            TreeWalker.this.visit(valueList);
+            itemsList(valueList.getExpressionList());
+        }
+
+        @Override
+        public void visit(RowConstructor rowConstructor) {
+            TreeWalker.this.visit(rowConstructor);
+            itemsList(rowConstructor.getExprList());
+        }
+
+        @Override
+        public void visit(OracleHint hint) {
+            TreeWalker.this.visit(hint);
+        }
+
+        @Override
+        public void visit(TimeKeyExpression timeKeyExpression) {
+            TreeWalker.this.visit(timeKeyExpression);
+        }
+
+        @Override
+        public void visit(DateTimeLiteralExpression literal) {
+            TreeWalker.this.visit(literal);
+        }
+
+        @Override
+        public void visit(NotExpression aThis) {
+            TreeWalker.this.visit(aThis);
+            expression(aThis.getExpression());
+        }
+
+        @Override
+        public void visit(YADAMarkupParameter yadaMarkupParameter) {
+            TreeWalker.this.visit(yadaMarkupParameter);
+        }
+
+        @Override
+        public void visit(ExpressionList expressionList) {
+            TreeWalker.this.visit(expressionList);
+            expressions(expressionList.getExpressions());
+        }
+
+        @Override
+        public void visit(MultiExpressionList multiExprList) {
+            TreeWalker.this.visit(multiExprList);
+            for (ExpressionList list : multiExprList.getExprList()) {
+                itemsList(list);
+            }
+        }
+
+        @Override
+        public void visit(PlainSelect plainSelect) {
+            TreeWalker.this.visit(plainSelect);
+            expression(plainSelect.getOracleHint());
+            if (plainSelect.getDistinct() != null) {
+                selectItems(plainSelect.getDistinct().getOnSelectItems());
+            }
+            if (plainSelect.getTop() != null) {
+                expression(plainSelect.getTop().getExpression());
+            }
+            selectItems(plainSelect.getSelectItems());
+            if (plainSelect.getIntoTables() != null) {
+                for (Table table : plainSelect.getIntoTables()) {
+                    fromItem(table);
+                }
+            }
+            fromItem(plainSelect.getFromItem());
+            joins(plainSelect.getJoins());
+            expression(plainSelect.getWhere());
+            expression(plainSelect.getOracleHierarchical());
+            expressions(plainSelect.getGroupByColumnReferences());
+            expression(plainSelect.getHaving());
+            orderByElements(plainSelect.getOrderByElements());
+            limit(plainSelect.getLimit(), plainSelect.getOffset(), plainSelect.getFetch());
+            fromItem(plainSelect.getForUpdateTable());
+        }
+
+        @Override
+        public void visit(SetOperationList setOpList) {
+            TreeWalker.this.visit(setOpList);
+            if (setOpList.getSelects() != null) {
+                for (SelectBody select : setOpList.getSelects()) {
+                    selectBody(select);
+                }
+            }
+            orderByElements(setOpList.getOrderByElements());
+            limit(setOpList.getLimit(), setOpList.getOffset(), setOpList.getFetch());
+        }
+
+        @Override
+        public void visit(WithItem withItem) {
+            TreeWalker.this.visit(withItem);
+            selectItems(withItem.getWithItemList());
+            selectBody(withItem.getSelectBody());
+        }
+
+        @Override
+        public void visit(Table table) {
+            TreeWalker.this.visit(table);
+            pivot(table.getPivot());
+        }
+
+        @Override
+        public void visit(SubJoin subjoin) {
+            TreeWalker.this.visit(subjoin);
+            fromItem(subjoin.getLeft());
+            joins(subjoin.getJoinList());
+            pivot(subjoin.getPivot());
+        }
+
+        @Override
+        public void visit(LateralSubSelect lateralSubSelect) {
+            TreeWalker.this.visit(lateralSubSelect);
+            fromItem(lateralSubSelect.getSubSelect());
+            pivot(lateralSubSelect.getPivot());
+        }
+
+        @Override
+        public void visit(ValuesList valuesList) {
+            TreeWalker.this.visit(valuesList);
+            itemsList(valuesList.getMultiExpressionList());
+            pivot(valuesList.getPivot());
+        }
+
+        @Override
+        public void visit(TableFunction tableFunction) {
+            TreeWalker.this.visit(tableFunction);
+            expression(tableFunction.getFunction());
+        }
+
+        @Override
+        public void visit(ParenthesisFromItem parenthesisFromItem) {
+            TreeWalker.this.visit(parenthesisFromItem);
+            // a parenthesized from item has no pivot of its own, getPivot() is not supported
+            fromItem(parenthesisFromItem.getFromItem());
+        }
+
+        @Override
+        public void visit(AllColumns allColumns) {
+            TreeWalker.this.visit(allColumns);
+        }
+
+        @Override
+        public void visit(AllTableColumns allTableColumns) {
+            TreeWalker.this.visit(allTableColumns);
+        }
+
+        @Override
+        public void visit(SelectExpressionItem selectExpressionItem) {
+            TreeWalker.this.visit(selectExpressionItem);
+            expression(selectExpressionItem.getExpression());
+        }
+
+        @Override
+        public void visit(Pivot pivot) {
+            TreeWalker.this.visit(pivot);
+            pivotFunctions(pivot);
+            if (pivot.getSingleInItems() != null) {
+                for (SelectExpressionItem item : pivot.getSingleInItems()) {
+                    selectItem(item);
+                }
+            }
+            if (pivot.getMultiInItems() != null) {
+                for (ExpressionListItem item : pivot.getMultiInItems()) {
+                    itemsList(item.getExpressionList());
+                }
+            }
+        }
+
+        @Override
+        public void visit(PivotXml pivot) {
+            TreeWalker.this.visit(pivot);
+            pivotFunctions(pivot);
+            selectBody(pivot.getInSelect());
+        }
+    }
+}
@@ -22,6 +22,7 @@
 package net.sf.jsqlparser.util.cnfexpression;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
@@ -29,6 +30,9 @@ import java.util.Stack;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.NotExpression;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
 import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
 import net.sf.jsqlparser.expression.BinaryExpression;
 
@@ -227,8 +231,11 @@ public class CNFConverter {
     // the expression tree to change the structure of expression tree.
     // notice temp1 will be settled as the root and temp2 will be 
     // settled as the dummy root.
-    private boolean isUsed = false;
-    private CloneHelper clone = new CloneHelper();
+    private final CloneHelper clone = new CloneHelper();
+    private final int maxClauses;
+    // the number of clauses the result may have at most, 0 for no limit.
+    private boolean limitExceeded = false;
+    // whether the last conversion was skipped since the limit was exceeded.
     
     /**
      * this class is mainly used for gather the parent expression,
@@ -249,29 +256,115 @@ public class CNFConverter {
     }
     
     /**
-     * Since the class is only used once, I create this method to make the rest
-     * of the methods private. 
+     * Create a converter without a limit on the size of the result. A converter can be used for
+     * any number of conversions, but not by several threads at once.
+     */
+    public CNFConverter() {
+        this(0);
+    }
+
+    /**
+     * Create a converter that leaves expressions unchanged whose CNF would have more than the
+     * given number of clauses. The CNF of an OR of n ANDs with two terms each has 2^n clauses, so
+     * the limit protects against conditions that would take exponential time and memory.
+     * @param maxClauses the maximum number of clauses of a converted expression, 0 for no limit.
+     */
+    public CNFConverter(int maxClauses) {
+        if (maxClauses < 0) {
+            throw new IllegalArgumentException("maxClauses must not be negative, but was " + maxClauses);
+        }
+        this.maxClauses = maxClauses;
+    }
+
+    /**
+     * Convert an expression without a limit on the size of the result.
      * @param expr the expression that will be converted.
      * @return the converted expression.
      */
     public static Expression convertToCNF(Expression expr) {
-        CNFConverter cnf = new CNFConverter();
-        return cnf.convert(expr);
+        return new CNFConverter().convert(expr);
     }
-    
+
+    /**
+     * Convert an expression unless its CNF would have more than maxClauses clauses.
+     * @param expr the expression that will be converted.
+     * @param maxClauses the maximum number of clauses of the result.
+     * @return the converted expression or the unchanged expression if the limit is exceeded.
+     */
+    public static Expression convertToCNF(Expression expr, int maxClauses) {
+        return new CNFConverter(maxClauses).convert(expr);
+    }
+
+    public int getMaxClauses() {
+        return maxClauses;
+    }
+
+    /**
+     * @return true if the last call of {@link #convert(Expression)} returned the expression
+     * unchanged since its CNF would exceed the maximum number of clauses.
+     */
+    public boolean isLimitExceeded() {
+        return limitExceeded;
+    }
+
+    /**
+     * The number of clauses of the CNF of an expression, computed from the AND, OR and NOT
+     * operators without converting it. Counting stops once the limit is exceeded.
+     * @param express the expression.
+     * @param limit the value to stop counting at.
+     * @return the number of clauses or a value greater than limit.
+     */
+    public static long countClauses(Expression express, long limit) {
+        return countClauses(express, true, limit);
+    }
+
+    private static long countClauses(Expression express, boolean positive, long limit) {
+        if (express instanceof NotExpression) {
+            return countClauses(((NotExpression) express).getExpression(), !positive, limit);
+        }
+        if (express instanceof Parenthesis) {
+            Parenthesis parenthesis = (Parenthesis) express;
+            return countClauses(parenthesis.getExpression(), positive != parenthesis.isNot(), limit);
+        }
+        boolean and;
+        boolean polarity = positive;
+        List<Expression> children;
+        if (express instanceof AndExpression || express instanceof OrExpression) {
+            BinaryExpression binary = (BinaryExpression) express;
+            and = express instanceof AndExpression;
+            polarity = positive != binary.isNot();
+            children = Arrays.asList(binary.getLeftExpression(), binary.getRightExpression());
+        } else if (express instanceof MultipleExpression) {
+            and = express instanceof MultiAndExpression;
+            children = ((MultipleExpression) express).getList();
+        } else {
+            return 1;
+        }
+        /* by De Morgan's law a negated AND becomes an OR and vice versa. */
+        boolean sum = and == polarity;
+        long result = sum ? 0 : 1;
+        for (Expression child : children) {
+            long count = countClauses(child, polarity, limit);
+            result = sum ? result + count : result * count;
+            if (result > limit) {
+                return limit + 1;
+            }
+        }
+        return result;
+    }
+
     /**
      * this method takes an expression tree and converts that into
      * a CNF form. Notice the 5 steps shown above will turn into
-     * 5 different methods. For the sake of testing, I set them public.
-     * return the converted expression.
+     * 5 different methods.
      * @param express the original expression tree.
+     * @return the converted expression, or the original expression if
+     * its CNF has more clauses than allowed.
      */
-    private Expression convert(Expression express) 
-            throws IllegalStateException {
-        if(isUsed) {
-            throw new IllegalStateException("The class could only be used once!");
-        } else {
-            isUsed = true;
+    public Expression convert(Expression express) {
+        limitExceeded = maxClauses > 0 && countClauses(express, maxClauses) > maxClauses;
+        if (limitExceeded) {
+            return express;
         }
         reorder(express);
         pushNotDown();
@@ -282,7 +375,14 @@ public class CNFConverter {
         gather();
         pushAndUp();
         changeBack();
-        return root;
+        Expression result = root;
+        /* release the converted tree, the converter may be used again. */
+        root = null;
+        dummy = null;
+        temp1 = null;
+        temp2 = null;
+        child = null;
+        return result;
     }
     
     /**
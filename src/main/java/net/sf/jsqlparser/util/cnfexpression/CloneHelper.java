@@ -89,6 +89,18 @@ class CloneHelper {
             }
             return result;
         }
+        if(express instanceof MultipleExpression) {
+            /* a condition parsed with flattened AND and OR chains. */
+            MultipleExpression multi = (MultipleExpression) express;
+            List<Expression> list = new ArrayList<Expression>();
+            for(int i=0; i<multi.size(); i++) {
+                list.add(modify(multi.getChild(i)));
+            }
+            if(express instanceof MultiAndExpression) {
+                return new MultiAndExpression(list);
+            }
+            return new MultiOrExpression(list);
+        }
         if(express instanceof BinaryExpression) {
             BinaryExpression binary = (BinaryExpression) express;
             if(binary.isNot()) {
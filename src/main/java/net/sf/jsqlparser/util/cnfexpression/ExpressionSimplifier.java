@@ -0,0 +1,529 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.util.cnfexpression;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.HexValue;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NotExpression;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.SupportsOldOracleJoinSyntax;
+import net.sf.jsqlparser.parser.DeepCopy;
+import net.sf.jsqlparser.schema.Column;
+
+/**
+ * Rewrites a condition into a simplified, canonical form, so that conditions which only differ in
+ * the way they are written give the same string, e.g. for use as a cache key.
+ *
+ * The rewrite is done in one pass over the tree and applies these rules:
+ * <ul>
+ * <li>NOT is pushed down to the leaves (De Morgan, double negation), a negated comparison gets
+ * the inverse operator and negated IS NULL, IN, LIKE, BETWEEN and EXISTS toggle their NOT;</li>
+ * <li>parenthesis are dropped and nested AND and OR terms are flattened into
+ * {@link MultiAndExpression} and {@link MultiOrExpression};</li>
+ * <li>arithmetic on numeric literals is folded, as long as the result is exact;</li>
+ * <li>comparisons of two numeric literals are evaluated, constant terms are absorbed by the AND
+ * or OR around them;</li>
+ * <li>{@code a = a} becomes {@code a IS NOT NULL} and {@code a < a} is false;</li>
+ * <li>a literal on the left side of a comparison is moved to the right side;</li>
+ * <li>duplicate terms are removed, equalities of one column with literals within an OR are
+ * merged into an IN expression and inequalities within an AND into a NOT IN expression;</li>
+ * <li>the terms of an AND or OR and the values of a merged IN list are sorted.</li>
+ * </ul>
+ *
+ * The result accepts the same rows as the original when used as a WHERE, HAVING or ON condition.
+ * It does not keep the difference between false and NULL, so it must not be negated or used as a
+ * value afterwards. A condition that is always true is returned as {@code 1 = 1}, one that is
+ * never true as {@code 1 = 0}.
+ *
+ * The given expression is not changed, unchanged parts are shared with the result. Apart from
+ * sorting the terms the time taken is linear in the size of the condition.
+ */
+public final class ExpressionSimplifier {
+
+    private static final Expression TRUE = new LongValue(1);
+    private static final Expression FALSE = new LongValue(0);
+
+    /**
+     * The text of each term, which terms are sorted by. A junction built here gets its text from
+     * the texts of its terms, so no term is written more than once.
+     */
+    private final Map<Expression, String> keys = new IdentityHashMap<Expression, String>();
+
+    private final Comparator<Expression> byKey = new Comparator<Expression>() {
+        @Override
+        public int compare(Expression o1, Expression o2) {
+            return key(o1).compareTo(key(o2));
+        }
+    };
+
+    private ExpressionSimplifier() {
+    }
+
+    /**
+     * Simplifies the given condition.
+     *
+     * @param expression the condition, it is not changed
+     * @return the simplified condition
+     */
+    public static Expression simplify(Expression expression) {
+        Expression result = new ExpressionSimplifier().simplify(expression, false);
+        if (result == TRUE) {
+            return constant(1);
+        } else if (result == FALSE) {
+            return constant(0);
+        }
+        return result;
+    }
+
+    private static Expression constant(long right) {
+        EqualsTo equalsTo = new EqualsTo();
+        equalsTo.setLeftExpression(new LongValue(1));
+        equalsTo.setRightExpression(new LongValue(right));
+        return equalsTo;
+    }
+
+    private Expression simplify(Expression expression, boolean negated) {
+        if (expression instanceof Parenthesis) {
+            Parenthesis parenthesis = (Parenthesis) expression;
+            return simplify(parenthesis.getExpression(), negated != parenthesis.isNot());
+        } else if (expression instanceof NotExpression) {
+            return simplify(((NotExpression) expression).getExpression(), !negated);
+        } else if (expression instanceof AndExpression || expression instanceof OrExpression
+                || expression instanceof MultipleExpression) {
+            return junction(expression, negated);
+        } else if (expression instanceof ComparisonOperator) {
+            return comparison((ComparisonOperator) expression, negated);
+        } else if (expression instanceof InExpression && values((InExpression) expression) != null) {
+            InExpression in = (InExpression) expression;
+            return values(in.getLeftExpression(), new LinkedHashSet<Expression>(values(in)),
+                    in.isNot() != negated);
+        }
+        return negated ? negate(expression) : expression;
+    }
+
+    private static boolean isAnd(Expression expression) {
+        return expression instanceof AndExpression || expression instanceof MultiAndExpression;
+    }
+
+    private Expression junction(Expression expression, boolean negated) {
+        // a NOT on the AND or OR node itself is applied to its terms
+        boolean childNegated = expression instanceof BinaryExpression
+                ? negated != ((BinaryExpression) expression).isNot() : negated;
+        boolean conjunction = isAnd(expression) != childNegated;
+        List<Expression> children = expression instanceof MultipleExpression
+                ? ((MultipleExpression) expression).getList()
+                : Arrays.asList(((BinaryExpression) expression).getLeftExpression(),
+                        ((BinaryExpression) expression).getRightExpression());
+        Set<Expression> terms = new LinkedHashSet<Expression>();
+        for (Expression child : children) {
+            if (add(simplify(child, childNegated), conjunction, terms)) {
+                return conjunction ? FALSE : TRUE;
+            }
+        }
+        List<Expression> list = mergeValues(terms, conjunction);
+        if (list.isEmpty()) {
+            return conjunction ? TRUE : FALSE;
+        } else if (list.size() == 1) {
+            return list.get(0);
+        }
+        Collections.sort(list, byKey);
+        MultipleExpression result = conjunction ? new MultiAndExpression(list) : new MultiOrExpression(list);
+        keys.put(result, junctionKey(result));
+        return result;
+    }
+
+    private String key(Expression term) {
+        String key = keys.get(term);
+        if (key == null) {
+            key = term.toString();
+            keys.put(term, key);
+        }
+        return key;
+    }
+
+    /**
+     * The same text as {@link MultipleExpression#toString()}, built from the keys of the terms.
+     */
+    private String junctionKey(MultipleExpression junction) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < junction.size(); i++) {
+            if (i > 0) {
+                sb.append(' ').append(junction.getStringExpression()).append(' ');
+            }
+            Expression child = junction.getChild(i);
+            if (junction instanceof MultiAndExpression && child instanceof MultiOrExpression) {
+                sb.append('(').append(key(child)).append(')');
+            } else {
+                sb.append(key(child));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Adds a simplified term to the terms of an AND or OR, unpacking a term of the same kind.
+     * Returns true if the term decides the whole junction.
+     */
+    private static boolean add(Expression term, boolean conjunction, Set<Expression> terms) {
+        if (term == TRUE) {
+            return !conjunction;
+        } else if (term == FALSE) {
+            return conjunction;
+        } else if (conjunction ? term instanceof MultiAndExpression : term instanceof MultiOrExpression) {
+            terms.addAll(((MultipleExpression) term).getList());
+        } else {
+            terms.add(term);
+        }
+        return false;
+    }
+
+    /**
+     * Merges {@code col = literal} and {@code col IN (literals)} terms of an OR per column, and
+     * {@code col <> literal} and {@code col NOT IN (literals)} terms of an AND.
+     */
+    private List<Expression> mergeValues(Set<Expression> terms, boolean not) {
+        Map<Expression, Set<Expression>> values = new LinkedHashMap<Expression, Set<Expression>>();
+        Map<Expression, Integer> positions = new LinkedHashMap<Expression, Integer>();
+        List<Expression> result = new ArrayList<Expression>(terms.size());
+        for (Expression term : terms) {
+            Expression column = null;
+            List<Expression> literals = null;
+            if ((not ? term instanceof NotEqualsTo : term instanceof EqualsTo)
+                    && ((BinaryExpression) term).getLeftExpression() instanceof Column
+                    && isLiteral(((BinaryExpression) term).getRightExpression())) {
+                column = ((BinaryExpression) term).getLeftExpression();
+                literals = Collections.singletonList(((BinaryExpression) term).getRightExpression());
+            } else if (term instanceof InExpression) {
+                literals = ((InExpression) term).isNot() == not ? values((InExpression) term) : null;
+                column = literals == null ? null : ((InExpression) term).getLeftExpression();
+            }
+            if (column == null) {
+                result.add(term);
+                continue;
+            }
+            Set<Expression> set = values.get(column);
+            if (set == null) {
+                set = new LinkedHashSet<Expression>();
+                values.put(column, set);
+                // the merged term takes the place of the first term on this column
+                positions.put(column, result.size());
+                result.add(null);
+            }
+            set.addAll(literals);
+        }
+        for (Map.Entry<Expression, Integer> position : positions.entrySet()) {
+            result.set(position.getValue(), values(position.getKey(), values.get(position.getKey()), not));
+        }
+        return result;
+    }
+
+    private static List<Expression> values(InExpression in) {
+        if (in.getLeftItemsList() != null
+                || !(in.getLeftExpression() instanceof Column)
+                || !(in.getRightItemsList() instanceof ExpressionList)
+                || in.getOldOracleJoinSyntax() != SupportsOldOracleJoinSyntax.NO_ORACLE_JOIN
+                || in.getOraclePriorPosition() != SupportsOldOracleJoinSyntax.NO_ORACLE_PRIOR) {
+            return null;
+        }
+        List<Expression> list = ((ExpressionList) in.getRightItemsList()).getExpressions();
+        if (list == null || list.isEmpty()) {
+            return null;
+        }
+        for (Expression value : list) {
+            if (!isLiteral(value)) {
+                return null;
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Builds {@code column IN (values)} with sorted values, or a comparison for a single value.
+     */
+    private Expression values(Expression column, Set<Expression> set, boolean not) {
+        List<Expression> list = new ArrayList<Expression>(set);
+        if (list.size() == 1) {
+            ComparisonOperator comparison = not ? new NotEqualsTo() : new EqualsTo();
+            comparison.setLeftExpression(column);
+            comparison.setRightExpression(list.get(0));
+            return comparison;
+        }
+        Collections.sort(list, byKey);
+        InExpression in = new InExpression(column, new ExpressionList(list));
+        in.setNot(not);
+        return in;
+    }
+
+    private static boolean isLiteral(Expression expression) {
+        return isNumber(expression) || expression instanceof StringValue
+                || expression instanceof HexValue || expression instanceof DateValue
+                || expression instanceof TimeValue || expression instanceof TimestampValue;
+    }
+
+    private static boolean isNumber(Expression expression) {
+        return expression instanceof LongValue || expression instanceof DoubleValue;
+    }
+
+    private static Expression negate(Expression expression) {
+        if (expression instanceof IsNullExpression) {
+            IsNullExpression isNull = (IsNullExpression) expression;
+            IsNullExpression result = new IsNullExpression();
+            result.setLeftExpression(isNull.getLeftExpression());
+            result.setUseIsNull(isNull.isUseIsNull());
+            result.setNot(!isNull.isNot());
+            return result;
+        } else if (expression instanceof InExpression) {
+            InExpression result = DeepCopy.copyOf((InExpression) expression);
+            result.setNot(!result.isNot());
+            return result;
+        } else if (expression instanceof Between) {
+            Between result = DeepCopy.copyOf((Between) expression);
+            result.setNot(!result.isNot());
+            return result;
+        } else if (expression instanceof ExistsExpression) {
+            ExistsExpression result = DeepCopy.copyOf((ExistsExpression) expression);
+            result.setNot(!result.isNot());
+            return result;
+        } else if (expression instanceof LikeExpression) {
+            LikeExpression result = DeepCopy.copyOf((LikeExpression) expression);
+            if (result.isNot()) {
+                result.removeNot();
+            } else {
+                result.setNot();
+            }
+            return result;
+        }
+        return new NotExpression(expression);
+    }
+
+    private static Expression comparison(ComparisonOperator comparison, boolean negated) {
+        boolean not = negated != comparison.isNot();
+        if (comparison.getOldOracleJoinSyntax() != SupportsOldOracleJoinSyntax.NO_ORACLE_JOIN
+                || comparison.getOraclePriorPosition() != SupportsOldOracleJoinSyntax.NO_ORACLE_PRIOR
+                || !(comparison instanceof EqualsTo || comparison instanceof NotEqualsTo
+                || comparison instanceof GreaterThan || comparison instanceof GreaterThanEquals
+                || comparison instanceof MinorThan || comparison instanceof MinorThanEquals)) {
+            return not ? negate(comparison) : comparison;
+        }
+        Expression left = fold(comparison.getLeftExpression());
+        Expression right = fold(comparison.getRightExpression());
+        // operator as -1 (<), 0 (=) or 1 (>) and whether equality is included
+        int direction = direction(comparison);
+        boolean inclusive = comparison instanceof EqualsTo || comparison instanceof GreaterThanEquals
+                || comparison instanceof MinorThanEquals;
+        if (not) {
+            direction = -direction;
+            inclusive = !inclusive;
+        }
+        if (isNumber(left) && isNumber(right)) {
+            int cmp = number(left).compareTo(number(right));
+            boolean result = direction == 0 ? (cmp == 0) == inclusive
+                    : cmp == 0 ? inclusive : (cmp == direction);
+            return result ? TRUE : FALSE;
+        }
+        if (left instanceof Column && left.equals(right)) {
+            if (!inclusive) {
+                return FALSE;
+            }
+            IsNullExpression isNotNull = new IsNullExpression();
+            isNotNull.setLeftExpression(left);
+            isNotNull.setNot(true);
+            return isNotNull;
+        }
+        if (isLiteral(left) && !isLiteral(right)) {
+            Expression swap = left;
+            left = right;
+            right = swap;
+            direction = -direction;
+        }
+        if (!not && !comparison.isNot() && left == comparison.getLeftExpression() && right == comparison.getRightExpression()
+                && !(comparison instanceof NotEqualsTo)) {
+            return comparison;
+        }
+        ComparisonOperator result = comparison(direction, inclusive);
+        result.setLeftExpression(left);
+        result.setRightExpression(right);
+        return result;
+    }
+
+    private static int direction(ComparisonOperator comparison) {
+        if (comparison instanceof GreaterThan || comparison instanceof GreaterThanEquals) {
+            return 1;
+        } else if (comparison instanceof MinorThan || comparison instanceof MinorThanEquals) {
+            return -1;
+        }
+        return 0;
+    }
+
+    private static ComparisonOperator comparison(int direction, boolean inclusive) {
+        if (direction > 0) {
+            return inclusive ? new GreaterThanEquals() : new GreaterThan();
+        } else if (direction < 0) {
+            return inclusive ? new MinorThanEquals() : new MinorThan();
+        }
+        return inclusive ? new EqualsTo() : new NotEqualsTo();
+    }
+
+    /**
+     * Folds arithmetic on numeric literals. Returns the given expression if nothing changed.
+     */
+    private static Expression fold(Expression expression) {
+        if (expression instanceof Parenthesis && !((Parenthesis) expression).isNot()) {
+            Expression inner = fold(((Parenthesis) expression).getExpression());
+            if (isLiteral(inner) || inner instanceof Column) {
+                return inner;
+            }
+            return inner == ((Parenthesis) expression).getExpression() ? expression : new Parenthesis(inner);
+        } else if (expression instanceof SignedExpression) {
+            SignedExpression signed = (SignedExpression) expression;
+            Expression inner = fold(signed.getExpression());
+            if (isNumber(inner) && signed.getSign() == '-') {
+                Expression negated = number(number(inner).negate(), inner instanceof LongValue);
+                if (negated != null) {
+                    return negated;
+                }
+            } else if (isNumber(inner) && signed.getSign() == '+') {
+                return inner;
+            }
+            return inner == signed.getExpression() ? expression : new SignedExpression(signed.getSign(), inner);
+        } else if (expression instanceof Addition || expression instanceof Subtraction
+                || expression instanceof Multiplication || expression instanceof Division
+                || expression instanceof Modulo) {
+            BinaryExpression binary = (BinaryExpression) expression;
+            Expression left = fold(binary.getLeftExpression());
+            Expression right = fold(binary.getRightExpression());
+            if (isNumber(left) && isNumber(right)) {
+                Expression result = calculate(binary, left, right);
+                if (result != null) {
+                    return result;
+                }
+            }
+            if (left == binary.getLeftExpression() && right == binary.getRightExpression()) {
+                return expression;
+            }
+            BinaryExpression result = DeepCopy.copyOf(binary);
+            result.setLeftExpression(left);
+            result.setRightExpression(right);
+            return result;
+        }
+        return expression;
+    }
+
+    private static Expression calculate(BinaryExpression operation, Expression left, Expression right) {
+        boolean integer = left instanceof LongValue && right instanceof LongValue;
+        BigDecimal a = number(left);
+        BigDecimal b = number(right);
+        BigDecimal result;
+        if (operation instanceof Addition) {
+            result = a.add(b);
+        } else if (operation instanceof Subtraction) {
+            result = a.subtract(b);
+        } else if (operation instanceof Multiplication) {
+            result = a.multiply(b);
+        } else if (b.signum() == 0) {
+            return null;
+        } else if (operation instanceof Modulo) {
+            if (!integer) {
+                return null;
+            }
+            result = new BigDecimal(a.toBigInteger().remainder(b.toBigInteger()));
+        } else if (integer) {
+            BigInteger[] division = a.toBigInteger().divideAndRemainder(b.toBigInteger());
+            if (division[1].signum() != 0) {
+                return null;
+            }
+            result = new BigDecimal(division[0]);
+        } else {
+            try {
+                result = a.divide(b);
+            } catch (ArithmeticException e) {
+                // no exact decimal representation
+                return null;
+            }
+        }
+        return number(result, integer);
+    }
+
+    private static BigDecimal number(Expression expression) {
+        if (expression instanceof LongValue) {
+            return new BigDecimal(((LongValue) expression).getBigIntegerValue());
+        }
+        return new BigDecimal(expression.toString());
+    }
+
+    /**
+     * Returns null for an integer outside the range of a long, which the database would not
+     * compute as written.
+     */
+    private static Expression number(BigDecimal value, boolean integer) {
+        if (integer) {
+            BigInteger result = value.toBigInteger();
+            if (result.bitLength() > 63) {
+                return null;
+            }
+            return new LongValue(result.toString());
+        }
+        BigDecimal decimal = value.scale() <= 0 ? value.setScale(1) : value;
+        return new DoubleValue(decimal.toPlainString());
+    }
+}
@@ -24,18 +24,30 @@ package net.sf.jsqlparser.util.cnfexpression;
 import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 /**
- * This helper class is mainly used for handling the CNF conversion.
+ * This helper class is mainly used for handling the CNF conversion. The parser builds it for a
+ * chain of OR terms if {@link net.sf.jsqlparser.parser.ParserOptions#setFlattenConditions(boolean)}
+ * is switched on.
  * @author messfish
  *
  */
 public final class MultiOrExpression extends MultipleExpression {
 
+    private MultiOrExpression() {
+        super(null);
+    }
+
     public MultiOrExpression(List<Expression> childlist) {
         super(childlist);
     }
 
+    @Override
+    public void accept(ExpressionVisitor expressionVisitor) {
+        expressionVisitor.visit(this);
+    }
+
     @Override
     public String getStringExpression() {
         return "OR";
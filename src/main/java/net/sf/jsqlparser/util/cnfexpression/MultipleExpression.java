@@ -24,8 +24,6 @@ package net.sf.jsqlparser.util.cnfexpression;
 import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
-import net.sf.jsqlparser.expression.ExpressionVisitor;
-import net.sf.jsqlparser.expression.NullValue;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 
 /**
@@ -45,11 +43,6 @@ public abstract class MultipleExpression extends ASTNodeAccessImpl implements Ex
         return childlist.size();
     }
     
-    @Override
-    public void accept(ExpressionVisitor expressionVisitor) {
-        expressionVisitor.visit(new NullValue());
-    }
-    
     public List<Expression> getList() {
         return childlist;
     }
@@ -59,35 +52,51 @@ public abstract class MultipleExpression extends ASTNodeAccessImpl implements Ex
     }
     
     public Expression removeChild(int index) {
+        checkNotFrozen();
         return childlist.remove(index);
     }
     
     public void setChild(int index, Expression express) {
+        checkNotFrozen();
         childlist.set(index, express);
     }
     
     public int getIndex(Expression express) {
-        return childlist.indexOf(express);
+        // by identity, equal children may occur more than once
+        for (int i = 0; i < childlist.size(); i++) {
+            if (childlist.get(i) == express) {
+                return i;
+            }
+        }
+        return -1;
     }
     
     public void addChild(int index, Expression express) {
+        checkNotFrozen();
         childlist.add(index, express);
     }
     
     public abstract String getStringExpression();
     
+    /**
+     * The terms joined by the operator, an OR term of an AND is put in parentheses. The parser
+     * wraps nested groups in a Parenthesis, so a parsed condition is printed as it was written.
+     */
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        sb.append("(");
-        for(int i=0; i<size(); i++) {
-            sb.append(getChild(i));
-            if(i!=size() - 1) {
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) {
                 sb.append(" ").append(getStringExpression()).append(" ");
             }
+            Expression child = getChild(i);
+            if (this instanceof MultiAndExpression && child instanceof MultiOrExpression) {
+                sb.append("(").append(child).append(")");
+            } else {
+                sb.append(child);
+            }
         }
-        sb.append(")");
         return sb.toString();
     }
-    
+
 }
@@ -21,11 +21,16 @@
  */
 package net.sf.jsqlparser.util.deparser;
 
+import java.util.List;
+
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitorAdapter;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.select.FromItem;
 import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.Limit;
+import net.sf.jsqlparser.statement.select.OrderByElement;
 
 /**
  * A class to de-parse (that is, tranform from JSqlParser hierarchy into a string) a
@@ -59,36 +64,80 @@ public class DeleteDeParser {
     }
 
     public void deParse(Delete delete) {
-        buffer.append("DELETE");
+        keyword("DELETE");
         if (delete.getTables() != null && delete.getTables().size() > 0) {
             for (Table table : delete.getTables()) {
                 buffer.append(" ").append(table.getFullyQualifiedName());
             }
         }
-        buffer.append(" FROM ").append(delete.getTable().toString());
+        keyword(" FROM ");
+        deparseFromItem(delete.getTable());
 
         if (delete.getJoins() != null) {
             for (Join join : delete.getJoins()) {
-                if (join.isSimple()) {
-                    buffer.append(", ").append(join);
-                } else {
-                    buffer.append(" ").append(join);
-                }
+                deparseJoin(join);
             }
         }
 
         if (delete.getWhere() != null) {
-            buffer.append(" WHERE ");
+            separator();
+            keyword("WHERE ");
             delete.getWhere().accept(expressionVisitor);
         }
 
         if (delete.getOrderByElements() != null) {
-            new OrderByDeParser(expressionVisitor, buffer).deParse(delete.getOrderByElements());
+            deparseOrderBy(delete.getOrderByElements());
         }
         if (delete.getLimit() != null) {
-            new LimitDeparser(buffer).deParse(delete.getLimit());
+            deparseLimit(delete.getLimit());
+        }
+
+    }
+
+    /**
+     * See {@link InsertDeParser#keyword(String)}.
+     */
+    protected void keyword(String keyword) {
+        buffer.append(keyword);
+    }
+
+    /**
+     * Appends the separator in front of a clause, see {@link InsertDeParser#separator()}.
+     */
+    protected void separator() {
+        buffer.append(' ');
+    }
+
+    /**
+     * Appends a table of the statement, see {@link InsertDeParser#deparseFromItem(FromItem)}.
+     */
+    protected void deparseFromItem(FromItem fromItem) {
+        buffer.append(fromItem);
+    }
+
+    /**
+     * Appends a join, including the separator in front of it.
+     */
+    protected void deparseJoin(Join join) {
+        if (join.isSimple()) {
+            buffer.append(", ").append(join);
+        } else {
+            buffer.append(" ").append(join);
         }
+    }
 
+    /**
+     * Appends the ORDER BY clause.
+     */
+    protected void deparseOrderBy(List<OrderByElement> orderByElements) {
+        new OrderByDeParser(expressionVisitor, buffer).deParse(orderByElements);
+    }
+
+    /**
+     * Appends the LIMIT clause.
+     */
+    protected void deparseLimit(Limit limit) {
+        new LimitDeparser(buffer).deParse(limit);
     }
 
     public ExpressionVisitor getExpressionVisitor() {
@@ -99,6 +99,9 @@ import net.sf.jsqlparser.statement.select.OrderByElement;
 import net.sf.jsqlparser.statement.select.SelectVisitor;
 import net.sf.jsqlparser.statement.select.SubSelect;
 import net.sf.jsqlparser.statement.select.WithItem;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultipleExpression;
 
 /**
  * A class to de-parse (that is, tranform from JSqlParser hierarchy into a string) an
@@ -212,11 +215,17 @@ public class ExpressionDeParser implements ExpressionVisitor, ItemsListVisitor {
         if (expression.isNot()) {
             builder.append(NOT);
         }
+        if (expression.getOraclePriorPosition() == SupportsOldOracleJoinSyntax.ORACLE_PRIOR_START) {
+            builder.append("PRIOR ");
+        }
         expression.getLeftExpression().accept(this);
         if (expression.getOldOracleJoinSyntax() == EqualsTo.ORACLE_JOIN_RIGHT) {
             builder.append("(+)");
         }
         builder.append(operator);
+        if (expression.getOraclePriorPosition() == SupportsOldOracleJoinSyntax.ORACLE_PRIOR_END) {
+            builder.append("PRIOR ");
+        }
         expression.getRightExpression().accept(this);
         if (expression.getOldOracleJoinSyntax() == EqualsTo.ORACLE_JOIN_LEFT) {
             builder.append("(+)");
@@ -346,6 +355,16 @@ public class ExpressionDeParser implements ExpressionVisitor, ItemsListVisitor {
 
     }
 
+    @Override
+    public void visit(MultiAndExpression andExpression) {
+        visitMultipleExpression(andExpression, " AND ");
+    }
+
+    @Override
+    public void visit(MultiOrExpression orExpression) {
+        visitMultipleExpression(orExpression, " OR ");
+    }
+
     @Override
     public void visit(Parenthesis parenthesis) {
         if (parenthesis.isNot()) {
@@ -382,6 +401,22 @@ public class ExpressionDeParser implements ExpressionVisitor, ItemsListVisitor {
 
     }
 
+    private void visitMultipleExpression(MultipleExpression multipleExpression, String operator) {
+        for (int i = 0; i < multipleExpression.size(); i++) {
+            if (i > 0) {
+                builder.append(operator);
+            }
+            Expression child = multipleExpression.getChild(i);
+            if (multipleExpression instanceof MultiAndExpression && child instanceof MultiOrExpression) {
+                builder.append("(");
+                child.accept(this);
+                builder.append(")");
+            } else {
+                child.accept(this);
+            }
+        }
+    }
+
     @Override
     public void visit(SubSelect subSelect) {
         if (subSelect.isUseBrackets()) {
@@ -476,6 +511,7 @@ public class ExpressionDeParser implements ExpressionVisitor, ItemsListVisitor {
             if (iter.hasNext()) {
                 builder.append(", ");
             }
+            listItemDeParsed();
         }
         if (useBracketsInExprList) {
             builder.append(")");
@@ -687,9 +723,18 @@ public class ExpressionDeParser implements ExpressionVisitor, ItemsListVisitor {
             if (it.hasNext()) {
                 builder.append(", ");
             }
+            listItemDeParsed();
         }
     }
 
+    /**
+     * Called after each item of an {@link ExpressionList} or {@link MultiExpressionList} has been
+     * written to the buffer. Nothing is written into the buffer after this point that belongs to the
+     * item, so subclasses may hand the buffer content off at this point.
+     */
+    protected void listItemDeParsed() {
+    }
+
     @Override
     public void visit(IntervalExpression iexpr) {
         builder.append(iexpr.toString());
@@ -697,7 +742,7 @@ public class ExpressionDeParser implements ExpressionVisitor, ItemsListVisitor {
 
     @Override
     public void visit(JdbcNamedParameter jdbcNamedParameter) {
-        builder.append(jdbcNamedParameter.toString());
+        builder.append(':').append(jdbcNamedParameter.getName());
     }
 
     @Override
@@ -727,12 +772,16 @@ public class ExpressionDeParser implements ExpressionVisitor, ItemsListVisitor {
 
     @Override
     public void visit(UserVariable var) {
-        builder.append(var.toString());
+        builder.append('@');
+        if (var.isDoubleAdd()) {
+            builder.append('@');
+        }
+        builder.append(var.getName());
     }
 
     @Override
     public void visit(NumericBind bind) {
-        builder.append(bind.toString());
+        builder.append(':').append(bind.getBindId());
     }
 
     @Override
@@ -747,7 +796,10 @@ public class ExpressionDeParser implements ExpressionVisitor, ItemsListVisitor {
 
     @Override
     public void visit(ValueListExpression valueList) {
-        buffer.append(valueList.toString());
+        boolean useBrackets = useBracketsInExprList;
+        useBracketsInExprList = true;
+        valueList.getExpressionList().accept(this);
+        useBracketsInExprList = useBrackets;
     }
 
     @Override
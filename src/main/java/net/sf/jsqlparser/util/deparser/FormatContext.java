@@ -0,0 +1,144 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.util.deparser;
+
+import net.sf.jsqlparser.parser.SqlTokenizer;
+import net.sf.jsqlparser.parser.Token;
+import net.sf.jsqlparser.parser.TokenMgrException;
+
+/**
+ * Layout state shared by the formatting deparsers of one {@link FormattingStatementDeParser}.
+ */
+final class FormatContext {
+
+    private final boolean pretty;
+    private final boolean lowerCase;
+    private final String indent;
+
+    /**
+     * The nesting level of the query being written.
+     */
+    int level;
+
+    /**
+     * Whether AND and OR at the current position start a new line, i.e. the expression being
+     * written is the condition of a WHERE, HAVING or ON clause and not nested in parentheses.
+     */
+    boolean breakConditions;
+
+    FormatContext(FormatOptions options) {
+        pretty = options.isPretty();
+        lowerCase = options.getKeywordCase() == FormatOptions.KeywordCase.LOWER;
+        indent = options.getIndent();
+    }
+
+    boolean isPretty() {
+        return pretty;
+    }
+
+    /**
+     * Appends an upper case keyword, including any spaces it carries, in the configured case.
+     */
+    void keyword(StringBuilder buffer, String keyword) {
+        if (lowerCase) {
+            for (int i = 0; i < keyword.length(); i++) {
+                buffer.append(Character.toLowerCase(keyword.charAt(i)));
+            }
+        } else {
+            buffer.append(keyword);
+        }
+    }
+
+    /**
+     * Writes the keywords in the text appended from the given position on in the configured case.
+     * This is for parts the model keeps as text, e.g. the column specs of CREATE TABLE, where no
+     * deparser knows which words are keywords. Names that are keywords of the grammar are written in
+     * the keyword case as well.
+     */
+    void keywords(StringBuilder buffer, int start) {
+        if (!lowerCase || start == buffer.length()) {
+            return;
+        }
+        try {
+            for (SqlTokenizer tokenizer = new SqlTokenizer(buffer.substring(start)); tokenizer.hasNext();) {
+                Token token = tokenizer.next();
+                if (SqlTokenizer.isKeyword(token)) {
+                    // absolute token positions start with 1
+                    for (int i = start + token.absoluteBegin - 1; i < start + token.absoluteEnd - 1; i++) {
+                        buffer.setCharAt(i, Character.toLowerCase(buffer.charAt(i)));
+                    }
+                }
+            }
+        } catch (TokenMgrException ex) {
+            // the text was written from a parsed statement, so this does not happen; if it does,
+            // the text is left as it is
+        }
+    }
+
+    /**
+     * Starts a new line at the current level in pretty mode, does nothing otherwise.
+     */
+    void lineBreak(StringBuilder buffer) {
+        lineBreak(buffer, level);
+    }
+
+    /**
+     * Separates two parts of a query: a new line at the current level in pretty mode, a single
+     * space otherwise.
+     */
+    void separator(StringBuilder buffer) {
+        if (pretty) {
+            lineBreak(buffer, level);
+        } else {
+            buffer.append(' ');
+        }
+    }
+
+    /**
+     * Like {@link #separator(StringBuilder)}, but a new line is indented one level deeper.
+     */
+    void continuation(StringBuilder buffer) {
+        if (pretty) {
+            lineBreak(buffer, level + 1);
+        } else {
+            buffer.append(' ');
+        }
+    }
+
+    /**
+     * Writes a separator followed by the keyword of a clause and a space.
+     */
+    void clause(StringBuilder buffer, String keyword) {
+        separator(buffer);
+        keyword(buffer, keyword);
+        buffer.append(' ');
+    }
+
+    private void lineBreak(StringBuilder buffer, int indentLevel) {
+        if (pretty) {
+            buffer.append('\n');
+            for (int i = 0; i < indentLevel; i++) {
+                buffer.append(indent);
+            }
+        }
+    }
+}
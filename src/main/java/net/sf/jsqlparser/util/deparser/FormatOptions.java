@@ -0,0 +1,89 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.util.deparser;
+
+/**
+ * Settings for the output of a {@link FormattingStatementDeParser}. A new instance holds the
+ * defaults, which give the same single line output as {@link StatementDeParser}.
+ *
+ * <pre>
+ * <code>
+ * FormatOptions options = new FormatOptions();
+ * options.setPretty(true);
+ * options.setKeywordCase(FormatOptions.KeywordCase.LOWER);
+ * StringBuilder buffer = new StringBuilder();
+ * statement.accept(new FormattingStatementDeParser(buffer, options));
+ * </code>
+ * </pre>
+ */
+public class FormatOptions {
+
+    public enum KeywordCase {
+        UPPER, LOWER
+    }
+
+    private boolean pretty;
+    private KeywordCase keywordCase = KeywordCase.UPPER;
+    private String indent = "  ";
+
+    public boolean isPretty() {
+        return pretty;
+    }
+
+    /**
+     * Start every clause of a query on its own line, break WHERE, HAVING and ON conditions before
+     * each AND and OR and indent subqueries (default false, which writes a single line).
+     */
+    public void setPretty(boolean pretty) {
+        this.pretty = pretty;
+    }
+
+    public KeywordCase getKeywordCase() {
+        return keywordCase;
+    }
+
+    /**
+     * The case of the keywords written by the formatter (default upper case). Identifiers and
+     * literals are always written as they were parsed.
+     */
+    public void setKeywordCase(KeywordCase keywordCase) {
+        if (keywordCase == null) {
+            throw new IllegalArgumentException("keywordCase must not be null");
+        }
+        this.keywordCase = keywordCase;
+    }
+
+    public String getIndent() {
+        return indent;
+    }
+
+    /**
+     * The string written once per nesting level at the start of a line in pretty mode (default two
+     * spaces).
+     */
+    public void setIndent(String indent) {
+        if (indent == null) {
+            throw new IllegalArgumentException("indent must not be null");
+        }
+        this.indent = indent;
+    }
+}
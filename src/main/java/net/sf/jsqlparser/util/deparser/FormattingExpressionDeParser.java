@@ -0,0 +1,568 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.util.deparser;
+
+import java.util.Iterator;
+import java.util.List;
+
+import net.sf.jsqlparser.expression.AllComparisonExpression;
+import net.sf.jsqlparser.expression.AnalyticExpression;
+import net.sf.jsqlparser.expression.AnalyticType;
+import net.sf.jsqlparser.expression.AnyComparisonExpression;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.CastExpression;
+import net.sf.jsqlparser.expression.DateTimeLiteralExpression;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.ExtractExpression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.IntervalExpression;
+import net.sf.jsqlparser.expression.KeepExpression;
+import net.sf.jsqlparser.expression.MySQLGroupConcat;
+import net.sf.jsqlparser.expression.NotExpression;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.OracleHierarchicalExpression;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.WindowElement;
+import net.sf.jsqlparser.expression.WindowOffset;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.OldOracleJoinBinaryExpression;
+import net.sf.jsqlparser.expression.operators.relational.SupportsOldOracleJoinSyntax;
+import net.sf.jsqlparser.statement.select.OrderByElement;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultipleExpression;
+
+/**
+ * An {@link ExpressionDeParser} that writes the logical and comparison keywords, CASE, CAST,
+ * EXTRACT, INTERVAL, window functions, KEEP, GROUP_CONCAT, hierarchical queries and subqueries in
+ * the layout and keyword case of a
+ * {@link FormatOptions}. In pretty mode a WHERE, HAVING or ON condition starts a new line before
+ * each AND and OR outside of parentheses.
+ */
+public class FormattingExpressionDeParser extends ExpressionDeParser {
+
+    private final FormatContext context;
+
+    FormattingExpressionDeParser(FormatContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public void visit(AndExpression andExpression) {
+        visitCondition(andExpression, "AND ");
+    }
+
+    @Override
+    public void visit(OrExpression orExpression) {
+        visitCondition(orExpression, "OR ");
+    }
+
+    private void visitCondition(BinaryExpression condition, String operator) {
+        StringBuilder buffer = getBuffer();
+        if (condition.isNot()) {
+            context.keyword(buffer, "NOT ");
+        }
+        condition.getLeftExpression().accept(this);
+        conditionSeparator(buffer);
+        context.keyword(buffer, operator);
+        condition.getRightExpression().accept(this);
+    }
+
+    @Override
+    public void visit(MultiAndExpression andExpression) {
+        visitMultipleCondition(andExpression, "AND ");
+    }
+
+    @Override
+    public void visit(MultiOrExpression orExpression) {
+        visitMultipleCondition(orExpression, "OR ");
+    }
+
+    private void visitMultipleCondition(MultipleExpression condition, String operator) {
+        StringBuilder buffer = getBuffer();
+        for (int i = 0; i < condition.size(); i++) {
+            if (i > 0) {
+                conditionSeparator(buffer);
+                context.keyword(buffer, operator);
+            }
+            Expression child = condition.getChild(i);
+            if (condition instanceof MultiAndExpression && child instanceof MultiOrExpression) {
+                boolean breakConditions = context.breakConditions;
+                context.breakConditions = false;
+                buffer.append("(");
+                child.accept(this);
+                buffer.append(")");
+                context.breakConditions = breakConditions;
+            } else {
+                child.accept(this);
+            }
+        }
+    }
+
+    private void conditionSeparator(StringBuilder buffer) {
+        if (context.breakConditions) {
+            context.continuation(buffer);
+        } else {
+            buffer.append(' ');
+        }
+    }
+
+    @Override
+    public void visit(Parenthesis parenthesis) {
+        StringBuilder buffer = getBuffer();
+        if (parenthesis.isNot()) {
+            context.keyword(buffer, "NOT ");
+        }
+        boolean breakConditions = context.breakConditions;
+        context.breakConditions = false;
+        buffer.append("(");
+        parenthesis.getExpression().accept(this);
+        buffer.append(")");
+        context.breakConditions = breakConditions;
+    }
+
+    @Override
+    public void visit(NotExpression notExpr) {
+        context.keyword(getBuffer(), "NOT ");
+        notExpr.getExpression().accept(this);
+    }
+
+    @Override
+    public void visitOldOracleJoinBinaryExpression(OldOracleJoinBinaryExpression expression, String operator) {
+        StringBuilder buffer = getBuffer();
+        if (expression.isNot()) {
+            context.keyword(buffer, "NOT ");
+        }
+        if (expression.getOraclePriorPosition() == SupportsOldOracleJoinSyntax.ORACLE_PRIOR_START) {
+            context.keyword(buffer, "PRIOR ");
+        }
+        expression.getLeftExpression().accept(this);
+        if (expression.getOldOracleJoinSyntax() == SupportsOldOracleJoinSyntax.ORACLE_JOIN_RIGHT) {
+            buffer.append("(+)");
+        }
+        buffer.append(operator);
+        if (expression.getOraclePriorPosition() == SupportsOldOracleJoinSyntax.ORACLE_PRIOR_END) {
+            context.keyword(buffer, "PRIOR ");
+        }
+        expression.getRightExpression().accept(this);
+        if (expression.getOldOracleJoinSyntax() == SupportsOldOracleJoinSyntax.ORACLE_JOIN_LEFT) {
+            buffer.append("(+)");
+        }
+    }
+
+    @Override
+    public void visit(Between between) {
+        StringBuilder buffer = getBuffer();
+        between.getLeftExpression().accept(this);
+        if (between.isNot()) {
+            context.keyword(buffer, " NOT");
+        }
+        context.keyword(buffer, " BETWEEN ");
+        between.getBetweenExpressionStart().accept(this);
+        context.keyword(buffer, " AND ");
+        between.getBetweenExpressionEnd().accept(this);
+    }
+
+    @Override
+    public void visit(InExpression inExpression) {
+        StringBuilder buffer = getBuffer();
+        if (inExpression.getLeftExpression() == null) {
+            inExpression.getLeftItemsList().accept(this);
+        } else {
+            inExpression.getLeftExpression().accept(this);
+            if (inExpression.getOldOracleJoinSyntax() == SupportsOldOracleJoinSyntax.ORACLE_JOIN_RIGHT) {
+                buffer.append("(+)");
+            }
+        }
+        if (inExpression.isNot()) {
+            context.keyword(buffer, " NOT");
+        }
+        context.keyword(buffer, " IN ");
+        inExpression.getRightItemsList().accept(this);
+    }
+
+    @Override
+    public void visit(IsNullExpression isNullExpression) {
+        StringBuilder buffer = getBuffer();
+        isNullExpression.getLeftExpression().accept(this);
+        if (isNullExpression.isUseIsNull()) {
+            context.keyword(buffer, isNullExpression.isNot() ? " NOT ISNULL" : " ISNULL");
+        } else {
+            context.keyword(buffer, isNullExpression.isNot() ? " IS NOT NULL" : " IS NULL");
+        }
+    }
+
+    @Override
+    public void visit(LikeExpression likeExpression) {
+        StringBuilder buffer = getBuffer();
+        if (likeExpression.isNot()) {
+            context.keyword(buffer, "NOT ");
+        }
+        likeExpression.getLeftExpression().accept(this);
+        context.keyword(buffer, likeExpression.isCaseInsensitive() ? " ILIKE " : " LIKE ");
+        likeExpression.getRightExpression().accept(this);
+        if (likeExpression.getEscape() != null) {
+            context.keyword(buffer, " ESCAPE ");
+            buffer.append('\'').append(likeExpression.getEscape()).append('\'');
+        }
+    }
+
+    @Override
+    public void visit(ExistsExpression existsExpression) {
+        context.keyword(getBuffer(), existsExpression.isNot() ? "NOT EXISTS " : "EXISTS ");
+        existsExpression.getRightExpression().accept(this);
+    }
+
+    @Override
+    public void visit(CaseExpression caseExpression) {
+        StringBuilder buffer = getBuffer();
+        boolean breakConditions = context.breakConditions;
+        context.breakConditions = false;
+        context.keyword(buffer, "CASE ");
+        if (caseExpression.getSwitchExpression() != null) {
+            caseExpression.getSwitchExpression().accept(this);
+            buffer.append(" ");
+        }
+        for (Expression when : caseExpression.getWhenClauses()) {
+            when.accept(this);
+        }
+        if (caseExpression.getElseExpression() != null) {
+            context.keyword(buffer, "ELSE ");
+            caseExpression.getElseExpression().accept(this);
+            buffer.append(" ");
+        }
+        context.keyword(buffer, "END");
+        context.breakConditions = breakConditions;
+    }
+
+    @Override
+    public void visit(WhenClause whenClause) {
+        StringBuilder buffer = getBuffer();
+        context.keyword(buffer, "WHEN ");
+        whenClause.getWhenExpression().accept(this);
+        context.keyword(buffer, " THEN ");
+        whenClause.getThenExpression().accept(this);
+        buffer.append(" ");
+    }
+
+    @Override
+    public void visit(NullValue nullValue) {
+        context.keyword(getBuffer(), "NULL");
+    }
+
+    @Override
+    public void visit(DateTimeLiteralExpression literal) {
+        context.keyword(getBuffer(), literal.getType().name() + " ");
+        getBuffer().append(literal.getValue());
+    }
+
+    @Override
+    public void visit(IntervalExpression iexpr) {
+        StringBuilder buffer = getBuffer();
+        context.keyword(buffer, "INTERVAL ");
+        buffer.append(iexpr.getParameter());
+        if (iexpr.getIntervalType() != null) {
+            buffer.append(' ').append(iexpr.getIntervalType());
+        }
+    }
+
+    @Override
+    public void visit(ExtractExpression eexpr) {
+        StringBuilder buffer = getBuffer();
+        context.keyword(buffer, "EXTRACT(");
+        buffer.append(eexpr.getName());
+        context.keyword(buffer, " FROM ");
+        eexpr.getExpression().accept(this);
+        buffer.append(')');
+    }
+
+    @Override
+    public void visit(CastExpression cast) {
+        StringBuilder buffer = getBuffer();
+        if (cast.isUseCastKeyword()) {
+            context.keyword(buffer, "CAST(");
+            cast.getLeftExpression().accept(this);
+            context.keyword(buffer, " AS ");
+            buffer.append(cast.getType());
+            buffer.append(')');
+        } else {
+            cast.getLeftExpression().accept(this);
+            buffer.append("::");
+            buffer.append(cast.getType());
+        }
+    }
+
+    @Override
+    public void visit(AllComparisonExpression allComparisonExpression) {
+        context.keyword(getBuffer(), "ALL ");
+        allComparisonExpression.getSubSelect().accept((ExpressionVisitor) this);
+    }
+
+    @Override
+    public void visit(AnyComparisonExpression anyComparisonExpression) {
+        context.keyword(getBuffer(), anyComparisonExpression.getAnyType().name() + " ");
+        anyComparisonExpression.getSubSelect().accept((ExpressionVisitor) this);
+    }
+
+    @Override
+    public void visit(Function function) {
+        if (function.getKeep() == null
+                && (function.getParameters() == null || !function.isDistinct() && !function.isAllColumns())) {
+            super.visit(function);
+            return;
+        }
+        StringBuilder buffer = getBuffer();
+        if (function.isEscaped()) {
+            buffer.append("{fn ");
+        }
+        buffer.append(function.getName());
+        if (function.getParameters() != null) {
+            buffer.append('(');
+            if (function.isDistinct()) {
+                context.keyword(buffer, "DISTINCT ");
+            } else if (function.isAllColumns()) {
+                context.keyword(buffer, "ALL ");
+            }
+            deparseList(function.getParameters().getExpressions());
+            buffer.append(')');
+        } else if (function.isAllColumns()) {
+            buffer.append("(*)");
+        } else {
+            buffer.append("()");
+        }
+        if (function.getAttribute() != null) {
+            buffer.append('.').append(function.getAttribute());
+        }
+        if (function.getKeep() != null) {
+            buffer.append(' ');
+            function.getKeep().accept(this);
+        }
+        if (function.isEscaped()) {
+            buffer.append('}');
+        }
+    }
+
+    @Override
+    public void visit(AnalyticExpression aexpr) {
+        StringBuilder buffer = getBuffer();
+        boolean breakConditions = context.breakConditions;
+        context.breakConditions = false;
+        buffer.append(aexpr.getName()).append('(');
+        if (aexpr.isDistinct()) {
+            context.keyword(buffer, "DISTINCT ");
+        }
+        if (aexpr.getExpression() != null) {
+            aexpr.getExpression().accept(this);
+            if (aexpr.getOffset() != null) {
+                buffer.append(", ");
+                aexpr.getOffset().accept(this);
+                if (aexpr.getDefaultValue() != null) {
+                    buffer.append(", ");
+                    aexpr.getDefaultValue().accept(this);
+                }
+            }
+        } else if (aexpr.isAllColumns()) {
+            buffer.append('*');
+        }
+        if (aexpr.isIgnoreNulls()) {
+            context.keyword(buffer, " IGNORE NULLS");
+        }
+        buffer.append(") ");
+        if (aexpr.getKeep() != null) {
+            aexpr.getKeep().accept(this);
+            buffer.append(' ');
+        }
+        context.keyword(buffer, aexpr.getType() == AnalyticType.WITHIN_GROUP ? "WITHIN GROUP (" : "OVER (");
+        if (aexpr.getPartitionExpressionList() != null
+                && !aexpr.getPartitionExpressionList().getExpressions().isEmpty()) {
+            context.keyword(buffer, "PARTITION BY ");
+            deparseList(aexpr.getPartitionExpressionList().getExpressions());
+            buffer.append(' ');
+        }
+        if (aexpr.getOrderByElements() != null && !aexpr.getOrderByElements().isEmpty()) {
+            context.keyword(buffer, "ORDER BY ");
+            deparseOrderBy(aexpr.getOrderByElements());
+            if (aexpr.getWindowElement() != null) {
+                buffer.append(' ');
+                deparseWindowElement(aexpr.getWindowElement());
+            }
+        }
+        buffer.append(')');
+        context.breakConditions = breakConditions;
+    }
+
+    private void deparseOrderBy(List<OrderByElement> orderByElements) {
+        StringBuilder buffer = getBuffer();
+        for (Iterator<OrderByElement> iter = orderByElements.iterator(); iter.hasNext();) {
+            OrderByElement orderBy = iter.next();
+            orderBy.getExpression().accept(this);
+            if (!orderBy.isAsc()) {
+                context.keyword(buffer, " DESC");
+            } else if (orderBy.isAscDescPresent()) {
+                context.keyword(buffer, " ASC");
+            }
+            if (orderBy.getNullOrdering() != null) {
+                context.keyword(buffer, orderBy.getNullOrdering() == OrderByElement.NullOrdering.NULLS_FIRST
+                        ? " NULLS FIRST" : " NULLS LAST");
+            }
+            if (iter.hasNext()) {
+                buffer.append(", ");
+            }
+        }
+    }
+
+    private void deparseWindowElement(WindowElement windowElement) {
+        StringBuilder buffer = getBuffer();
+        context.keyword(buffer, windowElement.getType().name());
+        if (windowElement.getOffset() != null) {
+            deparseWindowOffset(windowElement.getOffset());
+        } else if (windowElement.getRange() != null) {
+            context.keyword(buffer, " BETWEEN");
+            deparseWindowOffset(windowElement.getRange().getStart());
+            context.keyword(buffer, " AND");
+            deparseWindowOffset(windowElement.getRange().getEnd());
+        }
+    }
+
+    private void deparseWindowOffset(WindowOffset offset) {
+        StringBuilder buffer = getBuffer();
+        if (offset.getExpression() != null) {
+            buffer.append(' ');
+            offset.getExpression().accept(this);
+            if (offset.getType() != null) {
+                buffer.append(' ');
+                context.keyword(buffer, offset.getType().name());
+            }
+        } else if (offset.getType() == WindowOffset.Type.PRECEDING) {
+            context.keyword(buffer, " UNBOUNDED PRECEDING");
+        } else if (offset.getType() == WindowOffset.Type.FOLLOWING) {
+            context.keyword(buffer, " UNBOUNDED FOLLOWING");
+        } else if (offset.getType() == WindowOffset.Type.CURRENT) {
+            context.keyword(buffer, " CURRENT ROW");
+        }
+    }
+
+    @Override
+    public void visit(KeepExpression keep) {
+        StringBuilder buffer = getBuffer();
+        context.keyword(buffer, "KEEP (");
+        buffer.append(keep.getName());
+        context.keyword(buffer, keep.isFirst() ? " FIRST " : " LAST ");
+        if (keep.getOrderByElements() != null && !keep.getOrderByElements().isEmpty()) {
+            context.keyword(buffer, "ORDER BY ");
+            deparseOrderBy(keep.getOrderByElements());
+        }
+        buffer.append(')');
+    }
+
+    @Override
+    public void visit(MySQLGroupConcat groupConcat) {
+        StringBuilder buffer = getBuffer();
+        context.keyword(buffer, "GROUP_CONCAT(");
+        if (groupConcat.isDistinct()) {
+            context.keyword(buffer, "DISTINCT ");
+        }
+        deparseList(groupConcat.getExpressionList().getExpressions());
+        if (groupConcat.getOrderByElements() != null && !groupConcat.getOrderByElements().isEmpty()) {
+            context.keyword(buffer, " ORDER BY ");
+            deparseOrderBy(groupConcat.getOrderByElements());
+        }
+        if (groupConcat.getSeparator() != null) {
+            context.keyword(buffer, " SEPARATOR ");
+            buffer.append(groupConcat.getSeparator());
+        }
+        buffer.append(')');
+    }
+
+    @Override
+    public void visit(OracleHierarchicalExpression oexpr) {
+        if (oexpr.isConnectFirst()) {
+            deparseConnectBy(oexpr);
+            if (oexpr.getStartExpression() != null) {
+                deparseStartWith(oexpr);
+            }
+        } else {
+            if (oexpr.getStartExpression() != null) {
+                deparseStartWith(oexpr);
+            }
+            deparseConnectBy(oexpr);
+        }
+    }
+
+    private void deparseStartWith(OracleHierarchicalExpression oexpr) {
+        context.clause(getBuffer(), "START WITH");
+        oexpr.getStartExpression().accept(this);
+    }
+
+    private void deparseConnectBy(OracleHierarchicalExpression oexpr) {
+        context.clause(getBuffer(), "CONNECT BY");
+        if (oexpr.isNoCycle()) {
+            context.keyword(getBuffer(), "NOCYCLE ");
+        }
+        oexpr.getConnectExpression().accept(this);
+    }
+
+    private void deparseList(List<Expression> expressions) {
+        for (Iterator<Expression> iter = expressions.iterator(); iter.hasNext();) {
+            iter.next().accept(this);
+            if (iter.hasNext()) {
+                getBuffer().append(", ");
+            }
+        }
+    }
+
+    @Override
+    public void visit(SubSelect subSelect) {
+        if (!subSelect.isUseBrackets() || !(getSelectVisitor() instanceof FormattingSelectDeParser)) {
+            super.visit(subSelect);
+            return;
+        }
+        FormattingSelectDeParser selectDeParser = (FormattingSelectDeParser) getSelectVisitor();
+        StringBuilder buffer = getBuffer();
+        boolean breakConditions = context.breakConditions;
+        // a subquery in a broken condition is indented relative to the condition lines
+        int indent = breakConditions ? 1 : 0;
+        context.breakConditions = false;
+        buffer.append("(");
+        context.level += indent + 1;
+        context.lineBreak(buffer);
+        if (subSelect.getWithItemsList() != null && !subSelect.getWithItemsList().isEmpty()) {
+            selectDeParser.deparseWithItems(subSelect.getWithItemsList());
+        }
+        subSelect.getSelectBody().accept(selectDeParser);
+        context.level--;
+        context.lineBreak(buffer);
+        context.level -= indent;
+        buffer.append(")");
+        context.breakConditions = breakConditions;
+    }
+}
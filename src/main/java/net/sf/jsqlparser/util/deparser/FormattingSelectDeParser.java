@@ -0,0 +1,414 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.util.deparser;
+
+import java.util.Iterator;
+import java.util.List;
+import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.Fetch;
+import net.sf.jsqlparser.statement.select.First;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.Limit;
+import net.sf.jsqlparser.statement.select.Offset;
+import net.sf.jsqlparser.statement.select.OrderByElement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.statement.select.SetOperationList;
+import net.sf.jsqlparser.statement.select.Skip;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.statement.select.Top;
+import net.sf.jsqlparser.statement.select.WithItem;
+
+/**
+ * A {@link SelectDeParser} that writes queries in the layout and keyword case of a
+ * {@link FormatOptions}. Parts of a query the formatter does not lay out itself (hints, pivots)
+ * are written as {@link SelectDeParser} writes them.
+ */
+public class FormattingSelectDeParser extends SelectDeParser {
+
+    private final FormatContext context;
+
+    FormattingSelectDeParser(FormatContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public void visit(PlainSelect plainSelect) {
+        StringBuilder buffer = getBuffer();
+        ExpressionVisitor expressionVisitor = getExpressionVisitor();
+        boolean breakConditions = context.breakConditions;
+        context.breakConditions = false;
+        if (plainSelect.isUseBrackets()) {
+            buffer.append("(");
+        }
+        context.keyword(buffer, "SELECT ");
+
+        if (plainSelect.getOracleHint() != null) {
+            buffer.append(plainSelect.getOracleHint()).append(" ");
+        }
+        Skip skip = plainSelect.getSkip();
+        if (skip != null) {
+            buffer.append(skip).append(" ");
+        }
+        First first = plainSelect.getFirst();
+        if (first != null) {
+            buffer.append(first).append(" ");
+        }
+        if (plainSelect.getDistinct() != null) {
+            context.keyword(buffer, plainSelect.getDistinct().isUseUnique() ? "UNIQUE " : "DISTINCT ");
+            if (plainSelect.getDistinct().getOnSelectItems() != null) {
+                context.keyword(buffer, "ON ");
+                buffer.append("(");
+                deparseSelectItems(plainSelect.getDistinct().getOnSelectItems());
+                buffer.append(") ");
+            }
+        }
+        Top top = plainSelect.getTop();
+        if (top != null) {
+            buffer.append(top).append(" ");
+        }
+        if (plainSelect.getMySqlSqlNoCache()) {
+            context.keyword(buffer, "SQL_NO_CACHE ");
+        }
+        if (plainSelect.getMySqlSqlCalcFoundRows()) {
+            context.keyword(buffer, "SQL_CALC_FOUND_ROWS ");
+        }
+        deparseSelectItems(plainSelect.getSelectItems());
+
+        if (plainSelect.getIntoTables() != null) {
+            context.clause(buffer, "INTO");
+            for (Iterator<Table> iter = plainSelect.getIntoTables().iterator(); iter.hasNext();) {
+                visit(iter.next());
+                if (iter.hasNext()) {
+                    buffer.append(", ");
+                }
+            }
+        }
+        if (plainSelect.getFromItem() != null) {
+            context.clause(buffer, "FROM");
+            plainSelect.getFromItem().accept(this);
+        }
+        if (plainSelect.getJoins() != null) {
+            for (Join join : plainSelect.getJoins()) {
+                deparseJoin(join);
+            }
+        }
+        if (plainSelect.getWhere() != null) {
+            context.clause(buffer, "WHERE");
+            deparseCondition(plainSelect.getWhere());
+        }
+        if (plainSelect.getOracleHierarchical() != null) {
+            plainSelect.getOracleHierarchical().accept(expressionVisitor);
+        }
+        if (plainSelect.getGroupByColumnReferences() != null) {
+            context.clause(buffer, "GROUP BY");
+            for (Iterator<Expression> iter = plainSelect.getGroupByColumnReferences().iterator(); iter.
+                    hasNext();) {
+                iter.next().accept(expressionVisitor);
+                if (iter.hasNext()) {
+                    buffer.append(", ");
+                }
+            }
+        }
+        if (plainSelect.getHaving() != null) {
+            context.clause(buffer, "HAVING");
+            deparseCondition(plainSelect.getHaving());
+        }
+        if (plainSelect.getOrderByElements() != null) {
+            deparseOrderBy(plainSelect.isOracleSiblings(), plainSelect.getOrderByElements());
+        }
+        if (plainSelect.getLimit() != null) {
+            deparseLimit(plainSelect.getLimit());
+        }
+        if (plainSelect.getOffset() != null) {
+            deparseOffset(plainSelect.getOffset());
+        }
+        if (plainSelect.getFetch() != null) {
+            deparseFetch(plainSelect.getFetch());
+        }
+        if (plainSelect.isForUpdate()) {
+            context.separator(buffer);
+            context.keyword(buffer, "FOR UPDATE");
+            if (plainSelect.getForUpdateTable() != null) {
+                context.keyword(buffer, " OF ");
+                buffer.append(plainSelect.getForUpdateTable());
+            }
+            if (plainSelect.getWait() != null) {
+                buffer.append(plainSelect.getWait());
+            }
+        }
+        if (plainSelect.isUseBrackets()) {
+            buffer.append(")");
+        }
+        context.breakConditions = breakConditions;
+    }
+
+    @Override
+    public void visit(SelectExpressionItem selectExpressionItem) {
+        selectExpressionItem.getExpression().accept(getExpressionVisitor());
+        deparseAlias(selectExpressionItem.getAlias());
+    }
+
+    @Override
+    public void visit(Table table) {
+        StringBuilder buffer = getBuffer();
+        buffer.append(table.getFullyQualifiedName());
+        deparseAlias(table.getAlias());
+        if (table.getPivot() != null) {
+            table.getPivot().accept(this);
+        }
+        if (table.getIndexHint() != null) {
+            buffer.append(table.getIndexHint());
+        }
+    }
+
+    private void deparseAlias(Alias alias) {
+        if (alias != null) {
+            if (alias.isUseAs()) {
+                context.keyword(getBuffer(), " AS ");
+            } else {
+                getBuffer().append(' ');
+            }
+            getBuffer().append(alias.getName());
+        }
+    }
+
+    private void deparseSelectItems(List<SelectItem> selectItems) {
+        for (Iterator<SelectItem> iter = selectItems.iterator(); iter.hasNext();) {
+            iter.next().accept(this);
+            if (iter.hasNext()) {
+                getBuffer().append(", ");
+            }
+        }
+    }
+
+    private void deparseCondition(Expression condition) {
+        context.breakConditions = true;
+        condition.accept(getExpressionVisitor());
+        context.breakConditions = false;
+    }
+
+    void deparseOrderBy(boolean oracleSiblings, List<OrderByElement> orderByElements) {
+        StringBuilder buffer = getBuffer();
+        context.clause(buffer, oracleSiblings ? "ORDER SIBLINGS BY" : "ORDER BY");
+        for (Iterator<OrderByElement> iter = orderByElements.iterator(); iter.hasNext();) {
+            OrderByElement orderBy = iter.next();
+            orderBy.getExpression().accept(getExpressionVisitor());
+            if (!orderBy.isAsc()) {
+                context.keyword(buffer, " DESC");
+            } else if (orderBy.isAscDescPresent()) {
+                context.keyword(buffer, " ASC");
+            }
+            if (orderBy.getNullOrdering() != null) {
+                context.keyword(buffer, orderBy.getNullOrdering() == OrderByElement.NullOrdering.NULLS_FIRST
+                        ? " NULLS FIRST" : " NULLS LAST");
+            }
+            if (iter.hasNext()) {
+                buffer.append(", ");
+            }
+        }
+    }
+
+    void deparseLimit(Limit limit) {
+        StringBuilder buffer = getBuffer();
+        context.clause(buffer, "LIMIT");
+        if (limit.isLimitNull()) {
+            context.keyword(buffer, "NULL");
+        } else {
+            if (limit.getOffset() != null) {
+                buffer.append(limit.getOffset()).append(", ");
+            }
+            if (limit.getRowCount() != null) {
+                buffer.append(limit.getRowCount());
+            }
+        }
+    }
+
+    @Override
+    public void deparseOffset(Offset offset) {
+        StringBuilder buffer = getBuffer();
+        context.clause(buffer, "OFFSET");
+        if (offset.getOffsetJdbcParameter() != null) {
+            buffer.append(offset.getOffsetJdbcParameter());
+        } else {
+            buffer.append(offset.getOffset());
+        }
+        if (offset.getOffsetParam() != null) {
+            buffer.append(" ");
+            context.keyword(buffer, offset.getOffsetParam());
+        }
+    }
+
+    @Override
+    public void deparseFetch(Fetch fetch) {
+        StringBuilder buffer = getBuffer();
+        context.clause(buffer, "FETCH");
+        context.keyword(buffer, fetch.isFetchParamFirst() ? "FIRST " : "NEXT ");
+        if (fetch.getFetchJdbcParameter() != null) {
+            fetch.getFetchJdbcParameter().accept(getExpressionVisitor());
+        } else {
+            buffer.append(fetch.getRowCount());
+        }
+        buffer.append(" ");
+        context.keyword(buffer, fetch.getFetchParam());
+        context.keyword(buffer, " ONLY");
+    }
+
+    @Override
+    public void deparseJoin(Join join) {
+        StringBuilder buffer = getBuffer();
+        if (join.isSimple()) {
+            buffer.append(", ");
+        } else {
+            context.separator(buffer);
+            if (join.isRight()) {
+                context.keyword(buffer, "RIGHT ");
+            } else if (join.isNatural()) {
+                context.keyword(buffer, "NATURAL ");
+            } else if (join.isFull()) {
+                context.keyword(buffer, "FULL ");
+            } else if (join.isLeft()) {
+                context.keyword(buffer, "LEFT ");
+            } else if (join.isCross()) {
+                context.keyword(buffer, "CROSS ");
+            }
+            if (join.isOuter()) {
+                context.keyword(buffer, "OUTER ");
+            } else if (join.isInner()) {
+                context.keyword(buffer, "INNER ");
+            } else if (join.isSemi()) {
+                context.keyword(buffer, "SEMI ");
+            }
+            context.keyword(buffer, "JOIN ");
+        }
+
+        FromItem fromItem = join.getRightItem();
+        fromItem.accept(this);
+        if (join.getOnExpression() != null) {
+            context.keyword(buffer, " ON ");
+            deparseCondition(join.getOnExpression());
+        }
+        if (join.getUsingColumns() != null) {
+            context.keyword(buffer, " USING ");
+            buffer.append("(");
+            for (Iterator<Column> iterator = join.getUsingColumns().iterator(); iterator.hasNext();) {
+                iterator.next().accept(getExpressionVisitor());
+                if (iterator.hasNext()) {
+                    buffer.append(", ");
+                }
+            }
+            buffer.append(")");
+        }
+    }
+
+    @Override
+    public void visit(SetOperationList list) {
+        StringBuilder buffer = getBuffer();
+        for (int i = 0; i < list.getSelects().size(); i++) {
+            if (i != 0) {
+                context.separator(buffer);
+                context.keyword(buffer, list.getOperations().get(i - 1).toString());
+                context.separator(buffer);
+            }
+            boolean brackets = list.getBrackets() == null || list.getBrackets().get(i);
+            if (brackets) {
+                buffer.append("(");
+            }
+            list.getSelects().get(i).accept(this);
+            if (brackets) {
+                buffer.append(")");
+            }
+        }
+        if (list.getOrderByElements() != null) {
+            deparseOrderBy(false, list.getOrderByElements());
+        }
+        if (list.getLimit() != null) {
+            deparseLimit(list.getLimit());
+        }
+        if (list.getOffset() != null) {
+            deparseOffset(list.getOffset());
+        }
+        if (list.getFetch() != null) {
+            deparseFetch(list.getFetch());
+        }
+    }
+
+    @Override
+    public void visit(SubSelect subSelect) {
+        StringBuilder buffer = getBuffer();
+        buffer.append("(");
+        context.level++;
+        context.lineBreak(buffer);
+        if (subSelect.getWithItemsList() != null && !subSelect.getWithItemsList().isEmpty()) {
+            deparseWithItems(subSelect.getWithItemsList());
+        }
+        subSelect.getSelectBody().accept(this);
+        context.level--;
+        context.lineBreak(buffer);
+        buffer.append(")");
+        deparseAlias(subSelect.getAlias());
+        if (subSelect.getPivot() != null) {
+            subSelect.getPivot().accept(this);
+        }
+    }
+
+    /**
+     * Writes WITH and the given items, followed by the separator to the query using them.
+     */
+    void deparseWithItems(List<WithItem> withItems) {
+        StringBuilder buffer = getBuffer();
+        context.keyword(buffer, "WITH ");
+        for (Iterator<WithItem> iter = withItems.iterator(); iter.hasNext();) {
+            iter.next().accept(this);
+            if (iter.hasNext()) {
+                buffer.append(",");
+            }
+            context.separator(buffer);
+        }
+    }
+
+    @Override
+    public void visit(WithItem withItem) {
+        StringBuilder buffer = getBuffer();
+        if (withItem.isRecursive()) {
+            context.keyword(buffer, "RECURSIVE ");
+        }
+        buffer.append(withItem.getName());
+        if (withItem.getWithItemList() != null) {
+            buffer.append(" ").append(PlainSelect.getStringList(withItem.getWithItemList(), true, true));
+        }
+        context.keyword(buffer, " AS ");
+        buffer.append("(");
+        context.level++;
+        context.lineBreak(buffer);
+        withItem.getSelectBody().accept(this);
+        context.level--;
+        context.lineBreak(buffer);
+        buffer.append(")");
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.util.deparser;
+
+import java.util.List;
+
+import net.sf.jsqlparser.statement.Block;
+import net.sf.jsqlparser.statement.Commit;
+import net.sf.jsqlparser.statement.SetStatement;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.UseStatement;
+import net.sf.jsqlparser.statement.alter.Alter;
+import net.sf.jsqlparser.statement.create.index.CreateIndex;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.view.AlterView;
+import net.sf.jsqlparser.statement.create.view.CreateView;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.execute.Execute;
+import net.sf.jsqlparser.statement.merge.Merge;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.Limit;
+import net.sf.jsqlparser.statement.select.OrderByElement;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+
+/**
+ * A {@link StatementDeParser} writing in the layout and keyword case of a {@link FormatOptions},
+ * in the same single pass over the statement as the plain deparser. Queries are laid out
+ * completely, including those nested in other statements. INSERT, UPDATE and DELETE start each
+ * clause on a new line in pretty mode and write their tables, joins, ORDER BY, LIMIT and RETURNING
+ * lists like the parts of a query. REPLACE and UPSERT keep the layout of
+ * {@link StatementDeParser}, but write their keywords in the configured case. The other statements
+ * keep that layout too; much of them is kept as text by the model, so their keywords are found by
+ * the tokens of the text they are written as.
+ *
+ * <pre>
+ * SELECT a, b
+ * FROM t
+ *   JOIN u ON t.id = u.id
+ * WHERE t.x = 1
+ *   AND u.y IN (
+ *     SELECT y
+ *     FROM v
+ *   )
+ * ORDER BY a
+ * </pre>
+ */
+public class FormattingStatementDeParser extends StatementDeParser {
+
+    private final FormatContext context;
+    private final FormattingSelectDeParser selectDeParser;
+
+    public FormattingStatementDeParser(StringBuilder buffer, FormatOptions options) {
+        this(buffer, new FormatContext(options));
+    }
+
+    private FormattingStatementDeParser(StringBuilder buffer, FormatContext context) {
+        this(buffer, context, new FormattingExpressionDeParser(context), new FormattingSelectDeParser(context));
+    }
+
+    private FormattingStatementDeParser(StringBuilder buffer, FormatContext context,
+            FormattingExpressionDeParser expressionDeParser, FormattingSelectDeParser selectDeParser) {
+        super(expressionDeParser, selectDeParser, buffer);
+        this.context = context;
+        this.selectDeParser = selectDeParser;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        context.level = 0;
+        context.breakConditions = false;
+    }
+
+    @Override
+    public void visit(Select select) {
+        if (select.getWithItemsList() != null && !select.getWithItemsList().isEmpty()) {
+            selectDeParser.deparseWithItems(select.getWithItemsList());
+        }
+        select.getSelectBody().accept(selectDeParser);
+    }
+
+    @Override
+    protected InsertDeParser createInsertDeParser(ExpressionDeParser expressionDeParser,
+            SelectDeParser selectDeParser, StringBuilder buffer) {
+        return new InsertDeParser(expressionDeParser, selectDeParser, buffer) {
+            @Override
+            protected void keyword(String keyword) {
+                context.keyword(getBuffer(), keyword);
+            }
+
+            @Override
+            protected void separator() {
+                context.separator(getBuffer());
+            }
+
+            @Override
+            protected void deparseFromItem(FromItem fromItem) {
+                fromItem.accept(FormattingStatementDeParser.this.selectDeParser);
+            }
+
+            @Override
+            protected void deparseReturningItem(SelectExpressionItem item) {
+                item.accept(FormattingStatementDeParser.this.selectDeParser);
+            }
+        };
+    }
+
+    @Override
+    protected UpdateDeParser createUpdateDeParser(ExpressionDeParser expressionDeParser,
+            SelectDeParser selectDeParser, StringBuilder buffer) {
+        return new UpdateDeParser(expressionDeParser, selectDeParser, buffer) {
+            @Override
+            protected void keyword(String keyword) {
+                context.keyword(getBuffer(), keyword);
+            }
+
+            @Override
+            protected void separator() {
+                context.separator(getBuffer());
+            }
+
+            @Override
+            protected void deparseFromItem(FromItem fromItem) {
+                fromItem.accept(FormattingStatementDeParser.this.selectDeParser);
+            }
+
+            @Override
+            protected void deparseJoin(Join join) {
+                FormattingStatementDeParser.this.selectDeParser.deparseJoin(join);
+            }
+
+            @Override
+            protected void deparseOrderBy(List<OrderByElement> orderByElements) {
+                FormattingStatementDeParser.this.selectDeParser.deparseOrderBy(false, orderByElements);
+            }
+
+            @Override
+            protected void deparseLimit(Limit limit) {
+                FormattingStatementDeParser.this.selectDeParser.deparseLimit(limit);
+            }
+
+            @Override
+            protected void deparseReturningItem(SelectExpressionItem item) {
+                item.accept(FormattingStatementDeParser.this.selectDeParser);
+            }
+        };
+    }
+
+    @Override
+    protected DeleteDeParser createDeleteDeParser(ExpressionDeParser expressionDeParser, StringBuilder buffer) {
+        return new DeleteDeParser(expressionDeParser, buffer) {
+            @Override
+            protected void keyword(String keyword) {
+                context.keyword(getBuffer(), keyword);
+            }
+
+            @Override
+            protected void separator() {
+                context.separator(getBuffer());
+            }
+
+            @Override
+            protected void deparseFromItem(FromItem fromItem) {
+                fromItem.accept(selectDeParser);
+            }
+
+            @Override
+            protected void deparseJoin(Join join) {
+                selectDeParser.deparseJoin(join);
+            }
+
+            @Override
+            protected void deparseOrderBy(List<OrderByElement> orderByElements) {
+                selectDeParser.deparseOrderBy(false, orderByElements);
+            }
+
+            @Override
+            protected void deparseLimit(Limit limit) {
+                selectDeParser.deparseLimit(limit);
+            }
+        };
+    }
+
+    @Override
+    protected ReplaceDeParser createReplaceDeParser(ExpressionDeParser expressionDeParser,
+            SelectDeParser selectDeParser, StringBuilder buffer) {
+        return new ReplaceDeParser(expressionDeParser, selectDeParser, buffer) {
+            @Override
+            protected void keyword(String keyword) {
+                context.keyword(getBuffer(), keyword);
+            }
+        };
+    }
+
+    @Override
+    protected UpsertDeParser createUpsertDeParser(ExpressionDeParser expressionDeParser,
+            SelectDeParser selectDeParser, StringBuilder buffer) {
+        return new UpsertDeParser(expressionDeParser, selectDeParser, buffer) {
+            @Override
+            protected void keyword(String keyword) {
+                context.keyword(getBuffer(), keyword);
+            }
+        };
+    }
+
+    @Override
+    public void visit(CreateIndex createIndex) {
+        int start = getBuffer().length();
+        super.visit(createIndex);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(CreateTable createTable) {
+        int start = getBuffer().length();
+        super.visit(createTable);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(CreateView createView) {
+        int start = getBuffer().length();
+        super.visit(createView);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(AlterView alterView) {
+        int start = getBuffer().length();
+        super.visit(alterView);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(Drop drop) {
+        int start = getBuffer().length();
+        super.visit(drop);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(Truncate truncate) {
+        int start = getBuffer().length();
+        super.visit(truncate);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(Alter alter) {
+        int start = getBuffer().length();
+        super.visit(alter);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(Execute execute) {
+        int start = getBuffer().length();
+        super.visit(execute);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(SetStatement set) {
+        int start = getBuffer().length();
+        super.visit(set);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(Merge merge) {
+        int start = getBuffer().length();
+        super.visit(merge);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(Commit commit) {
+        int start = getBuffer().length();
+        super.visit(commit);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(UseStatement use) {
+        int start = getBuffer().length();
+        super.visit(use);
+        context.keywords(getBuffer(), start);
+    }
+
+    @Override
+    public void visit(Block block) {
+        StringBuilder buffer = getBuffer();
+        context.keyword(buffer, "BEGIN\n");
+        if (block.getStatements() != null) {
+            for (Statement stmt : block.getStatements().getStatements()) {
+                stmt.accept(this);
+                buffer.append(";\n");
+            }
+        }
+        context.keyword(buffer, "END");
+    }
+}
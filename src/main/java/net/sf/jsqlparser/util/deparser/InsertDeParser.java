@@ -30,6 +30,7 @@ import net.sf.jsqlparser.expression.operators.relational.ItemsListVisitor;
 import net.sf.jsqlparser.expression.operators.relational.MultiExpressionList;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.select.FromItem;
 import net.sf.jsqlparser.statement.select.SelectExpressionItem;
 import net.sf.jsqlparser.statement.select.SelectVisitor;
 import net.sf.jsqlparser.statement.select.SubSelect;
@@ -72,16 +73,16 @@ public class InsertDeParser implements ItemsListVisitor {
     }
 
     public void deParse(Insert insert) {
-        buffer.append("INSERT ");
+        keyword("INSERT ");
         if (insert.getModifierPriority() != null) {
-            buffer.append(insert.getModifierPriority()).append(" ");
+            keyword(insert.getModifierPriority() + " ");
         }
         if (insert.isModifierIgnore()) {
-            buffer.append("IGNORE ");
+            keyword("IGNORE ");
         }
-        buffer.append("INTO ");
+        keyword("INTO ");
 
-        buffer.append(insert.getTable().toString());
+        deparseFromItem(insert.getTable());
 
         if (insert.getColumns() != null) {
             buffer.append(" (");
@@ -100,12 +101,12 @@ public class InsertDeParser implements ItemsListVisitor {
         }
 
         if (insert.getSelect() != null) {
-            buffer.append(" ");
+            separator();
             if (insert.isUseSelectBrackets()) {
                 buffer.append("(");
             }
             if (insert.getSelect().getWithItemsList() != null) {
-                buffer.append("WITH ");
+                keyword("WITH ");
                 for (WithItem with : insert.getSelect().getWithItemsList()) {
                     with.accept(selectVisitor);
                 }
@@ -118,7 +119,8 @@ public class InsertDeParser implements ItemsListVisitor {
         }
 
         if (insert.isUseSet()) {
-            buffer.append(" SET ");
+            separator();
+            keyword("SET ");
             for (int i = 0; i < insert.getSetColumns().size(); i++) {
                 Column column = insert.getSetColumns().get(i);
                 column.accept(expressionVisitor);
@@ -134,7 +136,8 @@ public class InsertDeParser implements ItemsListVisitor {
         }
 
         if (insert.isUseDuplicate()) {
-            buffer.append(" ON DUPLICATE KEY UPDATE ");
+            separator();
+            keyword("ON DUPLICATE KEY UPDATE ");
             for (int i = 0; i < insert.getDuplicateUpdateColumns().size(); i++) {
                 Column column = insert.getDuplicateUpdateColumns().get(i);
                 buffer.append(column.getFullyQualifiedName()).append(" = ");
@@ -148,12 +151,14 @@ public class InsertDeParser implements ItemsListVisitor {
         }
 
         if (insert.isReturningAllColumns()) {
-            buffer.append(" RETURNING *");
+            separator();
+            keyword("RETURNING *");
         } else if (insert.getReturningExpressionList() != null) {
-            buffer.append(" RETURNING ");
+            separator();
+            keyword("RETURNING ");
             for (Iterator<SelectExpressionItem> iter = insert.getReturningExpressionList().
                     iterator(); iter.hasNext();) {
-                buffer.append(iter.next().toString());
+                deparseReturningItem(iter.next());
                 if (iter.hasNext()) {
                     buffer.append(", ");
                 }
@@ -161,9 +166,45 @@ public class InsertDeParser implements ItemsListVisitor {
         }
     }
 
+    /**
+     * Appends a keyword of the statement, including any spaces it carries.
+     * <p>
+     * This and the other protected methods of this class are the hooks through which the statement
+     * deparsers write everything but names, literals and expressions: keywords, the separator in
+     * front of a clause, the tables, joins and RETURNING items. A subclass may override them to
+     * write the statement in another keyword case or layout, as {@link FormattingStatementDeParser}
+     * does. {@link UpdateDeParser}, {@link DeleteDeParser}, {@link ReplaceDeParser} and
+     * {@link UpsertDeParser} have the same hooks for the parts their statements have.
+     */
+    protected void keyword(String keyword) {
+        buffer.append(keyword);
+    }
+
+    /**
+     * Appends the separator in front of a clause, a single space.
+     */
+    protected void separator() {
+        buffer.append(' ');
+    }
+
+    /**
+     * Appends a table of the statement, including its alias.
+     */
+    protected void deparseFromItem(FromItem fromItem) {
+        buffer.append(fromItem);
+    }
+
+    /**
+     * Appends an item of the RETURNING list.
+     */
+    protected void deparseReturningItem(SelectExpressionItem item) {
+        buffer.append(item);
+    }
+
     @Override
     public void visit(ExpressionList expressionList) {
-        buffer.append(" VALUES (");
+        separator();
+        keyword("VALUES (");
         for (Iterator<Expression> iter = expressionList.getExpressions().iterator(); iter.hasNext();) {
             Expression expression = iter.next();
             expression.accept(expressionVisitor);
@@ -176,7 +217,8 @@ public class InsertDeParser implements ItemsListVisitor {
 
     @Override
     public void visit(MultiExpressionList multiExprList) {
-        buffer.append(" VALUES ");
+        separator();
+        keyword("VALUES ");
         for (Iterator<ExpressionList> it = multiExprList.getExprList().iterator(); it.hasNext();) {
             buffer.append("(");
             for (Iterator<Expression> iter = it.next().getExpressions().iterator(); iter.hasNext();) {
@@ -190,9 +232,17 @@ public class InsertDeParser implements ItemsListVisitor {
             if (it.hasNext()) {
                 buffer.append(", ");
             }
+            listItemDeParsed();
         }
     }
 
+    /**
+     * Called after each row of a multi row VALUES list has been written to the buffer, so
+     * subclasses may hand the buffer content off before the next row is appended.
+     */
+    protected void listItemDeParsed() {
+    }
+
     @Override
     public void visit(SubSelect subSelect) {
         subSelect.getSelectBody().accept(selectVisitor);
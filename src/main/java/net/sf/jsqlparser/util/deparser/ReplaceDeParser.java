@@ -70,9 +70,9 @@ public class ReplaceDeParser implements ItemsListVisitor {
     }
 
     public void deParse(Replace replace) {
-        buffer.append("REPLACE ");
+        keyword("REPLACE ");
         if (replace.isUseIntoTables()) {
-            buffer.append("INTO ");
+            keyword("INTO ");
         }
         buffer.append(replace.getTable().getFullyQualifiedName());
         if (replace.getItemsList() != null) {
@@ -91,7 +91,7 @@ public class ReplaceDeParser implements ItemsListVisitor {
             }
 
         } else {
-            buffer.append(" SET ");
+            keyword(" SET ");
             for (int i = 0; i < replace.getColumns().size(); i++) {
                 Column column = replace.getColumns().get(i);
                 buffer.append(column.getFullyQualifiedName()).append("=");
@@ -112,9 +112,16 @@ public class ReplaceDeParser implements ItemsListVisitor {
         }
     }
 
+    /**
+     * See {@link InsertDeParser#keyword(String)}.
+     */
+    protected void keyword(String keyword) {
+        buffer.append(keyword);
+    }
+
     @Override
     public void visit(ExpressionList expressionList) {
-        buffer.append("VALUES (");
+        keyword("VALUES (");
         for (Iterator<Expression> iter = expressionList.getExpressions().iterator(); iter.hasNext();) {
             Expression expression = iter.next();
             expression.accept(expressionVisitor);
@@ -148,7 +155,7 @@ public class ReplaceDeParser implements ItemsListVisitor {
 
     @Override
     public void visit(MultiExpressionList multiExprList) {
-        buffer.append("VALUES ");
+        keyword("VALUES ");
         for (Iterator<ExpressionList> it = multiExprList.getExprList().iterator(); it.hasNext();) {
             buffer.append("(");
             for (Iterator<Expression> iter = it.next().getExpressions().iterator(); iter.hasNext();) {
@@ -22,6 +22,7 @@
 package net.sf.jsqlparser.util.deparser;
 
 import net.sf.jsqlparser.expression.*;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
 import net.sf.jsqlparser.schema.*;
 import net.sf.jsqlparser.statement.select.*;
 
@@ -440,12 +441,52 @@ public class SelectDeParser implements SelectVisitor, SelectItemVisitor, FromIte
 
     @Override
     public void visit(LateralSubSelect lateralSubSelect) {
-        buffer.append(lateralSubSelect.toString());
+        buffer.append("LATERAL");
+        visit(lateralSubSelect.getSubSelect());
+        if (lateralSubSelect.getAlias() != null) {
+            buffer.append(lateralSubSelect.getAlias());
+        }
+        if (lateralSubSelect.getPivot() != null) {
+            lateralSubSelect.getPivot().accept(this);
+        }
     }
 
     @Override
     public void visit(ValuesList valuesList) {
-        buffer.append(valuesList.toString());
+        buffer.append("(VALUES ");
+        for (Iterator<ExpressionList> it = valuesList.getMultiExpressionList().getExprList().iterator(); it.
+                hasNext();) {
+            if (!valuesList.isNoBrackets()) {
+                buffer.append("(");
+            }
+            for (Iterator<Expression> iter = it.next().getExpressions().iterator(); iter.hasNext();) {
+                iter.next().accept(expressionVisitor);
+                if (iter.hasNext()) {
+                    buffer.append(", ");
+                }
+            }
+            if (!valuesList.isNoBrackets()) {
+                buffer.append(")");
+            }
+            if (it.hasNext()) {
+                buffer.append(", ");
+            }
+            listItemDeParsed();
+        }
+        buffer.append(")");
+        if (valuesList.getAlias() != null) {
+            buffer.append(valuesList.getAlias());
+            if (valuesList.getColumnNames() != null) {
+                buffer.append("(");
+                for (Iterator<String> it = valuesList.getColumnNames().iterator(); it.hasNext();) {
+                    buffer.append(it.next());
+                    if (it.hasNext()) {
+                        buffer.append(", ");
+                    }
+                }
+                buffer.append(")");
+            }
+        }
     }
 
     @Override
@@ -455,7 +496,17 @@ public class SelectDeParser implements SelectVisitor, SelectItemVisitor, FromIte
 
     @Override
     public void visit(TableFunction tableFunction) {
-        buffer.append(tableFunction.toString());
+        tableFunction.getFunction().accept(expressionVisitor);
+        if (tableFunction.getAlias() != null) {
+            buffer.append(tableFunction.getAlias());
+        }
+    }
+
+    /**
+     * Called after each row of a VALUES list has been written to the buffer, see
+     * {@link ExpressionDeParser#listItemDeParsed()}.
+     */
+    protected void listItemDeParsed() {
     }
 
     @Override
@@ -46,6 +46,24 @@ import net.sf.jsqlparser.statement.truncate.Truncate;
 import net.sf.jsqlparser.statement.update.Update;
 import net.sf.jsqlparser.statement.upsert.Upsert;
 
+/**
+ * A class to de-parse (that is, tranform from JSqlParser hierarchy into a string) a
+ * {@link net.sf.jsqlparser.statement.Statement}. An instance can be reused for any number of
+ * statements: the deparsers for the single statement types are created on first use and kept, and
+ * the expression and select deparsers are wired to the buffer once instead of per statement. They
+ * are owned by this instance and should not be shared with another StatementDeParser.
+ *
+ * <pre>
+ * <code>
+ * StatementDeParser deParser = new StatementDeParser(new StringBuilder());
+ * for (Statement statement : statements) {
+ *     deParser.reset();
+ *     statement.accept(deParser);
+ *     send(deParser.getBuffer());
+ * }
+ * </code>
+ * </pre>
+ */
 public class StatementDeParser implements StatementVisitor {
 
     private ExpressionDeParser expressionDeParser;
@@ -54,6 +72,21 @@ public class StatementDeParser implements StatementVisitor {
 
     private StringBuilder buffer;
 
+    private CreateIndexDeParser createIndexDeParser;
+    private CreateTableDeParser createTableDeParser;
+    private CreateViewDeParser createViewDeParser;
+    private AlterViewDeParser alterViewDeParser;
+    private DeleteDeParser deleteDeParser;
+    private DropDeParser dropDeParser;
+    private InsertDeParser insertDeParser;
+    private ReplaceDeParser replaceDeParser;
+    private UpdateDeParser updateDeParser;
+    private AlterDeParser alterDeParser;
+    private ExecuteDeParser executeDeParser;
+    private SetStatementDeParser setStatementDeParser;
+    private UpsertDeParser upsertDeParser;
+    private UseStatementDeParser useStatementDeParser;
+
     public StatementDeParser(StringBuilder buffer) {
         this(new ExpressionDeParser(), new SelectDeParser(), buffer);
     }
@@ -62,74 +95,120 @@ public class StatementDeParser implements StatementVisitor {
         this.expressionDeParser = expressionDeParser;
         this.selectDeParser = selectDeParser;
         this.buffer = buffer;
+        expressionDeParser.setSelectVisitor(selectDeParser);
+        selectDeParser.setExpressionVisitor(expressionDeParser);
+        wireBuffer();
+    }
+
+    private void wireBuffer() {
+        selectDeParser.setBuffer(buffer);
+        expressionDeParser.setBuffer(buffer);
+    }
+
+    /**
+     * Clears the buffer, so that the next statement is de-parsed into an empty buffer.
+     */
+    public void reset() {
+        buffer.setLength(0);
     }
 
     @Override
     public void visit(CreateIndex createIndex) {
-        CreateIndexDeParser createIndexDeParser = new CreateIndexDeParser(buffer);
+        if (createIndexDeParser == null) {
+            createIndexDeParser = new CreateIndexDeParser(buffer);
+        }
+        createIndexDeParser.setBuffer(buffer);
         createIndexDeParser.deParse(createIndex);
     }
 
     @Override
     public void visit(CreateTable createTable) {
-        CreateTableDeParser createTableDeParser = new CreateTableDeParser(this, buffer);
+        if (createTableDeParser == null) {
+            createTableDeParser = new CreateTableDeParser(this, buffer);
+        }
+        createTableDeParser.setBuffer(buffer);
         createTableDeParser.deParse(createTable);
     }
 
     @Override
     public void visit(CreateView createView) {
-        CreateViewDeParser createViewDeParser = new CreateViewDeParser(buffer);
+        if (createViewDeParser == null) {
+            createViewDeParser = new CreateViewDeParser(buffer, selectDeParser);
+        }
+        createViewDeParser.setBuffer(buffer);
         createViewDeParser.deParse(createView);
     }
 
     @Override
     public void visit(AlterView alterView) {
-        AlterViewDeParser alterViewDeParser = new AlterViewDeParser(buffer);
+        if (alterViewDeParser == null) {
+            alterViewDeParser = new AlterViewDeParser(buffer, selectDeParser);
+        }
+        alterViewDeParser.setBuffer(buffer);
         alterViewDeParser.deParse(alterView);
     }
 
     @Override
     public void visit(Delete delete) {
-        selectDeParser.setBuffer(buffer);
-        expressionDeParser.setSelectVisitor(selectDeParser);
-        expressionDeParser.setBuffer(buffer);
-        selectDeParser.setExpressionVisitor(expressionDeParser);
-        DeleteDeParser deleteDeParser = new DeleteDeParser(expressionDeParser, buffer);
+        if (deleteDeParser == null) {
+            deleteDeParser = createDeleteDeParser(expressionDeParser, buffer);
+        }
+        deleteDeParser.setBuffer(buffer);
         deleteDeParser.deParse(delete);
     }
 
+    /**
+     * Creates the deparser used for all {@link Delete} statements of this instance.
+     */
+    protected DeleteDeParser createDeleteDeParser(ExpressionDeParser expressionDeParser, StringBuilder buffer) {
+        return new DeleteDeParser(expressionDeParser, buffer);
+    }
+
     @Override
     public void visit(Drop drop) {
-        DropDeParser dropDeParser = new DropDeParser(buffer);
+        if (dropDeParser == null) {
+            dropDeParser = new DropDeParser(buffer);
+        }
+        dropDeParser.setBuffer(buffer);
         dropDeParser.deParse(drop);
     }
 
     @Override
     public void visit(Insert insert) {
-        selectDeParser.setBuffer(buffer);
-        expressionDeParser.setSelectVisitor(selectDeParser);
-        expressionDeParser.setBuffer(buffer);
-        selectDeParser.setExpressionVisitor(expressionDeParser);
-        InsertDeParser insertDeParser = new InsertDeParser(expressionDeParser, selectDeParser, buffer);
+        if (insertDeParser == null) {
+            insertDeParser = createInsertDeParser(expressionDeParser, selectDeParser, buffer);
+        }
+        insertDeParser.setBuffer(buffer);
         insertDeParser.deParse(insert);
     }
 
+    /**
+     * Creates the deparser used for all {@link Insert} statements of this instance.
+     */
+    protected InsertDeParser createInsertDeParser(ExpressionDeParser expressionDeParser,
+            SelectDeParser selectDeParser, StringBuilder buffer) {
+        return new InsertDeParser(expressionDeParser, selectDeParser, buffer);
+    }
+
     @Override
     public void visit(Replace replace) {
-        selectDeParser.setBuffer(buffer);
-        expressionDeParser.setSelectVisitor(selectDeParser);
-        expressionDeParser.setBuffer(buffer);
-        selectDeParser.setExpressionVisitor(expressionDeParser);
-        ReplaceDeParser replaceDeParser = new ReplaceDeParser(expressionDeParser, selectDeParser, buffer);
+        if (replaceDeParser == null) {
+            replaceDeParser = createReplaceDeParser(expressionDeParser, selectDeParser, buffer);
+        }
+        replaceDeParser.setBuffer(buffer);
         replaceDeParser.deParse(replace);
     }
 
+    /**
+     * Creates the deparser used for all {@link Replace} statements of this instance.
+     */
+    protected ReplaceDeParser createReplaceDeParser(ExpressionDeParser expressionDeParser,
+            SelectDeParser selectDeParser, StringBuilder buffer) {
+        return new ReplaceDeParser(expressionDeParser, selectDeParser, buffer);
+    }
+
     @Override
     public void visit(Select select) {
-        selectDeParser.setBuffer(buffer);
-        expressionDeParser.setSelectVisitor(selectDeParser);
-        expressionDeParser.setBuffer(buffer);
-        selectDeParser.setExpressionVisitor(expressionDeParser);
         if (select.getWithItemsList() != null && !select.getWithItemsList().isEmpty()) {
             buffer.append("WITH ");
             for (Iterator<WithItem> iter = select.getWithItemsList().iterator(); iter.hasNext();) {
@@ -155,13 +234,19 @@ public class StatementDeParser implements StatementVisitor {
 
     @Override
     public void visit(Update update) {
-        selectDeParser.setBuffer(buffer);
-        expressionDeParser.setSelectVisitor(selectDeParser);
-        expressionDeParser.setBuffer(buffer);
-        UpdateDeParser updateDeParser = new UpdateDeParser(expressionDeParser, selectDeParser, buffer);
-        selectDeParser.setExpressionVisitor(expressionDeParser);
+        if (updateDeParser == null) {
+            updateDeParser = createUpdateDeParser(expressionDeParser, selectDeParser, buffer);
+        }
+        updateDeParser.setBuffer(buffer);
         updateDeParser.deParse(update);
+    }
 
+    /**
+     * Creates the deparser used for all {@link Update} statements of this instance.
+     */
+    protected UpdateDeParser createUpdateDeParser(ExpressionDeParser expressionDeParser,
+            SelectDeParser selectDeParser, StringBuilder buffer) {
+        return new UpdateDeParser(expressionDeParser, selectDeParser, buffer);
     }
 
     public StringBuilder getBuffer() {
@@ -170,11 +255,15 @@ public class StatementDeParser implements StatementVisitor {
 
     public void setBuffer(StringBuilder buffer) {
         this.buffer = buffer;
+        wireBuffer();
     }
 
     @Override
     public void visit(Alter alter) {
-        AlterDeParser alterDeParser = new AlterDeParser(buffer);
+        if (alterDeParser == null) {
+            alterDeParser = new AlterDeParser(buffer);
+        }
+        alterDeParser.setBuffer(buffer);
         alterDeParser.deParse(alter);
     }
 
@@ -185,22 +274,20 @@ public class StatementDeParser implements StatementVisitor {
 
     @Override
     public void visit(Execute execute) {
-        selectDeParser.setBuffer(buffer);
-        expressionDeParser.setSelectVisitor(selectDeParser);
-        expressionDeParser.setBuffer(buffer);
-        ExecuteDeParser executeDeParser = new ExecuteDeParser(expressionDeParser, buffer);
-        selectDeParser.setExpressionVisitor(expressionDeParser);
+        if (executeDeParser == null) {
+            executeDeParser = new ExecuteDeParser(expressionDeParser, buffer);
+        }
+        executeDeParser.setBuffer(buffer);
         executeDeParser.deParse(execute);
     }
 
     @Override
     public void visit(SetStatement set) {
-        selectDeParser.setBuffer(buffer);
-        expressionDeParser.setSelectVisitor(selectDeParser);
-        expressionDeParser.setBuffer(buffer);
-        SetStatementDeParser setStatementDeparser = new SetStatementDeParser(expressionDeParser, buffer);
-        selectDeParser.setExpressionVisitor(expressionDeParser);
-        setStatementDeparser.deParse(set);
+        if (setStatementDeParser == null) {
+            setStatementDeParser = new SetStatementDeParser(expressionDeParser, buffer);
+        }
+        setStatementDeParser.setBuffer(buffer);
+        setStatementDeParser.deParse(set);
     }
 
     @Override
@@ -216,17 +303,28 @@ public class StatementDeParser implements StatementVisitor {
 
     @Override
     public void visit(Upsert upsert) {
-        selectDeParser.setBuffer(buffer);
-        expressionDeParser.setSelectVisitor(selectDeParser);
-        expressionDeParser.setBuffer(buffer);
-        selectDeParser.setExpressionVisitor(expressionDeParser);
-        UpsertDeParser upsertDeParser = new UpsertDeParser(expressionDeParser, selectDeParser, buffer);
+        if (upsertDeParser == null) {
+            upsertDeParser = createUpsertDeParser(expressionDeParser, selectDeParser, buffer);
+        }
+        upsertDeParser.setBuffer(buffer);
         upsertDeParser.deParse(upsert);
     }
 
+    /**
+     * Creates the deparser used for all {@link Upsert} statements of this instance.
+     */
+    protected UpsertDeParser createUpsertDeParser(ExpressionDeParser expressionDeParser,
+            SelectDeParser selectDeParser, StringBuilder buffer) {
+        return new UpsertDeParser(expressionDeParser, selectDeParser, buffer);
+    }
+
     @Override
     public void visit(UseStatement use) {
-        new UseStatementDeParser(buffer).deParse(use);
+        if (useStatementDeParser == null) {
+            useStatementDeParser = new UseStatementDeParser(buffer);
+        }
+        useStatementDeParser.setBuffer(buffer);
+        useStatementDeParser.deParse(use);
     }
 
     @Override
@@ -0,0 +1,174 @@
+/*
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2018 JSQLParser
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 2.1 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ * #L%
+ */
+package net.sf.jsqlparser.util.deparser;
+
+import java.io.IOException;
+import java.io.Writer;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * A {@link StatementDeParser} that writes to an {@link Appendable} (e.g. a {@link Writer} on a
+ * socket) instead of collecting the whole statement in memory. The other deparsers still append to
+ * a shared StringBuilder, but its content is handed to the target and cleared whenever it grows
+ * past the flush threshold at the end of a VALUES row or an expression list item. A multi-MB
+ * INSERT ... VALUES batch is therefore written out with a buffer of roughly the threshold size
+ * and no intermediate String of the full statement.
+ * <p>
+ * Parts without such a flush point are buffered as a whole. Most notably MERGE and ALTER
+ * statements are still written through their toString() and are held in memory completely,
+ * as are single list items, e.g. a huge IN list inside one VALUES row.
+ *
+ * <pre>
+ * <code>
+ * Writer out = new OutputStreamWriter(socket.getOutputStream(), "UTF-8");
+ * new StreamingStatementDeParser(out).deParse(statement);
+ * out.flush();
+ * </code>
+ * </pre>
+ */
+public class StreamingStatementDeParser extends StatementDeParser {
+
+    public static final int DEFAULT_FLUSH_THRESHOLD = 8192;
+
+    private final Appendable out;
+    private final int flushThreshold;
+    private char[] chunk;
+    private IOException failure;
+
+    public StreamingStatementDeParser(Appendable out) {
+        this(out, DEFAULT_FLUSH_THRESHOLD);
+    }
+
+    /**
+     * @param out the target the statements are written to
+     * @param flushThreshold the number of buffered characters from which on the buffer is handed to
+     * the target; 0 hands it off at every opportunity
+     */
+    public StreamingStatementDeParser(Appendable out, int flushThreshold) {
+        this(out, flushThreshold, new FlushingExpressionDeParser(), new FlushingSelectDeParser());
+    }
+
+    private StreamingStatementDeParser(Appendable out, int flushThreshold,
+            FlushingExpressionDeParser expressionDeParser, FlushingSelectDeParser selectDeParser) {
+        super(expressionDeParser, selectDeParser, new StringBuilder());
+        if (out == null) {
+            throw new IllegalArgumentException("out must not be null");
+        }
+        this.out = out;
+        this.flushThreshold = flushThreshold;
+        expressionDeParser.owner = this;
+        selectDeParser.owner = this;
+    }
+
+    /**
+     * Writes the statement to the target. The target itself is not flushed.
+     *
+     * @param statement the statement to write
+     * @throws IOException if the target failed; the rest of the statement is discarded
+     */
+    public void deParse(Statement statement) throws IOException {
+        failure = null;
+        reset();
+        statement.accept(this);
+        flush(true);
+        if (failure != null) {
+            IOException ex = failure;
+            failure = null;
+            throw ex;
+        }
+    }
+
+    public Appendable getOut() {
+        return out;
+    }
+
+    public int getFlushThreshold() {
+        return flushThreshold;
+    }
+
+    @Override
+    protected InsertDeParser createInsertDeParser(ExpressionDeParser expressionDeParser,
+            SelectDeParser selectDeParser, StringBuilder buffer) {
+        return new InsertDeParser(expressionDeParser, selectDeParser, buffer) {
+            @Override
+            protected void listItemDeParsed() {
+                flush(false);
+            }
+        };
+    }
+
+    /**
+     * Hands the buffer content to the target and clears the buffer. Once the target has failed the
+     * content is dropped, so that the buffer does not grow with the rest of the statement.
+     */
+    void flush(boolean force) {
+        StringBuilder buffer = getBuffer();
+        if (buffer.length() == 0 || !force && buffer.length() < flushThreshold) {
+            return;
+        }
+        if (failure == null) {
+            try {
+                write(buffer);
+            } catch (IOException ex) {
+                failure = ex;
+            }
+        }
+        buffer.setLength(0);
+    }
+
+    private void write(StringBuilder buffer) throws IOException {
+        if (out instanceof Writer) {
+            // Writer.append(CharSequence) would copy the buffer into a String first
+            Writer writer = (Writer) out;
+            if (chunk == null) {
+                chunk = new char[DEFAULT_FLUSH_THRESHOLD];
+            }
+            for (int start = 0; start < buffer.length(); start += chunk.length) {
+                int end = Math.min(buffer.length(), start + chunk.length);
+                buffer.getChars(start, end, chunk, 0);
+                writer.write(chunk, 0, end - start);
+            }
+        } else {
+            out.append(buffer);
+        }
+    }
+
+    private static class FlushingExpressionDeParser extends ExpressionDeParser {
+
+        private StreamingStatementDeParser owner;
+
+        @Override
+        protected void listItemDeParsed() {
+            owner.flush(false);
+        }
+    }
+
+    private static class FlushingSelectDeParser extends SelectDeParser {
+
+        private StreamingStatementDeParser owner;
+
+        @Override
+        protected void listItemDeParsed() {
+            owner.flush(false);
+        }
+    }
+}
@@ -22,13 +22,16 @@
 package net.sf.jsqlparser.util.deparser;
 
 import java.util.Iterator;
+import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitorAdapter;
 import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.FromItem;
 import net.sf.jsqlparser.statement.select.Join;
-import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Limit;
 import net.sf.jsqlparser.statement.update.Update;
 import net.sf.jsqlparser.statement.select.Select;
 import net.sf.jsqlparser.statement.select.SelectVisitor;
@@ -74,8 +77,15 @@ public class UpdateDeParser implements OrderByVisitor {
     }
 
     public void deParse(Update update) {
-        buffer.append("UPDATE ").append(PlainSelect.getStringList(update.getTables(), true, false)).
-                append(" SET ");
+        keyword("UPDATE ");
+        for (Iterator<Table> iter = update.getTables().iterator(); iter.hasNext();) {
+            deparseFromItem(iter.next());
+            if (iter.hasNext()) {
+                buffer.append(", ");
+            }
+        }
+        separator();
+        keyword("SET ");
 
         if (!update.isUseSelect()) {
             for (int i = 0; i < update.getColumns().size(); i++) {
@@ -112,36 +122,37 @@ public class UpdateDeParser implements OrderByVisitor {
         }
 
         if (update.getFromItem() != null) {
-            buffer.append(" FROM ").append(update.getFromItem());
+            separator();
+            keyword("FROM ");
+            deparseFromItem(update.getFromItem());
             if (update.getJoins() != null) {
                 for (Join join : update.getJoins()) {
-                    if (join.isSimple()) {
-                        buffer.append(", ").append(join);
-                    } else {
-                        buffer.append(" ").append(join);
-                    }
+                    deparseJoin(join);
                 }
             }
         }
 
         if (update.getWhere() != null) {
-            buffer.append(" WHERE ");
+            separator();
+            keyword("WHERE ");
             update.getWhere().accept(expressionVisitor);
         }
         if (update.getOrderByElements() != null) {
-            new OrderByDeParser(expressionVisitor, buffer).deParse(update.getOrderByElements());
+            deparseOrderBy(update.getOrderByElements());
         }
         if (update.getLimit() != null) {
-            new LimitDeparser(buffer).deParse(update.getLimit());
+            deparseLimit(update.getLimit());
         }
 
         if (update.isReturningAllColumns()) {
-            buffer.append(" RETURNING *");
+            separator();
+            keyword("RETURNING *");
         } else if (update.getReturningExpressionList() != null) {
-            buffer.append(" RETURNING ");
+            separator();
+            keyword("RETURNING ");
             for (Iterator<SelectExpressionItem> iter = update.getReturningExpressionList().
                     iterator(); iter.hasNext();) {
-                buffer.append(iter.next().toString());
+                deparseReturningItem(iter.next());
                 if (iter.hasNext()) {
                     buffer.append(", ");
                 }
@@ -149,6 +160,59 @@ public class UpdateDeParser implements OrderByVisitor {
         }
     }
 
+    /**
+     * See {@link InsertDeParser#keyword(String)}.
+     */
+    protected void keyword(String keyword) {
+        buffer.append(keyword);
+    }
+
+    /**
+     * Appends the separator in front of a clause, see {@link InsertDeParser#separator()}.
+     */
+    protected void separator() {
+        buffer.append(' ');
+    }
+
+    /**
+     * Appends a table of the statement, see {@link InsertDeParser#deparseFromItem(FromItem)}.
+     */
+    protected void deparseFromItem(FromItem fromItem) {
+        buffer.append(fromItem);
+    }
+
+    /**
+     * Appends a join, including the separator in front of it.
+     */
+    protected void deparseJoin(Join join) {
+        if (join.isSimple()) {
+            buffer.append(", ").append(join);
+        } else {
+            buffer.append(" ").append(join);
+        }
+    }
+
+    /**
+     * Appends the ORDER BY clause.
+     */
+    protected void deparseOrderBy(List<OrderByElement> orderByElements) {
+        new OrderByDeParser(expressionVisitor, buffer).deParse(orderByElements);
+    }
+
+    /**
+     * Appends the LIMIT clause.
+     */
+    protected void deparseLimit(Limit limit) {
+        new LimitDeparser(buffer).deParse(limit);
+    }
+
+    /**
+     * Appends an item of the RETURNING list.
+     */
+    protected void deparseReturningItem(SelectExpressionItem item) {
+        buffer.append(item);
+    }
+
     public ExpressionVisitor getExpressionVisitor() {
         return expressionVisitor;
     }
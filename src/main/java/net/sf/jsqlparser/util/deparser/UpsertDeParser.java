@@ -71,7 +71,7 @@ public class UpsertDeParser implements ItemsListVisitor {
     }
 
     public void deParse(Upsert upsert) {
-        buffer.append("UPSERT INTO ");
+        keyword("UPSERT INTO ");
 
         buffer.append(upsert.getTable().getFullyQualifiedName());
         if (upsert.getColumns() != null) {
@@ -92,6 +92,13 @@ public class UpsertDeParser implements ItemsListVisitor {
 
     }
     
+    /**
+     * See {@link InsertDeParser#keyword(String)}.
+     */
+    protected void keyword(String keyword) {
+        buffer.append(keyword);
+    }
+
     private void appendColumns(Upsert upsert) {
         buffer.append(" (");
         for (Iterator<Column> iter = upsert.getColumns().iterator(); iter.hasNext();) {
@@ -110,7 +117,7 @@ public class UpsertDeParser implements ItemsListVisitor {
             buffer.append("(");
         }
         if (upsert.getSelect().getWithItemsList() != null) {
-            buffer.append("WITH ");
+            keyword("WITH ");
             for (WithItem with : upsert.getSelect().getWithItemsList()) {
                 with.accept(selectVisitor);
             }
@@ -123,7 +130,7 @@ public class UpsertDeParser implements ItemsListVisitor {
     }
     
     private void appendDuplicate(Upsert upsert) {
-        buffer.append(" ON DUPLICATE KEY UPDATE ");
+        keyword(" ON DUPLICATE KEY UPDATE ");
         for (int i = 0; i < upsert.getDuplicateUpdateColumns().size(); i++) {
             Column column = upsert.getDuplicateUpdateColumns().get(i);
             buffer.append(column.getFullyQualifiedName()).append(" = ");
@@ -138,7 +145,7 @@ public class UpsertDeParser implements ItemsListVisitor {
 
     @Override
     public void visit(ExpressionList expressionList) {
-        buffer.append(" VALUES (");
+        keyword(" VALUES (");
         for (Iterator<Expression> iter = expressionList.getExpressions().iterator(); iter.hasNext();) {
             Expression expression = iter.next();
             expression.accept(expressionVisitor);
@@ -151,7 +158,7 @@ public class UpsertDeParser implements ItemsListVisitor {
 
     @Override
     public void visit(MultiExpressionList multiExprList) {
-        buffer.append(" VALUES ");
+        keyword(" VALUES ");
         for (Iterator<ExpressionList> it = multiExprList.getExprList().iterator(); it.hasNext();) {
             buffer.append("(");
             for (Iterator<Expression> iter = it.next().getExpressions().iterator(); iter.hasNext();) {
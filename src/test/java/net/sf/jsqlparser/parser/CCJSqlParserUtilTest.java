@@ -2,11 +2,23 @@ package net.sf.jsqlparser.parser;
 
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitorAdapter;
+import net.sf.jsqlparser.expression.JdbcParameter;
 import net.sf.jsqlparser.expression.LongValue;
 import net.sf.jsqlparser.expression.Parenthesis;
 import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
 import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
 import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SetOperationList;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -102,4 +114,237 @@ public class CCJSqlParserUtilTest {
         Expression result = CCJSqlParserUtil.parseCondExpression("(SSN,SSM) IN ('11111111111111', '22222222222222')");
         assertEquals("(SSN, SSM) IN ('11111111111111', '22222222222222')", result.toString());
     }
+
+    @Test
+    public void testParseReusesParserState() throws Exception {
+        String sql = "SELECT * FROM mytable WHERE a = ? AND b = ?";
+        for (int i = 0; i < 2; i++) {
+            Statement stmt = CCJSqlParserUtil.parse(sql);
+            PlainSelect plainSelect = (PlainSelect) ((Select) stmt).getSelectBody();
+            AndExpression where = (AndExpression) plainSelect.getWhere();
+            JdbcParameter first = (JdbcParameter) ((EqualsTo) where.getLeftExpression()).getRightExpression();
+            assertEquals(Integer.valueOf(1), first.getIndex());
+
+            Column column = (Column) ((EqualsTo) where.getRightExpression()).getLeftExpression();
+            assertEquals(sql.indexOf("b =") + 1, column.getASTNode().jjtGetFirstToken().absoluteBegin);
+        }
+    }
+
+    @Test
+    public void testReleasedParserKeepsNoInput() throws Exception {
+        CCJSqlParser parser = CCJSqlParserUtil.acquireParser(new StringProvider("SELECT a FROM tab"));
+        parser.Statement();
+        CCJSqlParserUtil.releaseParser(parser);
+        assertNull(parser.token.next);
+        assertNull(parser.jj_input_stream.buffer);
+        assertEquals(0, parser.jjtree.nodeArity());
+
+        assertEquals("SELECT b FROM tab", CCJSqlParserUtil.parse("SELECT b FROM tab").toString());
+    }
+
+    @Test
+    public void testParseAfterFailedParse() throws Exception {
+        try {
+            CCJSqlParserUtil.parse("SELECT * FROM (");
+            fail("statement should not parse");
+        } catch (JSQLParserException ex) {
+            // expected
+        }
+        assertEquals("SELECT * FROM mytable", CCJSqlParserUtil.parse("SELECT * FROM mytable").toString());
+    }
+
+    @Test
+    public void testParseWithoutASTNodes() throws Exception {
+        ParserOptions options = new ParserOptions();
+        options.setTrackASTNodes(false);
+        String sql = "SELECT a, b FROM mytable t WHERE a = 1 UNION SELECT c, d FROM other";
+        Statement stmt = CCJSqlParserUtil.parse(sql, options);
+        assertEquals(sql, stmt.toString());
+        PlainSelect plainSelect = (PlainSelect) ((SetOperationList) ((Select) stmt).getSelectBody()).
+                getSelects().get(0);
+        assertNull(plainSelect.getASTNode());
+        assertNull(((Column) ((SelectExpressionItem) plainSelect.getSelectItems().get(0)).getExpression()).
+                getASTNode());
+
+        assertEquals(2, CCJSqlParserUtil.parseStatements("SELECT a FROM b; DELETE FROM c", options).
+                getStatements().size());
+
+        plainSelect = (PlainSelect) ((Select) CCJSqlParserUtil.parse("SELECT a FROM b")).getSelectBody();
+        assertNotNull(plainSelect.getASTNode());
+    }
+
+    @Test
+    public void testParseWithoutLineColumn() throws Exception {
+        ParserOptions options = new ParserOptions();
+        options.setTrackLineColumn(false);
+        StringBuilder longName = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            longName.append('x');
+        }
+        String sql = "SELECT a\nFROM mytable WHERE b = '" + longName + "'\nAND c = 1";
+        Statement stmt = CCJSqlParserUtil.parse(sql, options);
+        assertEquals(sql.replace('\n', ' '), stmt.toString());
+
+        try {
+            CCJSqlParserUtil.parse("SELECT *\nFROM (", options);
+            fail("statement should not parse");
+        } catch (JSQLParserException ex) {
+            // expected
+        }
+
+        CCJSqlParser parser = new CCJSqlParser(new StringProvider("SELECT a\nFROM b"));
+        parser.setTrackLineColumn(false);
+        parser.setTrackASTNodes(true);
+        PlainSelect plainSelect = (PlainSelect) ((Select) parser.Statement()).getSelectBody();
+        Token from = plainSelect.getASTNode().jjtGetFirstToken().next.next;
+        assertEquals("FROM", from.image);
+        assertEquals(0, from.beginLine);
+        assertEquals(10, from.absoluteBegin);
+
+        plainSelect = (PlainSelect) ((Select) CCJSqlParserUtil.parse("SELECT a\nFROM b")).getSelectBody();
+        assertEquals(2, plainSelect.getASTNode().jjtGetFirstToken().next.next.beginLine);
+    }
+
+    @Test
+    public void testParseWithTokenLimit() throws Exception {
+        ParserOptions options = new ParserOptions();
+        options.setMaxTokens(10);
+        assertEquals("SELECT a, b FROM mytable", CCJSqlParserUtil.parse("SELECT a, b FROM mytable", options).
+                toString());
+        try {
+            CCJSqlParserUtil.parse("SELECT a, b, c, d, e FROM mytable", options);
+            fail("token limit should stop the parse");
+        } catch (ParseLimitException ex) {
+            assertEquals(ParseLimitException.Limit.TOKENS, ex.getLimit());
+        }
+        assertEquals("SELECT a, b, c, d, e FROM mytable", CCJSqlParserUtil.parse("SELECT a, b, c, d, e FROM mytable").
+                toString());
+    }
+
+    @Test
+    public void testParseWithDepthLimit() throws Exception {
+        ParserOptions options = new ParserOptions();
+        options.setMaxDepth(3);
+        assertNotNull(CCJSqlParserUtil.parse("SELECT (1) FROM a WHERE ((b = 1) AND (c = 2)) OR ((d = 3))", options));
+        assertNotNull(CCJSqlParserUtil.parse("SELECT CASE WHEN a = 1 THEN (CASE b WHEN 2 THEN 3 END) END FROM t",
+                options));
+
+        StringBuilder sql = new StringBuilder("SELECT * FROM a WHERE ");
+        for (int i = 0; i < 100000; i++) {
+            sql.append('(');
+        }
+        sql.append("b = 1");
+        try {
+            CCJSqlParserUtil.parse(sql.toString(), options);
+            fail("depth limit should stop the parse");
+        } catch (ParseLimitException ex) {
+            assertEquals(ParseLimitException.Limit.DEPTH, ex.getLimit());
+        }
+        assertEquals("(((((a = 1)))))", CCJSqlParserUtil.parseCondExpression("(((((a = 1)))))").toString());
+    }
+
+    @Test
+    public void testParseWithTimeout() throws Exception {
+        ParserOptions options = new ParserOptions();
+        options.setTimeout(1);
+        StringBuilder sql = new StringBuilder("SELECT a FROM b WHERE c IN (1");
+        for (int i = 0; i < 1000000; i++) {
+            sql.append(", ").append(i);
+        }
+        sql.append(')');
+        try {
+            CCJSqlParserUtil.parse(sql.toString(), options);
+            fail("timeout should stop the parse");
+        } catch (ParseLimitException ex) {
+            assertEquals(ParseLimitException.Limit.TIMEOUT, ex.getLimit());
+        }
+    }
+
+    @Test
+    public void testParseWithTimeoutWhileBacktracking() throws Exception {
+        // fewer than 64 tokens, but the lookaheads scan them again at every nesting level
+        StringBuilder sql = new StringBuilder("SELECT * FROM t WHERE ");
+        for (int i = 0; i < 16; i++) {
+            sql.append("f(");
+        }
+        sql.append('a');
+        for (int i = 0; i < 16; i++) {
+            sql.append(')');
+        }
+        sql.append(" = 1");
+        ParserOptions options = new ParserOptions();
+        options.setTimeout(10);
+        try {
+            CCJSqlParserUtil.parse(sql.toString(), options);
+            fail("timeout should stop the parse");
+        } catch (ParseLimitException ex) {
+            assertEquals(ParseLimitException.Limit.TIMEOUT, ex.getLimit());
+        }
+    }
+
+    @Test
+    public void testParseWithInterruptCheck() throws Exception {
+        ParserOptions options = new ParserOptions();
+        options.setCheckInterrupt(true);
+        StringBuilder sql = new StringBuilder("SELECT a FROM b WHERE c IN (1");
+        for (int i = 0; i < 1000; i++) {
+            sql.append(", ").append(i);
+        }
+        sql.append(')');
+        assertNotNull(CCJSqlParserUtil.parse(sql.toString(), options));
+
+        Thread.currentThread().interrupt();
+        try {
+            CCJSqlParserUtil.parse(sql.toString(), options);
+            fail("interrupt should stop the parse");
+        } catch (ParseLimitException ex) {
+            assertEquals(ParseLimitException.Limit.INTERRUPTED, ex.getLimit());
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    public void testParseFlattenedConditions() throws Exception {
+        ParserOptions options = new ParserOptions();
+        options.setFlattenConditions(true);
+        String condition = "a = 1 OR b = 2 AND c = 3 AND NOT (d = 4 OR e = 5) OR f = 6";
+        Expression result = CCJSqlParserUtil.parseCondExpression(condition, false, options);
+        assertEquals(condition, result.toString());
+        MultiOrExpression or = (MultiOrExpression) result;
+        assertEquals(3, or.size());
+        MultiAndExpression and = (MultiAndExpression) or.getChild(1);
+        assertEquals(3, and.size());
+        Parenthesis parenthesis = (Parenthesis) and.getChild(2);
+        assertTrue(parenthesis.isNot());
+        assertEquals(2, ((MultiOrExpression) parenthesis.getExpression()).size());
+
+        assertTrue(CCJSqlParserUtil.parseCondExpression("a = 1 AND b = 2", false, options)
+                instanceof MultiAndExpression);
+        assertTrue(CCJSqlParserUtil.parseCondExpression("a = 1 AND b = 2") instanceof AndExpression);
+    }
+
+    @Test
+    public void testParseLongFlattenedCondition() throws Exception {
+        ParserOptions options = new ParserOptions();
+        options.setFlattenConditions(true);
+        StringBuilder sql = new StringBuilder("SELECT * FROM mytable WHERE a = 0");
+        for (int i = 1; i < 20000; i++) {
+            sql.append(i % 2 == 0 ? " OR a = " : " AND b = ").append(i);
+        }
+        Statement stmt = CCJSqlParserUtil.parse(sql.toString(), options);
+        assertEquals(sql.toString(), stmt.toString());
+
+        StringBuilder buffer = new StringBuilder();
+        stmt.accept(new StatementDeParser(buffer));
+        assertEquals(sql.toString(), buffer.toString());
+
+        final int[] columns = new int[1];
+        ((PlainSelect) ((Select) stmt).getSelectBody()).getWhere().accept(new ExpressionVisitorAdapter() {
+            @Override
+            public void visit(Column column) {
+                columns[0]++;
+            }
+        });
+        assertEquals(20000, columns[0]);
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.File;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import org.apache.commons.io.FileUtils;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class DeepCopyTest {
+
+    @Test
+    public void testCopyIsIndependent() throws JSQLParserException {
+        String sql = "SELECT a, b AS x FROM tab t JOIN tab2 ON t.id = tab2.id WHERE a = 5 AND b IN (1, 2) ORDER BY a";
+        Select select = (Select) CCJSqlParserUtil.parse(sql);
+        Select copy = DeepCopy.copyOf(select);
+
+        assertNotSame(select, copy);
+        assertEquals(select, copy);
+        assertEquals(sql, copy.toString());
+
+        PlainSelect body = (PlainSelect) copy.getSelectBody();
+        assertNotSame(((PlainSelect) select.getSelectBody()).getWhere(), body.getWhere());
+        ((Table) body.getFromItem()).setName("other");
+        body.getSelectItems().remove(0);
+        body.setWhere(null);
+        assertEquals(sql, select.toString());
+        assertEquals("SELECT b AS x FROM other t JOIN tab2 ON t.id = tab2.id ORDER BY a", copy.toString());
+    }
+
+    @Test
+    public void testShareLiterals() throws JSQLParserException {
+        Select select = (Select) CCJSqlParserUtil.parse("SELECT * FROM tab WHERE a = 5");
+        EqualsTo where = (EqualsTo) ((PlainSelect) select.getSelectBody()).getWhere();
+
+        EqualsTo shared = (EqualsTo) ((PlainSelect) new DeepCopy(true).copy(select).getSelectBody()).getWhere();
+        assertNotSame(where, shared);
+        assertNotSame(where.getLeftExpression(), shared.getLeftExpression());
+        assertSame(where.getRightExpression(), shared.getRightExpression());
+
+        EqualsTo copied = (EqualsTo) ((PlainSelect) DeepCopy.copyOf(select).getSelectBody()).getWhere();
+        assertNotSame(where.getRightExpression(), copied.getRightExpression());
+        assertEquals(where.getRightExpression(), copied.getRightExpression());
+    }
+
+    @Test
+    public void testSubstitute() throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse("SELECT * FROM tab WHERE a = 5 AND b = 6");
+        Statement copy = new DeepCopy() {
+            @Override
+            protected Object substitute(Object node) {
+                return node instanceof LongValue ? new LongValue(0) : null;
+            }
+        }.copy(statement);
+        assertEquals("SELECT * FROM tab WHERE a = 0 AND b = 0", copy.toString());
+        assertEquals("SELECT * FROM tab WHERE a = 5 AND b = 6", statement.toString());
+    }
+
+    @Test
+    public void testOracleCorpus() throws Exception {
+        File dir = new File(DeepCopyTest.class.
+                getResource("/net/sf/jsqlparser/statement/oracle-tests").toURI());
+        int copied = 0;
+        for (File file : dir.listFiles()) {
+            if (!file.isFile()) {
+                continue;
+            }
+            Statement statement;
+            try {
+                statement = CCJSqlParserUtil.parse(FileUtils.readFileToString(file));
+            } catch (JSQLParserException ex) {
+                continue;
+            }
+            Statement copy = DeepCopy.copyOf(statement);
+            assertNotSame(statement, copy);
+            assertEquals(file.getName(), statement, copy);
+            assertEquals(file.getName(), statement.toString(), copy.toString());
+            copied++;
+        }
+        assertTrue(copied > 100);
+    }
+}
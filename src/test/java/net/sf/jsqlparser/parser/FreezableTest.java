@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+public class FreezableTest {
+
+    private static final String SQL = "SELECT a, b FROM tab t JOIN tab2 ON t.id = tab2.id WHERE a = 5 AND b IN (1, 2)";
+
+    @Test
+    public void testFreeze() throws JSQLParserException {
+        Select select = (Select) CCJSqlParserUtil.parse(SQL);
+        assertFalse(((Freezable) select).isFrozen());
+        assertSame(select, Freezable.freeze(select));
+
+        PlainSelect body = (PlainSelect) select.getSelectBody();
+        AndExpression where = (AndExpression) body.getWhere();
+        EqualsTo equalsTo = (EqualsTo) where.getLeftExpression();
+        assertTrue(((Freezable) select).isFrozen());
+        assertTrue(body.isFrozen());
+        assertTrue(((Column) equalsTo.getLeftExpression()).isFrozen());
+        assertTrue(((LongValue) equalsTo.getRightExpression()).isFrozen());
+        assertTrue(body.getJoins().get(0).isFrozen());
+
+        try {
+            body.setWhere(null);
+            fail("setter of a frozen object");
+        } catch (UnsupportedOperationException ex) {
+            // expected
+        }
+        try {
+            ((LongValue) equalsTo.getRightExpression()).setValue(6);
+            fail("setter of a frozen literal");
+        } catch (UnsupportedOperationException ex) {
+            // expected
+        }
+        try {
+            body.getSelectItems().clear();
+            fail("list of a frozen object");
+        } catch (UnsupportedOperationException ex) {
+            // expected
+        }
+        try {
+            body.addSelectItems(body.getSelectItems().get(0));
+            fail("add to a frozen object");
+        } catch (UnsupportedOperationException ex) {
+            // expected
+        }
+        assertEquals(SQL, select.toString());
+    }
+
+    @Test
+    public void testFrozenEqualsAndHashCode() throws JSQLParserException {
+        Statement frozen = Freezable.freeze(CCJSqlParserUtil.parse(SQL));
+        Statement parsed = CCJSqlParserUtil.parse(SQL);
+        assertEquals(parsed, frozen);
+        assertEquals(parsed.hashCode(), frozen.hashCode());
+        assertEquals(frozen.hashCode(), frozen.hashCode());
+    }
+
+    @Test
+    public void testCopyOfFrozenIsModifiable() throws JSQLParserException {
+        Select frozen = Freezable.freeze((Select) CCJSqlParserUtil.parse(SQL));
+        Select copy = DeepCopy.copyOf(frozen);
+        PlainSelect body = (PlainSelect) copy.getSelectBody();
+        assertFalse(body.isFrozen());
+        ((Table) body.getFromItem()).setName("other");
+        body.getSelectItems().remove(1);
+        body.setWhere(null);
+        assertEquals("SELECT a FROM other t JOIN tab2 ON t.id = tab2.id", copy.toString());
+        assertEquals(SQL, frozen.toString());
+    }
+
+    @Test
+    public void testCachesReturnFrozenStatements() throws JSQLParserException {
+        assertTrue(((Freezable) new StatementCache(10).parse(SQL)).isFrozen());
+        BoundStatement bound = new StatementTemplateCache(10).parse(SQL);
+        assertTrue(((Freezable) bound.getTemplate()).isFrozen());
+        assertFalse(((Freezable) bound.bind()).isFrozen());
+    }
+
+    @Test
+    public void testSharedBetweenThreads() throws Exception {
+        final Statement statement = Freezable.freeze(CCJSqlParserUtil.parse(SQL));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() {
+                        return statement.toString() + " "
+                                + new TablesNamesFinder().getTableList(statement);
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                assertEquals(SQL + " [tab, tab2]", result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import net.sf.jsqlparser.statement.Statement;
+import org.apache.commons.io.FileUtils;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedFileProviderTest {
+
+    private static final String TEXT = "SELECT 'größe', 'ÄÖÜ€' FROM t;\nSELECT '😀' FROM u;\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadUtf8() throws IOException {
+        assertEquals(TEXT, readAll(new MappedFileProvider(write(TEXT, StandardCharsets.UTF_8)), 7));
+        assertEquals(TEXT, readAll(new MappedFileProvider(write(TEXT, StandardCharsets.UTF_8)), 2));
+    }
+
+    @Test
+    public void testCharactersSplitBetweenWindows() throws IOException {
+        File file = write(TEXT, StandardCharsets.UTF_8);
+        for (int windowSize = 16; windowSize < 40; windowSize++) {
+            assertEquals(TEXT, readAll(new MappedFileProvider(file, StandardCharsets.UTF_8, windowSize), 5));
+        }
+    }
+
+    @Test
+    public void testReadOtherCharsets() throws IOException {
+        String text = "SELECT 'größe' FROM t";
+        assertEquals(text, readAll(new MappedFileProvider(write(text, StandardCharsets.ISO_8859_1),
+                StandardCharsets.ISO_8859_1, 16), 3));
+        assertEquals(text, readAll(new MappedFileProvider(write(text, StandardCharsets.UTF_16),
+                StandardCharsets.UTF_16, 16), 3));
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        assertEquals("", readAll(new MappedFileProvider(write("", StandardCharsets.UTF_8)), 10));
+    }
+
+    @Test
+    public void testParseStatements() throws Exception {
+        StatementReader reader = new StatementReader(new MappedFileProvider(write(TEXT, StandardCharsets.UTF_8)));
+        Statement statement = reader.next();
+        assertEquals("SELECT 'größe', 'ÄÖÜ€' FROM t", statement.toString());
+        assertEquals("SELECT '😀' FROM u", reader.next().toString());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    private File write(String text, Charset charset) throws IOException {
+        File file = folder.newFile();
+        FileUtils.writeStringToFile(file, text, charset.name());
+        return file;
+    }
+
+    private static String readAll(Provider provider, int bufferSize) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[bufferSize];
+        for (int n = provider.read(buffer, 1, bufferSize - 1); n != -1; n = provider.read(buffer, 1, bufferSize - 1)) {
+            builder.append(buffer, 1, n);
+        }
+        provider.close();
+        return builder.toString();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Block;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ParallelStatementsParserTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void tearDownClass() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void testSplit() throws JSQLParserException {
+        String script = "SELECT ';' FROM a; -- comment;\n"
+                + "SELECT \"x;y\" FROM b /* ; */;;\n"
+                + "BEGIN UPDATE c SET d = CASE WHEN e = 1 THEN 2 END; DELETE FROM f; END;\n"
+                + "SELECT g FROM h";
+        List<ScriptStatement> statements = ParallelStatementsParser.split(script);
+
+        assertEquals(4, statements.size());
+        assertEquals("SELECT ';' FROM a", statements.get(0).getSql());
+        assertEquals("SELECT \"x;y\" FROM b", statements.get(1).getSql());
+        assertEquals("BEGIN UPDATE c SET d = CASE WHEN e = 1 THEN 2 END; DELETE FROM f; END",
+                statements.get(2).getSql());
+        assertEquals("SELECT g FROM h", statements.get(3).getSql());
+        assertEquals(script.indexOf("SELECT g"), statements.get(3).getOffset());
+    }
+
+    @Test
+    public void testSplitTransaction() throws JSQLParserException {
+        List<ScriptStatement> statements = ParallelStatementsParser.split(
+                "BEGIN; SELECT a FROM b; COMMIT; BEGIN TRANSACTION; DELETE FROM c; COMMIT; "
+                + "BEGIN WORK; SELECT d FROM e");
+
+        assertEquals(8, statements.size());
+        assertEquals("BEGIN", statements.get(0).getSql());
+        assertEquals("SELECT a FROM b", statements.get(1).getSql());
+        assertEquals("BEGIN TRANSACTION", statements.get(3).getSql());
+        assertEquals("DELETE FROM c", statements.get(4).getSql());
+        assertEquals("BEGIN WORK", statements.get(6).getSql());
+        assertEquals("SELECT d FROM e", statements.get(7).getSql());
+    }
+
+    @Test
+    public void testParse() throws JSQLParserException {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            script.append("SELECT a").append(i).append(" FROM b WHERE c = ?;\n");
+        }
+        script.append("BEGIN DELETE FROM d; END;\nSELECT * FROM (;\nGRANT x;\nSELECT last FROM e");
+
+        List<ScriptStatement> statements = new ParallelStatementsParser(POOL).parse(script.toString());
+
+        assertEquals(1004, statements.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("SELECT a" + i + " FROM b WHERE c = ?", statements.get(i).getStatement().toString());
+        }
+        assertTrue(statements.get(1000).getStatement() instanceof Block);
+        assertNull(statements.get(1001).getStatement());
+        assertNotNull(statements.get(1001).getException());
+        assertNull(statements.get(1002).getStatement());
+        assertNotNull(statements.get(1002).getException());
+        assertEquals("SELECT last FROM e", statements.get(1003).getStatement().toString());
+    }
+}
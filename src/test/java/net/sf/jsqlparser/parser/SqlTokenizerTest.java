@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.StringReader;
+import java.util.NoSuchElementException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class SqlTokenizerTest {
+
+    @Test
+    public void testTokens() {
+        String sql = "SELECT a FROM mytable WHERE b = 'x'";
+        SqlTokenizer tokenizer = new SqlTokenizer(sql);
+
+        assertToken(sql, tokenizer.next(), CCJSqlParserConstants.K_SELECT, "SELECT");
+        assertToken(sql, tokenizer.next(), CCJSqlParserConstants.S_IDENTIFIER, "a");
+        assertToken(sql, tokenizer.next(), CCJSqlParserConstants.K_FROM, "FROM");
+        assertToken(sql, tokenizer.next(), CCJSqlParserConstants.S_IDENTIFIER, "mytable");
+        assertToken(sql, tokenizer.next(), CCJSqlParserConstants.K_WHERE, "WHERE");
+        assertToken(sql, tokenizer.next(), CCJSqlParserConstants.S_IDENTIFIER, "b");
+        assertEquals("=", tokenizer.next().image);
+        assertToken(sql, tokenizer.next(), CCJSqlParserConstants.S_CHAR_LITERAL, "'x'");
+        assertFalse(tokenizer.hasNext());
+    }
+
+    @Test
+    public void testCommentsAreSkipped() {
+        SqlTokenizer tokenizer = new SqlTokenizer(new StringReader("-- first\nDELETE /* all */ FROM t"));
+        Token token = tokenizer.next();
+        assertEquals(CCJSqlParserConstants.K_DELETE, token.kind);
+        assertEquals("-- first", token.specialToken.image);
+        token = tokenizer.next();
+        assertEquals(CCJSqlParserConstants.K_FROM, token.kind);
+        assertEquals("/* all */", token.specialToken.image);
+        assertEquals("t", tokenizer.next().image);
+        assertFalse(tokenizer.hasNext());
+    }
+
+    @Test
+    public void testCountParameters() {
+        int count = 0;
+        for (SqlTokenizer tokenizer = new SqlTokenizer("UPDATE t SET a = ?, b = ? WHERE c = '?'"); tokenizer.
+                hasNext();) {
+            if ("?".equals(tokenizer.next().image)) {
+                count++;
+            }
+        }
+        assertEquals(2, count);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testNextAfterEnd() {
+        SqlTokenizer tokenizer = new SqlTokenizer("  ");
+        assertFalse(tokenizer.hasNext());
+        tokenizer.next();
+    }
+
+    @Test(expected = TokenMgrException.class)
+    public void testInvalidCharacter() {
+        SqlTokenizer tokenizer = new SqlTokenizer("SELECT §");
+        assertTrue(tokenizer.hasNext());
+        tokenizer.next();
+        tokenizer.hasNext();
+    }
+
+    private static void assertToken(String sql, Token token, int kind, String image) {
+        assertEquals(kind, token.kind);
+        assertEquals(image, token.image);
+        assertEquals(image, sql.substring(token.absoluteBegin - 1, token.absoluteEnd - 1));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+public class StatementCacheTest {
+
+    @Test
+    public void testHitAndMiss() throws JSQLParserException {
+        StatementCache cache = new StatementCache(10);
+        Statement first = cache.parse("SELECT * FROM mytable");
+        Statement second = cache.parse("SELECT * FROM mytable");
+
+        assertSame(first, second);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws JSQLParserException {
+        StatementCache cache = new StatementCache(2);
+        Statement a = cache.parse("SELECT a FROM mytable");
+        cache.parse("SELECT b FROM mytable");
+        cache.parse("SELECT a FROM mytable");
+        cache.parse("SELECT c FROM mytable");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(a, cache.parse("SELECT a FROM mytable"));
+        assertEquals(2, cache.getHitCount());
+
+        Statement b = cache.parse("SELECT b FROM mytable");
+        assertEquals("SELECT b FROM mytable", b.toString());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void testInvalidStatementIsNotCached() {
+        StatementCache cache = new StatementCache(2);
+        try {
+            cache.parse("SELECT * FROM (");
+            fail("statement should not parse");
+        } catch (JSQLParserException ex) {
+            assertEquals(0, cache.size());
+            assertEquals(1, cache.getMissCount());
+        }
+    }
+
+    @Test
+    public void testClear() throws JSQLParserException {
+        StatementCache cache = new StatementCache(2);
+        Statement first = cache.parse("SELECT * FROM mytable");
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNotSame(first, cache.parse("SELECT * FROM mytable"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        new StatementCache(0);
+    }
+}
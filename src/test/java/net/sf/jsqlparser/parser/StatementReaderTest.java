@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.statement.Block;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.update.Update;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+public class StatementReaderTest {
+
+    @Test
+    public void testReadStatements() throws Exception {
+        StatementReader reader = new StatementReader(new StringReader(
+                ";; SELECT * FROM a;\nBEGIN UPDATE b SET c = 1; END;; DELETE FROM d"));
+
+        assertEquals("SELECT * FROM a", reader.next().toString());
+        assertTrue(reader.next() instanceof Block);
+        assertTrue(reader.next() instanceof Delete);
+        assertNull(reader.next());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void testParametersAreNumberedPerStatement() throws Exception {
+        StatementReader reader = new StatementReader(new StringReader(
+                "UPDATE a SET b = ? WHERE c = ?; UPDATE a SET b = ?;"));
+        reader.next();
+        Update update = (Update) reader.next();
+        assertEquals(1, ((JdbcParameter) update.getExpressions().get(0)).getIndex().intValue());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void testContinueAfterError() throws Exception {
+        StatementReader reader = new StatementReader(new StringReader(
+                "SELECT * FROM a; SELECT * FROM (; SELECT * FROM c;"));
+        assertEquals("SELECT * FROM a", reader.next().toString());
+        try {
+            reader.next();
+            fail("statement should not parse");
+        } catch (JSQLParserException ex) {
+            // expected
+        }
+        assertEquals("SELECT * FROM c", reader.next().toString());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void testContinueAfterUnknownStatement() throws Exception {
+        StatementReader reader = new StatementReader(new StringReader("SELECT 1; GRANT x; SELECT 2"));
+        assertEquals("SELECT 1", reader.next().toString());
+        try {
+            reader.next();
+            fail("statement should not parse");
+        } catch (JSQLParserException ex) {
+            // expected
+        }
+        assertEquals("SELECT 2", reader.next().toString());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void testLargeScript() throws Exception {
+        final int count = 20000;
+        StatementReader reader = new StatementReader(new ScriptReader(count));
+        int read = 0;
+        for (Statement statement = reader.next(); statement != null; statement = reader.next()) {
+            read++;
+        }
+        assertEquals(count, read);
+    }
+
+    @Test
+    public void testTokenLimitPerStatement() throws Exception {
+        ParserOptions options = new ParserOptions();
+        options.setMaxTokens(20);
+        StatementReader reader = new StatementReader(new ScriptReader(100), options);
+        int read = 0;
+        for (Statement statement = reader.next(); statement != null; statement = reader.next()) {
+            read++;
+        }
+        assertEquals(100, read);
+
+        options.setMaxTokens(5);
+        reader = new StatementReader(new ScriptReader(100), options);
+        try {
+            reader.next();
+            fail("token limit should stop the parse");
+        } catch (ParseLimitException ex) {
+            assertEquals(ParseLimitException.Limit.TOKENS, ex.getLimit());
+        }
+        assertNull(reader.next());
+    }
+
+    /**
+     * Produces a script of the given number of statements without holding it in memory.
+     */
+    private static class ScriptReader extends Reader {
+
+        private final int count;
+        private int written = 0;
+        private String current = "";
+        private int position = 0;
+
+        ScriptReader(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (position == current.length()) {
+                if (written == count) {
+                    return -1;
+                }
+                current = "INSERT INTO t (id, name) VALUES (" + written++ + ", 'name');\n";
+                position = 0;
+            }
+            int n = Math.min(len, current.length() - position);
+            current.getChars(position, position + n, cbuf, off);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class StatementTemplateCacheTest {
+
+    @Test
+    public void testFingerprint() throws JSQLParserException {
+        StatementFingerprint first = StatementFingerprint.of("SELECT * FROM tab WHERE a = 5 AND b = 'x'");
+        StatementFingerprint second = StatementFingerprint.of("select *  from tab\nwhere a=6.5 and b='y' -- comment");
+
+        assertEquals("SELECT * FROM tab WHERE a = ? AND b = ?", first.getText());
+        assertEquals(first.getText(), second.getText());
+        assertEquals(2, first.getParameters().size());
+        assertEquals(5, ((LongValue) first.getParameters().get(0)).getValue());
+        assertEquals("x", ((StringValue) first.getParameters().get(1)).getValue());
+        assertEquals("6.5", second.getParameters().get(0).toString());
+
+        // identifiers keep their case
+        assertEquals("SELECT Col FROM Tab WHERE \"Quoted\" = ?",
+                StatementFingerprint.of("select Col from Tab where \"Quoted\" = 1").getText());
+    }
+
+    @Test
+    public void testFingerprintCollapsesInList() throws JSQLParserException {
+        StatementFingerprint first = StatementFingerprint.of("SELECT * FROM tab WHERE a IN (1,2) AND b = 3");
+        StatementFingerprint second = StatementFingerprint.of("SELECT * FROM tab WHERE a IN (1, 2, 3) AND b = 4");
+
+        assertEquals("SELECT * FROM tab WHERE a IN ( ? ) AND b = ?", first.getText());
+        assertEquals(first.getText(), second.getText());
+        assertEquals(2, second.getParameters().size());
+        assertEquals("(1, 2, 3)", second.getParameters().get(0).toString());
+
+        // lists with other expressions keep their shape
+        assertEquals("SELECT * FROM tab WHERE a IN ( ? , b , ? ) AND c NOT IN ( ? )",
+                StatementFingerprint.of("SELECT * FROM tab WHERE a IN (1, b, 2) AND c NOT IN ('x')").getText());
+    }
+
+    @Test
+    public void testBindInList() throws JSQLParserException {
+        StatementTemplateCache cache = new StatementTemplateCache(10);
+        BoundStatement first = cache.parse("SELECT * FROM tab WHERE a IN (1, 2) AND b = 'x'");
+        BoundStatement second = cache.parse("SELECT * FROM tab WHERE a IN (1, 2, 3) AND b = 'y'");
+
+        assertSame(first.getTemplate(), second.getTemplate());
+        assertEquals("SELECT * FROM tab WHERE a IN (?) AND b = ?", first.getTemplate().toString());
+        assertEquals("SELECT * FROM tab WHERE a IN (1, 2) AND b = 'x'", first.bind().toString());
+        assertEquals(CCJSqlParserUtil.parse("SELECT * FROM tab WHERE a IN (1, 2, 3) AND b = 'y'"), second.bind());
+    }
+
+    @Test
+    public void testFingerprintKeepsLiteralsWithParameters() throws JSQLParserException {
+        StatementFingerprint fingerprint = StatementFingerprint.of("SELECT * FROM tab WHERE a = ? AND b = 5");
+        assertEquals("SELECT * FROM tab WHERE a = ? AND b = 5", fingerprint.getText());
+        assertTrue(fingerprint.getParameters().isEmpty());
+    }
+
+    @Test
+    public void testTemplateIsShared() throws JSQLParserException {
+        StatementTemplateCache cache = new StatementTemplateCache(10);
+        BoundStatement first = cache.parse("SELECT * FROM tab WHERE a = 5 AND b = 'x'");
+        BoundStatement second = cache.parse("SELECT * FROM tab WHERE a = 7 AND b = 'y'");
+
+        assertSame(first.getTemplate(), second.getTemplate());
+        assertEquals("SELECT * FROM tab WHERE a = ? AND b = ?", first.getTemplate().toString());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+
+        PlainSelect select = (PlainSelect) ((Select) second.getTemplate()).getSelectBody();
+        EqualsTo equalsTo = (EqualsTo) ((AndExpression) select.getWhere()).getLeftExpression();
+        JdbcParameter parameter = (JdbcParameter) equalsTo.getRightExpression();
+        assertEquals(7, ((LongValue) second.getParameter(parameter)).getValue());
+        assertEquals(5, ((LongValue) first.getParameter(parameter)).getValue());
+    }
+
+    @Test
+    public void testTemplateIsSharedAcrossKeywordCase() throws JSQLParserException {
+        StatementTemplateCache cache = new StatementTemplateCache(10);
+        BoundStatement first = cache.parse("SELECT * FROM tab WHERE a = 5");
+        BoundStatement second = cache.parse("select * from tab where a = 6");
+
+        assertSame(first.getTemplate(), second.getTemplate());
+        assertEquals("SELECT * FROM tab WHERE a = 6", second.bind().toString());
+    }
+
+    @Test
+    public void testBind() throws JSQLParserException {
+        StatementTemplateCache cache = new StatementTemplateCache(10);
+        BoundStatement bound = cache.parse("SELECT * FROM tab WHERE a = 5 AND b = 'x'");
+
+        Statement statement = bound.bind();
+        assertEquals("SELECT * FROM tab WHERE a = 5 AND b = 'x'", statement.toString());
+        assertEquals(CCJSqlParserUtil.parse("SELECT * FROM tab WHERE a = 5 AND b = 'x'"), statement);
+
+        ((PlainSelect) ((Select) statement).getSelectBody()).setWhere(null);
+        assertEquals("SELECT * FROM tab WHERE a = ? AND b = ?", bound.getTemplate().toString());
+        assertEquals("SELECT * FROM tab WHERE a = 5 AND b = 'x'", bound.bind().toString());
+    }
+
+    @Test
+    public void testStatementWithParameters() throws JSQLParserException {
+        StatementTemplateCache cache = new StatementTemplateCache(10);
+        String[] statements = {"SELECT * FROM tab WHERE a = ?", "SELECT * FROM tab WHERE a = ?1 AND b = ?2",
+            "SELECT * FROM tab WHERE a = ? AND b = 5"};
+        for (String sql : statements) {
+            BoundStatement bound = cache.parse(sql);
+            assertEquals(sql, bound.getTemplate().toString());
+            assertTrue(bound.getParameters().isEmpty());
+            assertEquals(sql, bound.bind().toString());
+            assertSame(bound.getTemplate(), cache.parse(sql).getTemplate());
+        }
+
+        // named parameters do not keep the literals from being replaced
+        BoundStatement named = cache.parse("SELECT * FROM tab WHERE a = :a AND b = 5");
+        assertEquals("SELECT * FROM tab WHERE a = :a AND b = ?", named.getTemplate().toString());
+        assertEquals("SELECT * FROM tab WHERE a = :a AND b = 5", named.bind().toString());
+    }
+
+    @Test
+    public void testLiteralsThatCannotBeReplaced() throws JSQLParserException {
+        StatementTemplateCache cache = new StatementTemplateCache(10);
+        BoundStatement first = cache.parse("SELECT * FROM tab WHERE d = {d '2018-01-01'}");
+        BoundStatement second = cache.parse("SELECT * FROM tab WHERE d = {d '2018-01-01'}");
+
+        assertTrue(first.getParameters().isEmpty());
+        assertSame(first.getTemplate(), second.getTemplate());
+        assertEquals(2, cache.size());
+    }
+
+    @Test(expected = JSQLParserException.class)
+    public void testInvalidStatement() throws JSQLParserException {
+        new StatementTemplateCache(10).parse("SELECT * FROM (");
+    }
+
+    @Test
+    public void testEviction() throws JSQLParserException {
+        StatementTemplateCache cache = new StatementTemplateCache(1);
+        cache.parse("SELECT a FROM tab WHERE a = 1");
+        cache.parse("SELECT b FROM tab WHERE b = 1");
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+    }
+}
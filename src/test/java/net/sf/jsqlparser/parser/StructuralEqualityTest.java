@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.statement.Statement;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class StructuralEqualityTest {
+
+    private static final Pattern REQUEST = Pattern.compile("#begin\\n(.*?)\\n#end", Pattern.DOTALL);
+
+    @Test
+    public void testOracleCorpusParsedTwice() throws Exception {
+        File dir = new File(StructuralEqualityTest.class.
+                getResource("/net/sf/jsqlparser/statement/oracle-tests").toURI());
+        List<String> sqls = new ArrayList<String>();
+        for (File file : dir.listFiles()) {
+            if (file.isFile()) {
+                sqls.add(FileUtils.readFileToString(file));
+            }
+        }
+        assertTrue(assertParsedTwiceEqual(sqls) > 100);
+    }
+
+    @Test
+    public void testRequestCorporaParsedTwice() throws Exception {
+        List<String> sqls = new ArrayList<String>();
+        for (String resource : new String[]{"/RUBiS-select-requests.txt",
+            "/net/sf/jsqlparser/util/complex-select-requests.txt"}) {
+            String text = IOUtils.toString(StructuralEqualityTest.class.getResourceAsStream(resource));
+            Matcher matcher = REQUEST.matcher(text.replace("\r\n", "\n"));
+            while (matcher.find()) {
+                sqls.add(matcher.group(1));
+            }
+        }
+        assertTrue(assertParsedTwiceEqual(sqls) > 20);
+    }
+
+    /**
+     * Parses every statement twice and checks both results are equal with equal hash codes, and
+     * differ from the previous statement unless that one deparses the same.
+     */
+    private static int assertParsedTwiceEqual(List<String> sqls) {
+        int parsed = 0;
+        Statement previous = null;
+        for (String sql : sqls) {
+            Statement first;
+            Statement second;
+            try {
+                first = CCJSqlParserUtil.parse(sql);
+                second = CCJSqlParserUtil.parse(sql);
+            } catch (JSQLParserException ex) {
+                continue;
+            }
+            assertEquals(sql, first, second);
+            assertEquals(sql, first.hashCode(), second.hashCode());
+            if (previous != null && !previous.toString().equals(first.toString())) {
+                assertNotEquals(sql, previous, first);
+            }
+            previous = first;
+            parsed++;
+        }
+        return parsed;
+    }
+
+    @Test
+    public void testExpressionsAsMapKeys() throws Exception {
+        Map<Expression, String> map = new HashMap<Expression, String>();
+        map.put(CCJSqlParserUtil.parseCondExpression("a = 1 AND b IN (1, 2)"), "first");
+        map.put(CCJSqlParserUtil.parseCondExpression("t.a > ?"), "second");
+
+        assertEquals("first", map.get(CCJSqlParserUtil.parseCondExpression("a = 1 AND b IN (1, 2)")));
+        assertEquals("second", map.get(CCJSqlParserUtil.parseCondExpression("t.a > ?")));
+        assertFalse(map.containsKey(CCJSqlParserUtil.parseCondExpression("a = 1 AND b IN (1, 3)")));
+        assertFalse(map.containsKey(CCJSqlParserUtil.parseCondExpression("a = 1 OR b IN (1, 2)")));
+        assertFalse(map.containsKey(CCJSqlParserUtil.parseCondExpression("t.a >= ?")));
+    }
+
+    @Test
+    public void testDifferences() throws Exception {
+        assertNotEquals(CCJSqlParserUtil.parseExpression("a + 1"), CCJSqlParserUtil.parseExpression("a - 1"));
+        assertNotEquals(CCJSqlParserUtil.parseExpression("a"), CCJSqlParserUtil.parseExpression("b.a"));
+        assertNotEquals(CCJSqlParserUtil.parse("SELECT a FROM t"), CCJSqlParserUtil.parse("SELECT a FROM t x"));
+        assertNotEquals(CCJSqlParserUtil.parse("SELECT a FROM t"), CCJSqlParserUtil.parse("SELECT DISTINCT a FROM t"));
+        assertEquals(CCJSqlParserUtil.parse("select A from T"), CCJSqlParserUtil.parse("SELECT A  FROM\nT"));
+    }
+
+    @Test
+    public void testChangedTreeIsNoLongerEqual() throws Exception {
+        Expression first = CCJSqlParserUtil.parseCondExpression("a = 1");
+        Expression second = CCJSqlParserUtil.parseCondExpression("a = 1");
+        ((BinaryExpression) second).setRightExpression(
+                CCJSqlParserUtil.parseExpression("2"));
+        assertNotEquals(first, second);
+    }
+}
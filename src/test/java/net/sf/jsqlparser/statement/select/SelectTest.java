@@ -3285,4 +3285,27 @@ public class SelectTest {
             });
         }
     }
+
+    @Test
+    public void testDeeplyNestedConditions() throws JSQLParserException {
+        String condition = "a0 = 0";
+        for (int i = 1; i <= 100; i++) {
+            condition = "(" + condition + ") " + (i % 2 == 0 ? "AND" : "OR") + " (a" + i + " = " + i + ")";
+        }
+        assertSqlCanBeParsedAndDeparsed("SELECT * FROM tab WHERE " + condition);
+
+        condition = "a IN (1, 2)";
+        for (int i = 1; i <= 100; i++) {
+            condition = "NOT (b" + i + " = ? AND " + condition + ")";
+        }
+        assertSqlCanBeParsedAndDeparsed("SELECT * FROM tab WHERE " + condition + " ORDER BY c");
+    }
+
+    @Test
+    public void testParenthesizedGroupContinuedAsCondition() throws JSQLParserException {
+        assertSqlCanBeParsedAndDeparsed("SELECT * FROM tab WHERE (a + 1) = 2 AND (b) IN (1, 2) AND NOT (c) = 3");
+        assertSqlCanBeParsedAndDeparsed("SELECT * FROM tab WHERE ((a = 1)) AND ((b, c) IN (SELECT x, y FROM z))");
+        assertSqlCanBeParsedAndDeparsed("SELECT * FROM tab WHERE (SELECT max(x) FROM z) = 1 AND ((SELECT 1) IS NULL)");
+        assertSqlCanBeParsedAndDeparsed("SELECT CASE WHEN (a = 1) THEN (b) ELSE 0 END FROM tab WHERE (a = 1) LIMIT 1");
+    }
 }
@@ -84,4 +84,43 @@ public class AddAliasesVisitorTest {
         assertEquals("SELECT 3 + 4 AS A1 FROM test UNION SELECT 7 + 8 AS A1 FROM test2", setOpList.
                 toString());
     }
+
+    @Test
+    public void testVisit_AllColumns() throws JSQLParserException {
+        String sql = "select *, a, t.*, b from t";
+        Select select = (Select) parserManager.parse(new StringReader(sql));
+        select.getSelectBody().accept(new AddAliasesVisitor());
+
+        assertEquals("SELECT *, a AS A1, t.*, b AS A2 FROM t", select.toString());
+    }
+
+    @Test
+    public void testVisit_WithItem() throws JSQLParserException {
+        String sql = "with w as (select a, b from t union select c, d from u) select a from w";
+        Select select = (Select) parserManager.parse(new StringReader(sql));
+        final AddAliasesVisitor instance = new AddAliasesVisitor();
+        select.getWithItemsList().get(0).accept(instance);
+        select.getSelectBody().accept(instance);
+
+        assertEquals("WITH w AS (SELECT a AS A1, b AS A2 FROM t UNION SELECT c AS A1, d AS A2 FROM u) "
+                + "SELECT a AS A1 FROM w", select.toString());
+    }
+
+    @Test
+    public void testVisit_WideSelect() throws JSQLParserException {
+        StringBuilder sql = new StringBuilder("select ");
+        for (int i = 1; i <= 5000; i++) {
+            sql.append(i == 1 ? "" : ", ").append("c").append(i);
+            if (i % 2 == 0) {
+                sql.append(" as a").append(i / 2);
+            }
+        }
+        sql.append(" from t");
+        Select select = (Select) parserManager.parse(new StringReader(sql.toString()));
+        select.getSelectBody().accept(new AddAliasesVisitor());
+
+        String result = select.toString();
+        assertTrue(result.startsWith("SELECT c1 AS A2501, c2 AS a1, c3 AS A2502, "));
+        assertTrue(result.endsWith(", c4999 AS A5000, c5000 AS a2500 FROM t"));
+    }
 }
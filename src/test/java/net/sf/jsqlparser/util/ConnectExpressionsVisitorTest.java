@@ -3,10 +3,13 @@ package net.sf.jsqlparser.util;
 import java.io.StringReader;
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
 import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
 import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -70,4 +73,71 @@ public class ConnectExpressionsVisitorTest {
 
         assertEquals("SELECT a + b + c AS testexpr FROM test", select.toString());
     }
+
+    @Test
+    public void testVisit_SetOperationList() throws JSQLParserException {
+        String sql = "select a,b from test union select c,d from test2";
+        Select select = (Select) parserManager.parse(new StringReader(sql));
+        ConnectExpressionsVisitor instance = new ConnectExpressionsVisitor() {
+            @Override
+            protected BinaryExpression createBinaryExpression() {
+                return new Concat();
+            }
+        };
+        select.getSelectBody().accept(instance);
+
+        assertEquals("SELECT a || b AS expr FROM test UNION SELECT c || d AS expr FROM test2", select.toString());
+    }
+
+    @Test
+    public void testVisit_PlainSelect_balanced() throws JSQLParserException {
+        String sql = "select a,b,c,d,e from test";
+        Select select = (Select) parserManager.parse(new StringReader(sql));
+        ConnectExpressionsVisitor instance = new ConnectExpressionsVisitor() {
+            @Override
+            protected BinaryExpression createBinaryExpression() {
+                return new Concat();
+            }
+        };
+        instance.setBalanced(true);
+        select.getSelectBody().accept(instance);
+
+        assertEquals("SELECT a || b || c || d || e AS expr FROM test", select.toString());
+        PlainSelect plainSelect = (PlainSelect) select.getSelectBody();
+        BinaryExpression root = (BinaryExpression) ((SelectExpressionItem) plainSelect.getSelectItems().get(0)).
+                getExpression();
+        assertEquals("a || b", root.getLeftExpression().toString());
+        assertEquals("c || d || e", root.getRightExpression().toString());
+    }
+
+    @Test
+    public void testVisit_PlainSelect_balancedDepth() throws JSQLParserException {
+        StringBuilder sql = new StringBuilder("select c0");
+        for (int i = 1; i < 5000; i++) {
+            sql.append(", c").append(i);
+        }
+        sql.append(" from test");
+        Select select = (Select) parserManager.parse(new StringReader(sql.toString()));
+        ConnectExpressionsVisitor instance = new ConnectExpressionsVisitor() {
+            @Override
+            protected BinaryExpression createBinaryExpression() {
+                return new Addition();
+            }
+        };
+        instance.setBalanced(true);
+        select.getSelectBody().accept(instance);
+
+        PlainSelect plainSelect = (PlainSelect) select.getSelectBody();
+        assertEquals(1, plainSelect.getSelectItems().size());
+        assertEquals(13, depth(((SelectExpressionItem) plainSelect.getSelectItems().get(0)).getExpression()));
+        assertTrue(select.toString().endsWith("c4998 + c4999 AS expr FROM test"));
+    }
+
+    private static int depth(Expression expr) {
+        if (expr instanceof BinaryExpression) {
+            BinaryExpression binExpr = (BinaryExpression) expr;
+            return 1 + Math.max(depth(binExpr.getLeftExpression()), depth(binExpr.getRightExpression()));
+        }
+        return 0;
+    }
 }
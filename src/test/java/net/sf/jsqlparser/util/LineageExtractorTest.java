@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.statement.simpleparsing.CCJSqlParserManagerTest;
+import net.sf.jsqlparser.test.TestException;
+import org.apache.commons.io.FileUtils;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class LineageExtractorTest {
+
+    private static Lineage extract(String sql) throws JSQLParserException {
+        return new LineageExtractor().extract(CCJSqlParserUtil.parse(sql));
+    }
+
+    private static Set<String> set(String... items) {
+        return new LinkedHashSet<String>(Arrays.asList(items));
+    }
+
+    private static Set<String> columns(Lineage lineage) {
+        Set<String> columns = new LinkedHashSet<String>();
+        for (Lineage.ColumnReference column : lineage.getColumns()) {
+            columns.add(column.toString());
+        }
+        return columns;
+    }
+
+    @Test
+    public void testSelect() throws JSQLParserException {
+        Lineage lineage = extract("SELECT t.a, u.b, c FROM tab t JOIN s.other u ON t.id = u.id "
+                + "WHERE t.x IN (SELECT y FROM third) ORDER BY tab.a");
+        assertEquals(set("tab", "s.other", "third"), lineage.getTables());
+        assertEquals(lineage.getTables(), lineage.getReadTables());
+        assertTrue(lineage.getWrittenTables().isEmpty());
+        assertEquals(set("tab.a", "s.other.b", "c", "tab.id", "s.other.id", "tab.x", "third.y"),
+                columns(lineage));
+    }
+
+    @Test
+    public void testCorrelatedSubquery() throws JSQLParserException {
+        Lineage lineage = extract("SELECT a FROM tab t WHERE EXISTS (SELECT 1 FROM other o WHERE o.id = t.id)");
+        assertEquals(set("tab", "other"), lineage.getTables());
+        assertEquals(set("tab.a", "other.id", "tab.id"), columns(lineage));
+    }
+
+    @Test
+    public void testCommonTableExpressions() throws JSQLParserException {
+        Lineage lineage = extract("WITH cte AS (SELECT a FROM tab), Cte2 AS (SELECT b FROM cte) "
+                + "SELECT c.a, d.x FROM CTE c, (SELECT x FROM other) d");
+        assertEquals(set("tab", "other"), lineage.getTables());
+        assertEquals(set("cte", "Cte2"), lineage.getCteNames());
+        assertEquals(set("tab.a", "b", "a", "x", "other.x"), columns(lineage));
+    }
+
+    @Test
+    public void testCommonTableExpressionScopes() throws JSQLParserException {
+        Statements statements = CCJSqlParserUtil.parseStatements(
+                "WITH secret AS (SELECT 1) SELECT * FROM secret; DELETE FROM secret");
+        Lineage lineage = new LineageExtractor().extract(statements);
+        assertEquals(set("secret"), lineage.getTables());
+        assertEquals(set("secret"), lineage.getWrittenTables());
+
+        lineage = extract("INSERT INTO secret WITH secret AS (SELECT 1) SELECT * FROM secret");
+        assertEquals(set("secret"), lineage.getTables());
+        assertEquals(set("secret"), lineage.getWrittenTables());
+
+        lineage = extract("WITH t AS (SELECT a FROM t) SELECT a FROM t");
+        assertEquals(set("t"), lineage.getReadTables());
+        assertEquals(set("t.a", "a"), columns(lineage));
+
+        lineage = extract("SELECT * FROM secret WHERE a IN (WITH secret AS (SELECT 1 AS a) SELECT a FROM secret)");
+        assertEquals(set("secret"), lineage.getReadTables());
+        assertEquals(set("secret.a", "a"), columns(lineage));
+    }
+
+    @Test
+    public void testWriteRoles() throws JSQLParserException {
+        Lineage lineage = extract("INSERT INTO target (a, b) SELECT x, y FROM source WHERE x > 0");
+        assertEquals(set("target"), lineage.getWrittenTables());
+        assertEquals(set("source"), lineage.getReadTables());
+        assertEquals(set("target.a", "target.b", "source.x", "source.y"), columns(lineage));
+
+        lineage = extract("INSERT INTO tab SELECT * FROM tab");
+        assertEquals(EnumSet.allOf(Lineage.Role.class), lineage.getRoles("tab"));
+
+        lineage = extract("UPDATE tab t SET t.a = (SELECT max(b) FROM other) WHERE t.c = 1");
+        assertEquals(set("tab"), lineage.getWrittenTables());
+        assertEquals(set("other"), lineage.getReadTables());
+        assertEquals(set("tab.a", "other.b", "tab.c"), columns(lineage));
+
+        lineage = extract("DELETE FROM tab WHERE id IN (SELECT id FROM other)");
+        assertEquals(set("tab"), lineage.getWrittenTables());
+        assertEquals(set("other"), lineage.getReadTables());
+
+        lineage = extract("SELECT a INTO copy FROM tab");
+        assertEquals(set("copy"), lineage.getWrittenTables());
+        assertEquals(set("tab"), lineage.getReadTables());
+
+        lineage = extract("MERGE INTO target t USING source s ON (t.id = s.id) "
+                + "WHEN MATCHED THEN UPDATE SET t.a = s.a");
+        assertEquals(set("target"), lineage.getWrittenTables());
+        assertEquals(set("source"), lineage.getReadTables());
+        assertEquals(set("target.id", "source.id", "target.a", "source.a"), columns(lineage));
+    }
+
+    @Test
+    public void testStatementsNotSupportedByTablesNamesFinder() throws JSQLParserException {
+        assertEquals(set("tab"), extract("DROP TABLE tab").getWrittenTables());
+        assertTrue(extract("DROP INDEX idx").getTables().isEmpty());
+        assertEquals(set("tab"), extract("TRUNCATE TABLE tab").getWrittenTables());
+        assertEquals(set("tab"), extract("CREATE INDEX idx ON tab (a)").getWrittenTables());
+        assertEquals(set("tab"), extract("ALTER TABLE tab ADD COLUMN b int").getWrittenTables());
+        assertTrue(extract("EXECUTE proc 1, 2").getTables().isEmpty());
+        assertTrue(extract("SET a = 1").getTables().isEmpty());
+
+        Lineage lineage = extract("CREATE VIEW v AS SELECT a FROM tab");
+        assertEquals(set("v"), lineage.getWrittenTables());
+        assertEquals(set("tab"), lineage.getReadTables());
+
+        lineage = extract("ALTER VIEW v AS SELECT a FROM tab");
+        assertEquals(set("v"), lineage.getWrittenTables());
+        assertEquals(set("tab"), lineage.getReadTables());
+
+        lineage = extract("ALTER TABLE tab ADD FOREIGN KEY (a) REFERENCES other (b)");
+        assertEquals(set("tab"), lineage.getWrittenTables());
+        assertEquals(set("other"), lineage.getReadTables());
+
+        Statements statements = CCJSqlParserUtil.parseStatements("DELETE FROM a; SELECT * FROM b;");
+        lineage = new LineageExtractor().extract(statements);
+        assertEquals(set("a"), lineage.getWrittenTables());
+        assertEquals(set("b"), lineage.getReadTables());
+    }
+
+    @Test
+    public void testRUBiSTableList() throws Exception {
+        runTestOnResource("/RUBiS-select-requests.txt");
+    }
+
+    @Test
+    public void testMoreComplexExamples() throws Exception {
+        runTestOnResource("complex-select-requests.txt");
+    }
+
+    @Test
+    public void testComplexMergeExamples() throws Exception {
+        runTestOnResource("complex-merge-requests.txt");
+    }
+
+    /**
+     * Every table found by the {@link TablesNamesFinder} is found, the extractor reaches more parts
+     * of the statements.
+     */
+    @Test
+    public void testOracleCorpusCoversTablesNamesFinder() throws Exception {
+        File dir = new File(LineageExtractorTest.class.
+                getResource("/net/sf/jsqlparser/statement/oracle-tests").toURI());
+        LineageExtractor extractor = new LineageExtractor();
+        int compared = 0;
+        for (File file : dir.listFiles()) {
+            if (!file.isFile()) {
+                continue;
+            }
+            Statement statement;
+            List<String> tables;
+            try {
+                statement = CCJSqlParserUtil.parse(FileUtils.readFileToString(file));
+                tables = new TablesNamesFinder().getTableList(statement);
+            } catch (JSQLParserException ex) {
+                continue;
+            } catch (UnsupportedOperationException ex) {
+                continue;
+            }
+            Set<String> found = extractor.extract(statement).getTables();
+            assertTrue(file.getName() + ": " + tables + " " + found, found.containsAll(tables));
+            compared++;
+        }
+        assertTrue(compared > 100);
+    }
+
+    private void runTestOnResource(String resPath) throws Exception {
+        BufferedReader in = new BufferedReader(new InputStreamReader(LineageExtractorTest.class.
+                getResourceAsStream(resPath)));
+        LineageExtractor extractor = new LineageExtractor();
+        try {
+            int numSt = 1;
+            while (true) {
+                String line = CCJSqlParserManagerTest.getLine(in);
+                if (line == null || !"#begin".equals(line) && line.length() > 0) {
+                    break;
+                }
+                if (line.length() == 0) {
+                    continue;
+                }
+                StringBuilder buf = new StringBuilder(CCJSqlParserManagerTest.getLine(in));
+                while (true) {
+                    line = CCJSqlParserManagerTest.getLine(in);
+                    if ("#end".equals(line)) {
+                        break;
+                    }
+                    buf.append("\n").append(line);
+                }
+                if (!CCJSqlParserManagerTest.getLine(in).equals("true")) {
+                    continue;
+                }
+                CCJSqlParserManagerTest.getLine(in);
+                String tables = CCJSqlParserManagerTest.getLine(in);
+                CCJSqlParserManagerTest.getLine(in);
+                CCJSqlParserManagerTest.getLine(in);
+                try {
+                    Set<String> expected = new HashSet<String>(Arrays.asList(tables.split("\\s+")));
+                    assertEquals("stm num:" + numSt, expected,
+                            extractor.extract(CCJSqlParserUtil.parse(buf.toString())).getTables());
+                } catch (Exception e) {
+                    throw new TestException("error at stm num: " + numSt + " in file " + resPath, e);
+                }
+                numSt++;
+            }
+        } finally {
+            in.close();
+        }
+    }
+}
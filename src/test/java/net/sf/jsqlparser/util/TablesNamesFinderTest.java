@@ -11,6 +11,7 @@ import net.sf.jsqlparser.expression.OracleHint;
 
 import net.sf.jsqlparser.parser.CCJSqlParserManager;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.ParserOptions;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.create.table.CreateTable;
 import net.sf.jsqlparser.statement.delete.Delete;
@@ -515,4 +516,19 @@ public class TablesNamesFinderTest {
         assertTrue(tableList.contains("schema.table"));
     }
     
+    @Test
+    public void testFlattenedConditions() throws JSQLParserException {
+        ParserOptions options = new ParserOptions();
+        options.setFlattenConditions(true);
+        StringBuilder sql = new StringBuilder("SELECT * FROM TABLE1 WHERE a IN (SELECT b FROM TABLE2)");
+        for (int i = 0; i < 20000; i++) {
+            sql.append(" OR a = ").append(i);
+        }
+        sql.append(" OR EXISTS (SELECT * FROM TABLE3 WHERE c = 1 AND d = 2 AND e = 3)");
+        TablesNamesFinder finder = new TablesNamesFinder();
+        List<String> tableList = finder.getTableList(CCJSqlParserUtil.parse(sql.toString(), options));
+        assertEquals(3, tableList.size());
+        assertTrue(tableList.contains("TABLE3"));
+    }
+
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectBody;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class TreeWalkerTest {
+
+    @Test
+    public void testColumnsAndTablesInOrder() throws Exception {
+        Select select = (Select) CCJSqlParserUtil.parse("SELECT a, max(b) FROM t1 JOIN t2 ON t1.c = t2.c "
+                + "WHERE d IN (SELECT e FROM t3 WHERE f = 1) AND CASE WHEN g = 1 THEN h END = 2 "
+                + "GROUP BY i HAVING count(j) > 1 ORDER BY k");
+        final List<String> names = new ArrayList<String>();
+        new TreeWalker() {
+            @Override
+            public void visit(Column column) {
+                names.add(column.getFullyQualifiedName());
+            }
+
+            @Override
+            public void visit(Table table) {
+                names.add(table.getFullyQualifiedName());
+            }
+        }.walk(select.getSelectBody());
+        assertEquals("[a, b, t1, t2, t1.c, t2.c, d, e, t3, f, g, h, i, j, k]", names.toString());
+    }
+
+    @Test
+    public void testEnterAndLeave() throws Exception {
+        final StringBuilder order = new StringBuilder();
+        new TreeWalker() {
+            @Override
+            protected void leave(Object node) {
+                order.append(node instanceof Column ? node.toString() : "*").append(' ');
+            }
+        }.walk(CCJSqlParserUtil.parseExpression("a + b * c"));
+        assertEquals("a b c * * ", order.toString());
+
+        final List<Column> columns = new ArrayList<Column>();
+        new TreeWalker() {
+            @Override
+            protected boolean enter(Object node) {
+                return !(node instanceof SubSelect);
+            }
+
+            @Override
+            public void visit(Column column) {
+                columns.add(column);
+            }
+        }.walk(CCJSqlParserUtil.parseCondExpression("a = 1 AND b IN (SELECT c FROM d) OR e = 2"));
+        assertEquals("[a, b, e]", columns.toString());
+    }
+
+    @Test
+    public void testDeepTree() {
+        Expression expression = new EqualsTo();
+        ((EqualsTo) expression).setLeftExpression(new Column("a"));
+        ((EqualsTo) expression).setRightExpression(new LongValue(0));
+        for (int i = 1; i < 200000; i++) {
+            EqualsTo equalsTo = new EqualsTo();
+            equalsTo.setLeftExpression(new Column("a"));
+            equalsTo.setRightExpression(new LongValue(i));
+            expression = new AndExpression(expression, equalsTo);
+        }
+        final int[] count = new int[2];
+        new TreeWalker() {
+            @Override
+            public void visit(Column column) {
+                count[0]++;
+            }
+
+            @Override
+            public void visit(AndExpression andExpression) {
+                count[1]++;
+            }
+        }.walk(expression);
+        assertEquals(200000, count[0]);
+        assertEquals(199999, count[1]);
+
+        final Deque<Object> open = new ArrayDeque<Object>();
+        final StringBuilder values = new StringBuilder();
+        new TreeWalker() {
+            @Override
+            protected boolean enter(Object node) {
+                open.push(node);
+                return true;
+            }
+
+            @Override
+            protected void leave(Object node) {
+                assertSame(open.pop(), node);
+            }
+
+            @Override
+            public void visit(LongValue value) {
+                if (value.getValue() % 50000 == 0) {
+                    values.append(value.getValue()).append(' ');
+                }
+            }
+        }.walk(expression);
+        assertTrue(open.isEmpty());
+        assertEquals("0 50000 100000 150000 ", values.toString());
+    }
+
+    @Test
+    public void testWalkFromVisitMethod() throws Exception {
+        SelectBody body = ((Select) CCJSqlParserUtil.parse("SELECT a FROM (SELECT b FROM c) x WHERE d = 1")).
+                getSelectBody();
+        final List<String> visited = new ArrayList<String>();
+        new TreeWalker() {
+            @Override
+            public void visit(SubSelect subSelect) {
+                visited.add("(");
+                walk(new Column("nested"));
+                visited.add(")");
+            }
+
+            @Override
+            public void visit(Column column) {
+                visited.add(column.getColumnName());
+            }
+        }.walk(body);
+        assertEquals("[a, (, nested, ), b, d]", visited.toString());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.Test;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.ParserOptions;
 
 /**
  * this class is mainly used for testing whether we generate the 
@@ -459,4 +460,92 @@ public class CNFTest {
         assertEquals(expected.toString(), result.toString());
     }
     
+    /**
+     * The same conversion as in test1, starting from a condition parsed into MultiAndExpression
+     * and MultiOrExpression terms.
+     */
+    @Test
+    public void testFlattenedInput() throws Exception {
+        ParserOptions options = new ParserOptions();
+        options.setFlattenConditions(true);
+        Expression expr = CCJSqlParserUtil.parseCondExpression(
+                  "NOT ((1.2 < 2.3 OR 3.5 = 4.6) AND (1.1 <> 2.5 OR 8.0 >= 7.2))", true, options);
+        Expression expected = CCJSqlParserUtil.parseCondExpression(
+                "(NOT 1.2 < 2.3 OR NOT 1.1 <> 2.5) AND (NOT 1.2 < 2.3 OR NOT 8.0 >= 7.2) AND"
+                + " (NOT 3.5 = 4.6 OR NOT 1.1 <> 2.5) AND (NOT 3.5 = 4.6 OR NOT 8.0 >= 7.2)");
+        Expression result = CNFConverter.convertToCNF(expr);
+        assertEquals(expected.toString(), result.toString());
+    }
+
+    /**
+     * An OR of n ANDs with two terms has 2^n clauses in CNF.
+     */
+    private static String orOfAnds(int width) {
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < width; i++) {
+            sql.append(i == 0 ? "" : " OR ").append("(a").append(i).append(" = ").append(i)
+                    .append(" AND b").append(i).append(" = ").append(i).append(")");
+        }
+        return sql.toString();
+    }
+
+    /**
+     * The number of clauses is computed without converting, negations swap AND and OR.
+     */
+    @Test
+    public void testCountClauses() throws Exception {
+        assertEquals(1, CNFConverter.countClauses(CCJSqlParserUtil.parseCondExpression("a = 1"), 100));
+        assertEquals(4, CNFConverter.countClauses(CCJSqlParserUtil.parseCondExpression(
+                "NOT ((1.2 < 2.3 OR 3.5 = 4.6) AND (1.1 <> 2.5 OR 8.0 >= 7.2))"), 100));
+        assertEquals(12, CNFConverter.countClauses(CCJSqlParserUtil.parseCondExpression(
+                "NOT (a = 1 OR b = 2 OR c = 3) OR d = 4 AND NOT (NOT e = 5) AND f = 6 AND g = 7"), 100));
+        assertEquals(1024, CNFConverter.countClauses(CCJSqlParserUtil.parseCondExpression(orOfAnds(10)),
+                2000));
+        assertEquals(101, CNFConverter.countClauses(CCJSqlParserUtil.parseCondExpression(orOfAnds(40)),
+                100));
+    }
+
+    /**
+     * A condition whose CNF exceeds the limit is returned unchanged, smaller ones are converted.
+     */
+    @Test
+    public void testMaxClauses() throws Exception {
+        Expression expr = CCJSqlParserUtil.parseCondExpression(orOfAnds(40));
+        String original = expr.toString();
+        CNFConverter converter = new CNFConverter(1000);
+        assertSame(expr, converter.convert(expr));
+        assertTrue(converter.isLimitExceeded());
+        assertEquals(original, expr.toString());
+        assertSame(expr, CNFConverter.convertToCNF(expr, 1000));
+
+        Expression small = CCJSqlParserUtil.parseCondExpression(orOfAnds(3));
+        Expression result = converter.convert(small);
+        assertFalse(converter.isLimitExceeded());
+        assertEquals(8, CNFConverter.countClauses(result, 100));
+        assertEquals(CNFConverter.convertToCNF(CCJSqlParserUtil.parseCondExpression(orOfAnds(3))).toString(),
+                result.toString());
+    }
+
+    /**
+     * A converter can be used for several conversions.
+     */
+    @Test
+    public void testConverterReuse() throws Exception {
+        CNFConverter converter = new CNFConverter();
+        Expression expected = CCJSqlParserUtil.parseCondExpression(
+                "(NOT 1.2 < 2.3 OR NOT 1.1 <> 2.5) AND (NOT 1.2 < 2.3 OR NOT 8.0 >= 7.2) AND"
+                + " (NOT 3.5 = 4.6 OR NOT 1.1 <> 2.5) AND (NOT 3.5 = 4.6 OR NOT 8.0 >= 7.2)");
+        for (int i = 0; i < 3; i++) {
+            Expression expr = CCJSqlParserUtil.parseCondExpression(
+                    "NOT ((1.2 < 2.3 OR 3.5 = 4.6) AND (1.1 <> 2.5 OR 8.0 >= 7.2))");
+            assertEquals(expected.toString(), converter.convert(expr).toString());
+            assertFalse(converter.isLimitExceeded());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaxClauses() {
+        new CNFConverter(-1);
+    }
+
 }
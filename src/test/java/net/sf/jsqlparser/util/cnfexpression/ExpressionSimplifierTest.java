@@ -0,0 +1,113 @@
+package net.sf.jsqlparser.util.cnfexpression;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+
+/**
+ * Checks the rules of the {@link ExpressionSimplifier}.
+ */
+public class ExpressionSimplifierTest {
+
+    private static String simplify(String condition) throws Exception {
+        return ExpressionSimplifier.simplify(CCJSqlParserUtil.parseCondExpression(condition)).toString();
+    }
+
+    private static void assertSimplified(String expected, String condition) throws Exception {
+        assertEquals(expected, simplify(condition));
+    }
+
+    @Test
+    public void testNotPushDown() throws Exception {
+        assertSimplified("a <> 1 OR b >= 2", "NOT (a = 1 AND b < 2)");
+        assertSimplified("a = 1", "NOT (NOT a = 1)");
+        assertSimplified("a <= 1 AND b IS NOT NULL", "NOT (a > 1 OR b IS NULL)");
+        assertSimplified("NOT b LIKE 'x%' AND a NOT IN (1, 2)", "NOT (a IN (1, 2) OR b LIKE 'x%')");
+        assertSimplified("NOT f(a)", "NOT (f(a))");
+    }
+
+    @Test
+    public void testFlattenAndSort() throws Exception {
+        assertSimplified("a = 1 AND b = 2 AND c = 3", "((c = 3) AND (b = 2 AND (a = 1)))");
+        assertSimplified("(a = 1 OR b = 2) AND c = 3", "c = 3 AND (b = 2 OR (a = 1))");
+    }
+
+    @Test
+    public void testDuplicates() throws Exception {
+        assertSimplified("a = 1 AND b = 2", "a = 1 AND b = 2 AND (a = 1)");
+        assertSimplified("a > 1", "a > 1 OR 1 < a");
+    }
+
+    @Test
+    public void testConstantFolding() throws Exception {
+        assertSimplified("a = 6", "a = 1 + 2 * (4 - 2) + 1");
+        assertSimplified("a = 2.5", "a = 1.5 + 1");
+        assertSimplified("a = -3", "a = -(1 + 2)");
+        assertSimplified("a = 7 / 2", "a = 7 / 2");
+        assertSimplified("a = 4", "a = 8 / 2");
+        assertSimplified("a = 1 / 0", "a = 1 / 0");
+        assertSimplified("a = 9223372036854775807 * 2", "a = 9223372036854775807 * 2");
+    }
+
+    @Test
+    public void testNoFoldingBeyondLongRange() throws Exception {
+        assertSimplified("a = 9223372036854775807 + 1", "a = 9223372036854775807 + 1");
+        assertSimplified("a = 4611686018427387904 * 2", "a = 4611686018427387904 * 2");
+        assertSimplified("a = -9223372036854775808", "a = -9223372036854775807 - 1");
+        assertSimplified("a = 9223372036854775807", "a = 9223372036854775806 + 1");
+    }
+
+    @Test
+    public void testConstantConditions() throws Exception {
+        assertSimplified("1 = 1", "1 = 1");
+        assertSimplified("a = 1", "1 = 1 AND a = 1");
+        assertSimplified("1 = 1", "2 > 1 OR a = 1");
+        assertSimplified("1 = 0", "a = 1 AND 1 + 1 = 3");
+        assertSimplified("a = 1", "a = 1 OR 1.5 < 1");
+        assertSimplified("1 = 0", "NOT 1 = 1");
+    }
+
+    @Test
+    public void testSelfComparison() throws Exception {
+        assertSimplified("a IS NOT NULL", "a = a");
+        assertSimplified("b = 1", "a < a OR b = 1");
+        assertSimplified("1 = 0", "NOT a >= a");
+    }
+
+    @Test
+    public void testLiteralMovedRight() throws Exception {
+        assertSimplified("a < 5", "5 > a");
+        assertSimplified("a <> 'x'", "'x' != a");
+    }
+
+    @Test
+    public void testEqualitiesToIn() throws Exception {
+        assertSimplified("a IN (1, 2, 3)", "a = 3 OR a = 1 OR a IN (2, 1)");
+        assertSimplified("a IN (1, 2) OR b = 'x'", "b = 'x' OR a = 2 OR a = 1");
+        assertSimplified("a = 1", "a IN (1, 1)");
+        assertSimplified("a NOT IN (1, 2)", "a NOT IN (2, 1, 2)");
+        assertSimplified("a NOT IN (1, 2, 3)", "a <> 3 AND NOT (a = 1 OR a IN (2))");
+        assertSimplified("a <> 1 OR a <> 2", "a != 1 OR a <> 2");
+        assertSimplified("flag OR x.a IN (1, 2)", "x.a = 1 OR flag OR x.a = 2");
+    }
+
+    @Test
+    public void testCanonicalForm() throws Exception {
+        String expected = simplify("a IN (1, 2) AND b > 3 AND c IS NOT NULL");
+        assertEquals(expected, simplify("NOT (c IS NULL OR 3 >= b) AND (a = 2 OR (a = 1))"));
+        assertEquals(expected, simplify("(1 + 2 < b AND a IN (2, 1)) AND NOT c IS NULL AND b > 3"));
+    }
+
+    @Test
+    public void testInputUnchanged() throws Exception {
+        String condition = "NOT (a = 1 OR a = 2) AND b LIKE 'x' AND NOT (c IN (1 + 1))";
+        Expression expr = CCJSqlParserUtil.parseCondExpression(condition);
+        String before = expr.toString();
+        assertSimplified("a NOT IN (1, 2) AND b LIKE 'x' AND c NOT IN (1 + 1)", condition);
+        ExpressionSimplifier.simplify(expr);
+        assertEquals(before, expr.toString());
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.util.deparser;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class FormattingStatementDeParserTest {
+
+    private static final String[] STATEMENTS = {
+        "SELECT DISTINCT a, b AS c FROM t WHERE a = 1 AND b IN (1, 2) OR NOT c IS NULL",
+        "SELECT * FROM t LEFT OUTER JOIN u ON t.id = u.id AND u.x > 0 INNER JOIN v USING (id)",
+        "SELECT a FROM (SELECT a FROM t WHERE a BETWEEN 1 AND 2) x WHERE EXISTS (SELECT 1 FROM u WHERE u.a = x.a)",
+        "SELECT a, count(*) FROM t GROUP BY a HAVING count(*) > 1 ORDER BY a DESC, 2 ASC NULLS LAST LIMIT 10",
+        "SELECT a FROM t UNION ALL SELECT b FROM u ORDER BY 1",
+        "WITH x AS (SELECT a FROM t), y AS (SELECT b FROM u) SELECT * FROM x, y",
+        "SELECT CASE WHEN a LIKE 'x%' THEN 1 ELSE 0 END FROM t WHERE (a = 1 OR b = 2) AND c NOT IN (SELECT c FROM u)",
+        "SELECT a FROM t OFFSET 5 ROWS FETCH NEXT 10 ROWS ONLY",
+        "SELECT a FROM t WHERE b = 1 FOR UPDATE",
+        "UPDATE t SET a = 1 WHERE b = 2 AND c IN (SELECT c FROM u)",
+        "INSERT INTO t (a) SELECT a FROM u WHERE b = 1",
+        "DELETE FROM t WHERE a IS NULL AND b = ALL (SELECT b FROM u)",
+        "SELECT CAST(a AS int), EXTRACT(YEAR FROM d), count(DISTINCT b), "
+        + "row_number() OVER (PARTITION BY c ORDER BY d DESC) FROM t WHERE e > ANY (SELECT e FROM u)",
+        "UPDATE t AS x SET a = 1 FROM u INNER JOIN v ON u.id = v.id WHERE x.b = u.b RETURNING a, b AS c",
+        "DELETE FROM t WHERE a = 1 ORDER BY a DESC LIMIT 1",
+        "INSERT INTO t (a, b) VALUES (1, 2), (3, 4) RETURNING a",
+        "SELECT max(a) KEEP (DENSE_RANK FIRST ORDER BY b) FROM t",
+        "SELECT GROUP_CONCAT(DISTINCT a ORDER BY b SEPARATOR ',') FROM t",
+        "SELECT sum(a) OVER (PARTITION BY b ORDER BY c ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW) FROM t",
+        "SELECT a FROM t START WITH a = 1 CONNECT BY NOCYCLE PRIOR a = b"
+    };
+
+    private static String format(String sql, FormatOptions options) throws Exception {
+        StringBuilder buffer = new StringBuilder();
+        CCJSqlParserUtil.parse(sql).accept(new FormattingStatementDeParser(buffer, options));
+        return buffer.toString();
+    }
+
+    @Test
+    public void testDefaultsMatchStatementDeParser() throws Exception {
+        for (String sql : STATEMENTS) {
+            Statement statement = CCJSqlParserUtil.parse(sql);
+            StringBuilder expected = new StringBuilder();
+            statement.accept(new StatementDeParser(expected));
+            assertEquals(expected.toString(), format(sql, new FormatOptions()));
+        }
+    }
+
+    @Test
+    public void testLowerCaseKeywords() throws Exception {
+        FormatOptions options = new FormatOptions();
+        options.setKeywordCase(FormatOptions.KeywordCase.LOWER);
+        assertEquals("select distinct A, b as c from T where A = 'X' and b is not null order by A desc",
+                format("SELECT DISTINCT A, b AS c FROM T WHERE A = 'X' AND b IS NOT NULL ORDER BY A DESC", options));
+    }
+
+    @Test
+    public void testLowerCaseKeywordsInStatements() throws Exception {
+        FormatOptions options = new FormatOptions();
+        options.setKeywordCase(FormatOptions.KeywordCase.LOWER);
+        String[] statements = {
+            "INSERT INTO t (a) SELECT a FROM u WHERE x = 1 AND CAST(b AS int) = 2",
+            "UPDATE t SET a = NULL, b = EXTRACT(year FROM d) WHERE b = 2 AND c = 3",
+            "DELETE FROM t WHERE a IN (SELECT a FROM u)",
+            "REPLACE INTO t (a, b) VALUES (1, 2)",
+            "UPSERT INTO t (a) VALUES (1)"
+        };
+        for (String sql : statements) {
+            String formatted = format(sql, options);
+            assertEquals(sql.toLowerCase(), formatted);
+            assertEquals(formatted, formatted.toLowerCase());
+        }
+    }
+
+    @Test
+    public void testLowerCaseKeywordsInAllStatements() throws Exception {
+        FormatOptions options = new FormatOptions();
+        options.setKeywordCase(FormatOptions.KeywordCase.LOWER);
+        String[] statements = {
+            "CREATE TABLE t (a int NOT NULL, b varchar (10) PRIMARY KEY)",
+            "CREATE INDEX i ON t (a)",
+            "CREATE VIEW v AS SELECT a FROM t WHERE b IS NULL",
+            "DROP TABLE IF EXISTS t",
+            "TRUNCATE TABLE t",
+            "ALTER TABLE t ADD COLUMN c int",
+            "SET a = 1",
+            "USE d",
+            "COMMIT",
+            "UPDATE t SET a = 1 WHERE b = 2 RETURNING a",
+            "DELETE FROM t WHERE a = 1 ORDER BY a LIMIT 1",
+            "SELECT a FROM t START WITH a = 1 CONNECT BY PRIOR a = b"
+        };
+        for (String sql : statements) {
+            String expected = CCJSqlParserUtil.parse(sql).toString().toLowerCase();
+            assertEquals(expected, format(sql, options));
+        }
+        for (String sql : STATEMENTS) {
+            String formatted = format(sql, options);
+            assertEquals(CCJSqlParserUtil.parse(sql).toString(), CCJSqlParserUtil.parse(formatted).toString());
+        }
+    }
+
+    @Test
+    public void testLowerCaseKeywordsKeepNamesAndLiterals() throws Exception {
+        FormatOptions options = new FormatOptions();
+        options.setKeywordCase(FormatOptions.KeywordCase.LOWER);
+        assertEquals("create table T (A int not null primary key, B char (1) null)",
+                format("CREATE TABLE T (A int NOT NULL PRIMARY KEY, B char (1) NULL)", options));
+        StringBuilder block = new StringBuilder();
+        CCJSqlParserUtil.parseStatements("BEGIN UPDATE T SET A = 'X'; END").getStatements().get(0)
+                .accept(new FormattingStatementDeParser(block, options));
+        assertEquals("begin\nupdate T set A = 'X';\nend", block.toString());
+        assertEquals("select A from T where B = 1 order by A desc limit 1",
+                format("SELECT A FROM T WHERE B = 1 ORDER BY A DESC LIMIT 1", options));
+    }
+
+    @Test
+    public void testPretty() throws Exception {
+        FormatOptions options = new FormatOptions();
+        options.setPretty(true);
+        assertEquals("SELECT a, b\n"
+                + "FROM t\n"
+                + "LEFT JOIN u ON t.id = u.id\n"
+                + "  AND u.x > 0\n"
+                + "WHERE t.x = 1\n"
+                + "  AND (u.y = 2 OR u.y = 3)\n"
+                + "  AND u.z IN (\n"
+                + "    SELECT z\n"
+                + "    FROM v\n"
+                + "    WHERE w = 1\n"
+                + "      OR w = 2\n"
+                + "  )\n"
+                + "ORDER BY a",
+                format("SELECT a, b FROM t LEFT JOIN u ON t.id = u.id AND u.x > 0 WHERE t.x = 1 "
+                        + "AND (u.y = 2 OR u.y = 3) AND u.z IN (SELECT z FROM v WHERE w = 1 OR w = 2) ORDER BY a",
+                        options));
+    }
+
+    @Test
+    public void testPrettyStatements() throws Exception {
+        FormatOptions options = new FormatOptions();
+        options.setPretty(true);
+        assertEquals("INSERT INTO t (a, b)\n"
+                + "VALUES (1, 2), (3, 4)\n"
+                + "RETURNING a",
+                format("INSERT INTO t (a, b) VALUES (1, 2), (3, 4) RETURNING a", options));
+        assertEquals("INSERT INTO t (a)\n"
+                + "SELECT a\n"
+                + "FROM u",
+                format("INSERT INTO t (a) SELECT a FROM u", options));
+        assertEquals("UPDATE t AS x\n"
+                + "SET a = 1\n"
+                + "FROM u\n"
+                + "INNER JOIN v ON u.id = v.id\n"
+                + "WHERE x.b = u.b\n"
+                + "RETURNING a, b AS c",
+                format("UPDATE t AS x SET a = 1 FROM u INNER JOIN v ON u.id = v.id WHERE x.b = u.b "
+                        + "RETURNING a, b AS c", options));
+        assertEquals("DELETE FROM t\n"
+                + "WHERE a = 1\n"
+                + "ORDER BY a\n"
+                + "LIMIT 1",
+                format("DELETE FROM t WHERE a = 1 ORDER BY a LIMIT 1", options));
+    }
+
+    @Test
+    public void testPrettyParsesBackToTheSameStatement() throws Exception {
+        FormatOptions options = new FormatOptions();
+        options.setPretty(true);
+        options.setIndent("\t");
+        options.setKeywordCase(FormatOptions.KeywordCase.LOWER);
+        for (String sql : STATEMENTS) {
+            String pretty = format(sql, options);
+            assertEquals(pretty, CCJSqlParserUtil.parse(sql).toString(),
+                    CCJSqlParserUtil.parse(pretty).toString());
+        }
+    }
+
+    @Test
+    public void testReuse() throws Exception {
+        FormatOptions options = new FormatOptions();
+        options.setPretty(true);
+        StringBuilder buffer = new StringBuilder();
+        FormattingStatementDeParser deParser = new FormattingStatementDeParser(buffer, options);
+        for (int i = 0; i < 2; i++) {
+            deParser.reset();
+            CCJSqlParserUtil.parse("SELECT a FROM (SELECT a FROM t) x").accept(deParser);
+            assertEquals("SELECT a\nFROM (\n  SELECT a\n  FROM t\n) x", buffer.toString());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.util.deparser;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class StatementDeParserReuseTest {
+
+    private static final String[] STATEMENTS = {
+        "SELECT a, b FROM t WHERE c IN (SELECT d FROM u) ORDER BY a",
+        "INSERT INTO t (a, b) VALUES (1, 2), (3, 4)",
+        "UPDATE t SET a = 1 WHERE b = 2",
+        "DELETE FROM t WHERE a = 1",
+        "REPLACE INTO t (a) VALUES (1)",
+        "CREATE TABLE t (a INT, b VARCHAR (10))",
+        "CREATE VIEW v AS SELECT a FROM t",
+        "ALTER VIEW v AS SELECT b FROM t",
+        "CREATE INDEX i ON t (a)",
+        "DROP TABLE t",
+        "ALTER TABLE t ADD COLUMN c INT",
+        "SET a = 1",
+        "USE db",
+        "TRUNCATE TABLE t"
+    };
+
+    @Test
+    public void testReuseAcrossStatements() throws Exception {
+        StatementDeParser deParser = new StatementDeParser(new StringBuilder());
+        for (int round = 0; round < 2; round++) {
+            for (String sql : STATEMENTS) {
+                Statement statement = CCJSqlParserUtil.parse(sql);
+                deParser.reset();
+                statement.accept(deParser);
+                assertEquals(sql, deParser.getBuffer().toString());
+            }
+        }
+    }
+
+    @Test
+    public void testSetBufferAfterUse() throws Exception {
+        StatementDeParser deParser = new StatementDeParser(new StringBuilder());
+        CCJSqlParserUtil.parse(STATEMENTS[0]).accept(deParser);
+        CCJSqlParserUtil.parse(STATEMENTS[6]).accept(deParser);
+
+        for (String sql : new String[]{STATEMENTS[0], STATEMENTS[6]}) {
+            StringBuilder buffer = new StringBuilder();
+            deParser.setBuffer(buffer);
+            CCJSqlParserUtil.parse(sql).accept(deParser);
+            assertEquals(sql, buffer.toString());
+        }
+    }
+}
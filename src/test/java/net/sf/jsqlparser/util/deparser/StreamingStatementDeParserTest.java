@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2018 JSQLParser.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package net.sf.jsqlparser.util.deparser;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+public class StreamingStatementDeParserTest {
+
+    private static final String[] STATEMENTS = {
+        "INSERT INTO t (a, b) VALUES (1, 'x'), (2, NULL), (3, :name)",
+        "INSERT INTO t VALUES (@@a, @b, :1)",
+        "SELECT * FROM (VALUES (1, 2), (3, 4)) AS v(a, b)",
+        "SELECT * FROM t, LATERAL (SELECT a FROM u WHERE u.b = t.b) AS l",
+        "SELECT * FROM func(1, 'x') AS f",
+        "SELECT * FROM t WHERE a IN (1, 2, 3) AND b = @x",
+        "UPDATE t SET a = 1 WHERE b IN (1, 2)",
+        "DELETE FROM t WHERE a = 1"
+    };
+
+    @Test
+    public void testSameOutputAsStatementDeParser() throws Exception {
+        for (String sql : STATEMENTS) {
+            Statement statement = CCJSqlParserUtil.parse(sql);
+            StringBuilder expected = new StringBuilder();
+            statement.accept(new StatementDeParser(expected));
+
+            StringWriter writer = new StringWriter();
+            new StreamingStatementDeParser(writer, 0).deParse(statement);
+            assertEquals(expected.toString(), writer.toString());
+
+            StringBuilder builder = new StringBuilder();
+            new StreamingStatementDeParser(builder).deParse(statement);
+            assertEquals(expected.toString(), builder.toString());
+        }
+    }
+
+    @Test
+    public void testReuseForSeveralStatements() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        StreamingStatementDeParser deParser = new StreamingStatementDeParser(builder);
+        deParser.deParse(CCJSqlParserUtil.parse("SELECT a FROM t"));
+        builder.append(';');
+        deParser.deParse(CCJSqlParserUtil.parse("INSERT INTO t VALUES (1)"));
+        assertEquals("SELECT a FROM t;INSERT INTO t VALUES (1)", builder.toString());
+    }
+
+    @Test
+    public void testLargeInsertKeepsBufferSmall() throws JSQLParserException, IOException {
+        final int rows = 20000;
+        StringBuilder sql = new StringBuilder("INSERT INTO t (id, name) VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(").append(i).append(", 'name ").append(i).append("')");
+        }
+        Statement statement = CCJSqlParserUtil.parse(sql.toString());
+
+        final StreamingStatementDeParser[] deParser = new StreamingStatementDeParser[1];
+        final int[] maxBuffered = new int[1];
+        final StringBuilder written = new StringBuilder();
+        Writer writer = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                maxBuffered[0] = Math.max(maxBuffered[0], deParser[0].getBuffer().length());
+                written.append(cbuf, off, len);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        deParser[0] = new StreamingStatementDeParser(writer, 1024);
+        deParser[0].deParse(statement);
+
+        assertEquals(sql.toString(), written.toString());
+        assertTrue("buffer grew to " + maxBuffered[0], maxBuffered[0] < 2 * 1024);
+    }
+
+    @Test
+    public void testValuesListRowsAreFlushed() throws Exception {
+        final int[] writes = new int[1];
+        final StringBuilder written = new StringBuilder();
+        Writer writer = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                writes[0]++;
+                written.append(cbuf, off, len);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        String sql = "SELECT * FROM (VALUES (1, 2), (3, 4), (5, 6)) AS v";
+        new StreamingStatementDeParser(writer, 0).deParse(CCJSqlParserUtil.parse(sql));
+
+        assertEquals(sql, written.toString());
+        assertTrue("written in " + writes[0] + " parts", writes[0] > 3);
+    }
+
+    @Test
+    public void testWriteFailure() throws Exception {
+        Writer writer = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        StreamingStatementDeParser deParser = new StreamingStatementDeParser(writer, 0);
+        try {
+            deParser.deParse(CCJSqlParserUtil.parse("INSERT INTO t VALUES (1), (2), (3)"));
+            fail("write failure should be reported");
+        } catch (IOException ex) {
+            assertEquals("closed", ex.getMessage());
+        }
+        assertEquals(0, deParser.getBuffer().length());
+    }
+}